@@ -0,0 +1,45 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.types.SignedTransaction;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.SerializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full `SignedTransaction` BCS round trip, run with the `gc` profiler for allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BcsRoundTripBenchmark {
+
+    private SignedTransaction txn;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws SerializationError {
+        txn = Fixtures.signedTransaction();
+        bytes = txn.bcsSerialize();
+    }
+
+    @Benchmark
+    public SignedTransaction signedTransactionDeserialize() throws DeserializationError {
+        return SignedTransaction.bcsDeserialize(bytes);
+    }
+
+    @Benchmark
+    public SignedTransaction signedTransactionRoundTrip() throws SerializationError, DeserializationError {
+        return SignedTransaction.bcsDeserialize(txn.bcsSerialize());
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.types.SignedTransaction;
+import com.diem.utils.TransactionEncoder;
+import com.novi.serde.SerializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares `SignedTransaction.bcsSerialize` with the legacy `ByteArrayOutputStream` based serializer
+ * and the direct `TransactionEncoder`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BcsSerializeBenchmark {
+
+    private SignedTransaction txn;
+
+    @Setup
+    public void setup() {
+        txn = Fixtures.signedTransaction();
+    }
+
+    @Benchmark
+    public byte[] signedTransactionBcsSerialize() throws SerializationError {
+        return txn.bcsSerialize();
+    }
+
+    @Benchmark
+    public byte[] signedTransactionLegacySerialize() throws SerializationError {
+        LegacyBcsSerializer serializer = new LegacyBcsSerializer();
+        txn.serialize(serializer);
+        return serializer.get_bytes();
+    }
+
+    @Benchmark
+    public byte[] signedTransactionDirectEncode() {
+        return TransactionEncoder.encode(txn);
+    }
+
+    @Benchmark
+    public int signedTransactionSerializedSize() {
+        return txn.serializedSize();
+    }
+}
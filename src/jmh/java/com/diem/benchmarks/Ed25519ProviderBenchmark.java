@@ -0,0 +1,81 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.Ed25519PrivateKey;
+import com.diem.Ed25519Provider;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.bouncycastle.crypto.params.Ed25519PublicKeyParameters;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sign and verify throughput of the Ed25519Provider implementations on a transaction signature message.
+ * The `jdk` provider requires running the benchmarks on Java 15+.
+ *
+ * `legacySign` / `legacyVerify` are the `Ed25519Signer` baseline, creating the signer and deriving the public key
+ * per signature as Ed25519PrivateKey did before the providers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Ed25519ProviderBenchmark {
+
+    @Param({"bouncycastle", "jdk"})
+    public String provider;
+
+    private Ed25519Provider ed25519;
+    private Ed25519PrivateKey key;
+    private Ed25519PrivateKeyParameters params;
+    private byte[] publicKey;
+    private byte[] message;
+    private byte[] signature;
+
+    @Setup
+    public void setup() {
+        ed25519 = Ed25519Provider.forName(provider);
+        key = new Ed25519PrivateKey(Fixtures.PRIVATE_KEY_HEX, ed25519);
+        params = new Ed25519PrivateKeyParameters(Hex.decode(Fixtures.PRIVATE_KEY_HEX), 0);
+        publicKey = key.publicKey();
+        message = HashUtils.signatureMessage(Fixtures.rawTransaction());
+        signature = key.sign(message);
+    }
+
+    @Benchmark
+    public byte[] sign() {
+        return key.sign(message);
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return ed25519.verify(publicKey, message, signature);
+    }
+
+    @Benchmark
+    public byte[] legacySign() {
+        Ed25519Signer signer = new Ed25519Signer();
+        signer.init(true, params);
+        signer.update(message, 0, message.length);
+        return signer.generateSignature();
+    }
+
+    @Benchmark
+    public boolean legacyVerify() {
+        Ed25519Signer signer = new Ed25519Signer();
+        signer.init(false, new Ed25519PublicKeyParameters(publicKey, 0));
+        signer.update(message, 0, message.length);
+        return signer.verifySignature(signature);
+    }
+}
@@ -0,0 +1,50 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.Ed25519PrivateKey;
+import com.diem.Signer;
+import com.diem.stdlib.Helpers;
+import com.diem.types.AccountAddress;
+import com.diem.types.ChainId;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.CurrencyCode;
+import com.novi.serde.Bytes;
+
+/**
+ * Sample data shared by benchmarks.
+ */
+final class Fixtures {
+    static final String PRIVATE_KEY_HEX = "b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f";
+
+    static final AccountAddress SENDER = AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b");
+    static final AccountAddress RECEIVER = AccountAddressUtils.create("44634381fab71b7d6fa411108eda3e9d");
+
+    /**
+     * @return peer to peer with metadata script function transaction, with 8 bytes sub-address metadata.
+     */
+    static RawTransaction rawTransaction() {
+        return new RawTransaction(
+                SENDER,
+                42L,
+                Helpers.encode_peer_to_peer_with_metadata_script_function(
+                        CurrencyCode.typeTag("XUS"), RECEIVER, 1_000_000L,
+                        new Bytes(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}), new Bytes(new byte[0])),
+                1_000_000L,
+                0L,
+                "XUS",
+                1_611_792_876L,
+                new ChainId((byte) 2)
+        );
+    }
+
+    static SignedTransaction signedTransaction() {
+        return Signer.sign(new Ed25519PrivateKey(PRIVATE_KEY_HEX), rawTransaction());
+    }
+
+    private Fixtures() {
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.utils.Hex;
+import com.diem.utils.TransactionEncoder;
+import com.google.common.io.BaseEncoding;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the lookup table `Hex` codec with the Guava base16 codec `Hex` used before, on a hex encoded
+ * SignedTransaction as submitted to the JSON-RPC API.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HexBenchmark {
+
+    private byte[] bytes;
+    private String lowerCaseHex;
+    private char[] chars;
+    private StringWriter writer;
+
+    @Setup
+    public void setup() {
+        bytes = TransactionEncoder.encode(Fixtures.signedTransaction());
+        lowerCaseHex = Hex.encodeLowerCase(bytes);
+        chars = new char[bytes.length * 2];
+        writer = new StringWriter(bytes.length * 2 + 2);
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        return Hex.decode(lowerCaseHex);
+    }
+
+    @Benchmark
+    public byte[] decodeGuava() {
+        return BaseEncoding.base16().decode(lowerCaseHex.toUpperCase());
+    }
+
+    @Benchmark
+    public String encode() {
+        return Hex.encode(bytes);
+    }
+
+    @Benchmark
+    public String encodeGuava() {
+        return BaseEncoding.base16().encode(bytes);
+    }
+
+    @Benchmark
+    public char[] encodeIntoChars() {
+        Hex.encode(bytes, 0, bytes.length, chars, 0, true);
+        return chars;
+    }
+
+    @Benchmark
+    public StringWriter appendJsonString() throws IOException {
+        writer.getBuffer().setLength(0);
+        Hex.appendJsonString(bytes, writer);
+        return writer;
+    }
+}
@@ -0,0 +1,144 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.novi.serde.Bytes;
+import com.novi.serde.SerializationError;
+import com.novi.serde.Serializer;
+import com.novi.serde.Unit;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+
+/**
+ * Copy of the BCS serializer writing byte by byte into a synchronized `ByteArrayOutputStream`,
+ * kept as the baseline of serialization benchmarks.
+ */
+final class LegacyBcsSerializer implements Serializer {
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private long containerDepthBudget = 500;
+
+    public void serialize_str(String value) throws SerializationError {
+        serialize_bytes(new Bytes(value.getBytes()));
+    }
+
+    public void serialize_bytes(Bytes value) throws SerializationError {
+        byte[] content = value.content();
+        serialize_len(content.length);
+        output.write(content, 0, content.length);
+    }
+
+    public void serialize_bool(Boolean value) {
+        output.write(value ? 1 : 0);
+    }
+
+    public void serialize_unit(Unit value) {
+    }
+
+    public void serialize_char(Character value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_char");
+    }
+
+    public void serialize_f32(Float value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_f32");
+    }
+
+    public void serialize_f64(Double value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_f64");
+    }
+
+    public void serialize_u8(Byte value) {
+        output.write(value);
+    }
+
+    public void serialize_u16(Short value) {
+        short val = value;
+        output.write((byte) val);
+        output.write((byte) (val >>> 8));
+    }
+
+    public void serialize_u32(Integer value) {
+        int val = value;
+        for (int i = 0; i < 32; i += 8) {
+            output.write((byte) (val >>> i));
+        }
+    }
+
+    public void serialize_u64(Long value) {
+        long val = value;
+        for (int i = 0; i < 64; i += 8) {
+            output.write((byte) (val >>> i));
+        }
+    }
+
+    public void serialize_u128(BigInteger value) {
+        byte[] content = value.toByteArray();
+        int len = Math.min(content.length, 16);
+        for (int i = 0; i < len; i++) {
+            output.write(content[content.length - 1 - i]);
+        }
+        for (int i = len; i < 16; i++) {
+            output.write(0);
+        }
+    }
+
+    public void serialize_i8(Byte value) {
+        serialize_u8(value);
+    }
+
+    public void serialize_i16(Short value) {
+        serialize_u16(value);
+    }
+
+    public void serialize_i32(Integer value) {
+        serialize_u32(value);
+    }
+
+    public void serialize_i64(Long value) {
+        serialize_u64(value);
+    }
+
+    public void serialize_i128(BigInteger value) {
+        serialize_u128(value.signum() >= 0 ? value : value.add(BigInteger.ONE.shiftLeft(128)));
+    }
+
+    public void serialize_len(long value) {
+        serialize_variant_index((int) value);
+    }
+
+    public void serialize_variant_index(int value) {
+        while ((value >>> 7) != 0) {
+            output.write((value & 0x7f) | 0x80);
+            value = value >>> 7;
+        }
+        output.write(value);
+    }
+
+    public void serialize_option_tag(boolean value) {
+        output.write(value ? 1 : 0);
+    }
+
+    public void increase_container_depth() throws SerializationError {
+        if (containerDepthBudget == 0) {
+            throw new SerializationError("Exceeded maximum container depth");
+        }
+        containerDepthBudget -= 1;
+    }
+
+    public void decrease_container_depth() {
+        containerDepthBudget += 1;
+    }
+
+    public int get_buffer_offset() {
+        return output.size();
+    }
+
+    public void sort_map_entries(int[] offsets) {
+        throw new UnsupportedOperationException("sort_map_entries");
+    }
+
+    public byte[] get_bytes() {
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.SignedTransactionView;
+import com.diem.types.SignedTransaction;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.SerializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading header fields of a BCS serialized `SignedTransaction`: full deserialization vs `SignedTransactionView`.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SignedTransactionViewBenchmark {
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws SerializationError {
+        bytes = Fixtures.signedTransaction().bcsSerialize();
+    }
+
+    @Benchmark
+    public void senderAndSequenceNumberDeserialize(Blackhole bh) throws DeserializationError {
+        SignedTransaction txn = SignedTransaction.bcsDeserialize(bytes);
+        bh.consume(txn.raw_txn.sender);
+        bh.consume(txn.raw_txn.sequence_number);
+    }
+
+    @Benchmark
+    public void senderAndSequenceNumberView(Blackhole bh) {
+        SignedTransactionView view = new SignedTransactionView(bytes);
+        bh.consume(view.getSender());
+        bh.consume(view.getSequenceNumber());
+    }
+
+    @Benchmark
+    public void headerFieldsView(Blackhole bh) throws DeserializationError {
+        SignedTransactionView view = new SignedTransactionView(bytes);
+        bh.consume(view.getSender());
+        bh.consume(view.getSequenceNumber());
+        bh.consume(view.getMaxGasAmount());
+        bh.consume(view.getGasUnitPrice());
+        bh.consume(view.getExpirationTimestampSecs());
+        bh.consume(view.getChainId());
+    }
+}
@@ -0,0 +1,54 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.benchmarks;
+
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import com.diem.utils.TransactionEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares hashing a SignedTransaction through the streaming `HashingSerializer` with serializing it first
+ * and hashing the bytes with a freshly computed prefix.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionHashBenchmark {
+
+    private SignedTransaction txn;
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        txn = Fixtures.signedTransaction();
+        bytes = TransactionEncoder.encode(txn);
+    }
+
+    @Benchmark
+    public String transactionHashStreaming() {
+        return HashUtils.transactionHash(txn);
+    }
+
+    @Benchmark
+    public String transactionHashOfBytes() {
+        return HashUtils.transactionHash(bytes);
+    }
+
+    @Benchmark
+    public String transactionHashSerializeThenHash() {
+        byte[] encoded = TransactionEncoder.encode(new Transaction.UserTransaction(txn));
+        return Hex.encode(HashUtils.hash(HashUtils.hashPrefix("Transaction"), encoded));
+    }
+}
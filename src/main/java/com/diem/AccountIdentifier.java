@@ -5,12 +5,8 @@ package com.diem;
 
 import com.diem.types.AccountAddress;
 import com.diem.utils.AccountAddressUtils;
-import com.google.common.primitives.Bytes;
-import org.apache.commons.lang3.ArrayUtils;
-import org.bitcoinj.core.Bech32;
+import com.diem.utils.Bech32Codec;
 
-import java.io.ByteArrayOutputStream;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -24,6 +20,10 @@ public class AccountIdentifier {
 
     public static final byte VERSION_1 = 1;
 
+    private static final int ACCOUNT_IDENTIFIER_LENGTH = AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH + SUB_ADDRESS_LENGTH;
+    // version followed by the account address and sub-address bytes in 5-bit values
+    private static final int V1_DATA_LENGTH = 1 + (ACCOUNT_IDENTIFIER_LENGTH * 8 + 4) / 5;
+
     /**
      * Decode account identifier string
      *
@@ -33,69 +33,84 @@ public class AccountIdentifier {
      * @throws IllegalArgumentException if given encoded account identifier is invalid of it's network prefix does not match given network prefix.
      */
     public static AccountIdentifier decode(NetworkPrefix prefix, String encodedAccountIdentifier) throws IllegalArgumentException {
-        Bech32.Bech32Data data = Bech32.decode(encodedAccountIdentifier);
-        if (!prefix.value.equals(data.hrp)) {
-            throw new IllegalArgumentException(String.format("Invalid network prefix : %s != %s", prefix.value, data.hrp));
+        byte[] data = new byte[Bech32Codec.MAX_LENGTH];
+        int length = Bech32Codec.decode(encodedAccountIdentifier, prefix.value, Bech32Codec.Variant.BECH32, data, 0);
+        if (length == 0) {
+            throw new IllegalArgumentException("invalid account identifier, missing format version");
         }
 
-        byte version = data.data[0];
+        byte version = data[0];
         if (version != VERSION_1) {
-            throw new IllegalArgumentException(String.format("unknown account identifier format version: $d", version));
+            throw new IllegalArgumentException(String.format("unknown account identifier format version: %d", version));
         }
 
-        byte[] dataNoVersion = Arrays.copyOfRange(data.data, 1, data.data.length);
-        byte[] bytes = convertBits(dataNoVersion, 5, 8, false);
-
-        if (bytes.length != AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH + SUB_ADDRESS_LENGTH) {
+        if (Bech32Codec.convertedLength(length - 1, 5, 8, false) != ACCOUNT_IDENTIFIER_LENGTH) {
             throw new IllegalArgumentException("invalid account identifier, account address and sub-address length does not match");
         }
+        byte[] bytes = new byte[ACCOUNT_IDENTIFIER_LENGTH];
+        Bech32Codec.convertBits(data, 1, length - 1, 5, 8, false, bytes, 0);
 
-        byte[] addressChars = Arrays.copyOfRange(bytes, 0, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH);
-        byte[] subAddressChars = Arrays.copyOfRange(bytes, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH + SUB_ADDRESS_LENGTH);
+        byte[] addressBytes = Arrays.copyOfRange(bytes, 0, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH);
+        byte[] subAddressBytes = Arrays.copyOfRange(bytes, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH, ACCOUNT_IDENTIFIER_LENGTH);
 
-        Byte[] addressBytes = ArrayUtils.toObject(addressChars);
-        AccountAddress accountAddress = new AccountAddress(Arrays.asList(addressBytes));
-        SubAddress subAddress = new SubAddress(subAddressChars);
+        return new AccountIdentifier(prefix, AccountAddress.valueOf(addressBytes), new SubAddress(subAddressBytes));
+    }
 
-        return new AccountIdentifier(prefix, accountAddress, subAddress);
+    /**
+     * Regroup values of `fromBits` bits into values of `toBits` bits, same as `Bech32Codec.convertBits` on the
+     * whole input array.
+     *
+     * @throws IllegalArgumentException if a value exceeds `fromBits` bits, or the padding is invalid.
+     */
+    public static byte[] convertBits(final byte[] inputs, final int fromBits, final int toBits, final boolean pad) throws IllegalArgumentException {
+        byte[] out = new byte[Bech32Codec.convertedLength(inputs.length, fromBits, toBits, pad)];
+        int length = Bech32Codec.convertBits(inputs, 0, inputs.length, fromBits, toBits, pad, out, 0);
+        return length == out.length ? out : Arrays.copyOf(out, length);
     }
 
     /**
-     * <p>convertBits is copied from org.bitcoinj.core.SegwitAddress#convertBits with the following modifications:</p>
+     * Encode account identifiers of the same account address and many sub-addresses by version 1 format,
+     * e.g. for issuing a batch of deposit addresses.
      *
-     * <ul>
-     * <li>removed start and length parameters.</li>
-     * <li>throw IllegalArgumentException instead of AddressFormatException defined in bitcoinj.</li>
-     * </ul>
+     * The checksum state of the network prefix, version and account address is computed once for all sub-addresses.
      *
-     * <p>bitcoinj is released under Apache License 2.</p>
+     * @param subAddresses concatenated 8 bytes sub-addresses
+     * @return bech32 encoded account identifier strings, in the order of the sub-addresses.
      */
-    public static byte[] convertBits(final byte[] inputs, final int fromBits, final int toBits, final boolean pad) throws IllegalArgumentException {
-        int acc = 0;
-        int bits = 0;
-        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
-        final int maxv = (1 << toBits) - 1;
-        final int max_acc = (1 << (fromBits + toBits - 1)) - 1;
-        for (int i = 0; i < inputs.length; i++) {
-            int value = inputs[i] & 0xff;
-            if ((value >>> fromBits) != 0) {
-                throw new IllegalArgumentException(
-                        String.format("Input value '%X' exceeds '%d' bit" + " size", value,
-                                fromBits));
-            }
-            acc = ((acc << fromBits) | value) & max_acc;
-            bits += fromBits;
-            while (bits >= toBits) {
-                bits -= toBits;
-                out.write((acc >>> bits) & maxv);
-            }
+    public static String[] encodeV1(NetworkPrefix prefix, AccountAddress accountAddress, byte[] subAddresses) {
+        if (subAddresses.length % SUB_ADDRESS_LENGTH != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "sub-addresses length should be a multiple of %d, but given %d", SUB_ADDRESS_LENGTH, subAddresses.length));
         }
-        if (pad) {
-            if (bits > 0) out.write((acc << (toBits - bits)) & maxv);
-        } else if (bits >= fromBits || ((acc << (toBits - bits)) & maxv) != 0) {
-            throw new IllegalArgumentException("Could not convert bits, invalid padding");
+        byte[] program = new byte[ACCOUNT_IDENTIFIER_LENGTH];
+        accountAddress.copyTo(program, 0);
+        byte[] data = new byte[V1_DATA_LENGTH];
+        data[0] = VERSION_1;
+        Bech32Codec.convertBits(program, 0, program.length, 8, 5, true, data, 1);
+
+        // the leading 5-bit values covering account address bits only are the same for all sub-addresses
+        int fixedValues = 1 + AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH * 8 / 5;
+        char[] chars = new char[prefix.value.length() + 1 + V1_DATA_LENGTH + Bech32Codec.CHECKSUM_LENGTH];
+        Bech32Codec.encode(prefix.value, prefix.hrpState, data, 0, V1_DATA_LENGTH, Bech32Codec.Variant.BECH32, chars, 0);
+        int fixedChars = prefix.value.length() + 1 + fixedValues;
+        int fixedState = prefix.hrpState;
+        for (int i = 0; i < fixedValues; i++) {
+            fixedState = Bech32Codec.polymod(fixedState, data[i]);
         }
-        return out.toByteArray();
+
+        String[] ret = new String[subAddresses.length / SUB_ADDRESS_LENGTH];
+        for (int i = 0; i < ret.length; i++) {
+            System.arraycopy(subAddresses, i * SUB_ADDRESS_LENGTH, program, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH, SUB_ADDRESS_LENGTH);
+            Bech32Codec.convertBits(program, 0, program.length, 8, 5, true, data, 1);
+            int chk = fixedState;
+            for (int j = fixedValues; j < V1_DATA_LENGTH; j++) {
+                chk = Bech32Codec.polymod(chk, data[j]);
+                chars[fixedChars + j - fixedValues] = Bech32Codec.character(data[j]);
+            }
+            Bech32Codec.checksum(chk, Bech32Codec.Variant.BECH32, chars, fixedChars + V1_DATA_LENGTH - fixedValues);
+            ret[i] = new String(chars);
+        }
+        return ret;
     }
 
     /**
@@ -105,9 +120,11 @@ public class AccountIdentifier {
         MainnetPrefix("dm"), TestnetPrefix("tdm"), PreMainnetPrefix("pdm"), DryRunMainnetPrefix("ddm");
 
         private final String value;
+        private final int hrpState;
 
         NetworkPrefix(String value) {
             this.value = value;
+            this.hrpState = Bech32Codec.hrpState(value);
         }
     }
 
@@ -137,16 +154,17 @@ public class AccountIdentifier {
      * @return bech32 encoded account identifier string
      */
     public String encodeV1() {
-        byte[] accountAddressBytes = AccountAddressUtils.bytes(this.accountAddress);
-        byte[] subAddressBytes = this.subAddress.getBytes();
-        byte[] program = Bytes.concat(accountAddressBytes, subAddressBytes);
-
-        byte[] data = AccountIdentifier.convertBits(program, 8, 5, true);
+        byte[] program = new byte[ACCOUNT_IDENTIFIER_LENGTH];
+        this.accountAddress.copyTo(program, 0);
+        System.arraycopy(this.subAddress.getBytes(), 0, program, AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH, SUB_ADDRESS_LENGTH);
 
-        byte[] versionByte = new byte[]{VERSION_1};
-        byte[] versionAndData = Bytes.concat(versionByte, data);
+        byte[] data = new byte[V1_DATA_LENGTH];
+        data[0] = VERSION_1;
+        Bech32Codec.convertBits(program, 0, program.length, 8, 5, true, data, 1);
 
-        return Bech32.encode(this.prefix.value, versionAndData);
+        char[] chars = new char[Bech32Codec.encodedLength(this.prefix.value.length(), V1_DATA_LENGTH)];
+        Bech32Codec.encode(this.prefix.value, this.prefix.hrpState, data, 0, V1_DATA_LENGTH, Bech32Codec.Variant.BECH32, chars, 0);
+        return new String(chars);
     }
 
     public NetworkPrefix getPrefix() {
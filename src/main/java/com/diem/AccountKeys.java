@@ -0,0 +1,213 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccountAddress;
+import com.diem.utils.AccountAddressUtils;
+import com.novi.serde.Bytes;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * <p>
+ * AccountKeys holds N Ed25519 private keys with their public keys and authentication keys in compact arrays,
+ * derived in bulk for onboarding many accounts at once.
+ * </p>
+ *
+ * <p>
+ * Derivation is split into chunks of `CHUNK_SIZE` keys across a ForkJoinPool; each chunk reuses one SHA3 digest
+ * and writes the public keys and authentication keys in place, so no object is allocated per key.
+ * Account addresses and authentication key prefixes are the last and first 16 bytes of the authentication keys.
+ * </p>
+ *
+ * <p>Generate keys of 1000 new accounts:</p>
+ * <code>
+ * AccountKeys keys = AccountKeys.generate(1000);
+ * AccountAddress address = keys.accountAddress(0);
+ * Bytes authKeyPrefix = keys.authKeyPrefix(0);
+ * </code>
+ *
+ * `fromSeed` derives the same keys for the same seed, for reproducible load tests; such keys are only as secret as
+ * the seed, and should not hold real funds.
+ */
+public final class AccountKeys {
+
+    public static final int KEY_SIZE = Ed25519Provider.PRIVATE_KEY_SIZE;
+    public static final int AUTH_KEY_SIZE = AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH * 2;
+    static final int CHUNK_SIZE = 256;
+
+    private static final byte ED25519_KEY_SCHEME = 0;
+
+    private final int size;
+    private final byte[] privateKeys;
+    private final byte[] publicKeys;
+    private final byte[] authKeys;
+
+    private AccountKeys(byte[] privateKeys) {
+        this.size = privateKeys.length / KEY_SIZE;
+        this.privateKeys = privateKeys;
+        this.publicKeys = new byte[size * KEY_SIZE];
+        this.authKeys = new byte[size * AUTH_KEY_SIZE];
+    }
+
+    /**
+     * Generate `count` keys from a new SecureRandom on the common ForkJoinPool.
+     */
+    public static AccountKeys generate(int count) {
+        return generate(count, new SecureRandom(), ForkJoinPool.commonPool());
+    }
+
+    public static AccountKeys generate(int count, SecureRandom random, ForkJoinPool pool) {
+        checkCount(count);
+        byte[] privateKeys = new byte[count * KEY_SIZE];
+        random.nextBytes(privateKeys);
+        return derive(privateKeys, pool);
+    }
+
+    /**
+     * Deterministically derive `count` keys: the key at index `i` is the SHA3-256 hash of the seed followed by
+     * the 8 bytes big-endian `startIndex + i`.
+     * Keys derived from the same seed and index are always the same, so a load test can be repeated, or resumed
+     * from an index, with the same accounts.
+     */
+    public static AccountKeys fromSeed(byte[] seed, long startIndex, int count) {
+        return fromSeed(seed, startIndex, count, ForkJoinPool.commonPool());
+    }
+
+    public static AccountKeys fromSeed(byte[] seed, long startIndex, int count, ForkJoinPool pool) {
+        checkCount(count);
+        AccountKeys keys = new AccountKeys(new byte[count * KEY_SIZE]);
+        pool.invoke(new Task(keys, 0, count, seed.clone(), startIndex));
+        return keys;
+    }
+
+    /**
+     * Derive public keys and authentication keys of the given private keys.
+     *
+     * @param privateKeys concatenated 32 bytes private keys, it is owned by the returned AccountKeys.
+     */
+    public static AccountKeys derive(byte[] privateKeys, ForkJoinPool pool) {
+        if (privateKeys.length % KEY_SIZE != 0) {
+            throw new IllegalArgumentException(String.format(
+                    "private keys length should be a multiple of %d, but given %d", KEY_SIZE, privateKeys.length));
+        }
+        AccountKeys keys = new AccountKeys(privateKeys);
+        pool.invoke(new Task(keys, 0, keys.size, null, 0));
+        return keys;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a new Ed25519PrivateKey of the key at the index, its key material is loaded on each call.
+     */
+    public Ed25519PrivateKey privateKey(int index) {
+        return new Ed25519PrivateKey(copy(privateKeys, index, KEY_SIZE), Ed25519Provider.defaultProvider());
+    }
+
+    public byte[] privateKeyBytes(int index) {
+        return copy(privateKeys, index, KEY_SIZE);
+    }
+
+    public byte[] publicKey(int index) {
+        return copy(publicKeys, index, KEY_SIZE);
+    }
+
+    public AuthKey authKey(int index) {
+        return new AuthKey(copy(authKeys, index, AUTH_KEY_SIZE));
+    }
+
+    /**
+     * @return prefix of the authentication key, the first 16 bytes; same as `authKey(index).prefix()`.
+     */
+    public Bytes authKeyPrefix(int index) {
+        int offset = index(index) * AUTH_KEY_SIZE;
+        return new Bytes(Arrays.copyOfRange(authKeys, offset, offset + AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH));
+    }
+
+    /**
+     * @return account address, the last 16 bytes of the authentication key; same as `authKey(index).accountAddress()`.
+     */
+    public AccountAddress accountAddress(int index) {
+        int offset = index(index) * AUTH_KEY_SIZE + AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH;
+        return AccountAddressUtils.create(Arrays.copyOfRange(authKeys, offset, offset + AccountAddressUtils.ACCOUNT_ADDRESS_LENGTH));
+    }
+
+    public AccountIdentifier accountIdentifier(int index, AccountIdentifier.NetworkPrefix prefix) {
+        return new AccountIdentifier(prefix, accountAddress(index));
+    }
+
+    private byte[] copy(byte[] array, int index, int length) {
+        int offset = index(index) * length;
+        return Arrays.copyOfRange(array, offset, offset + length);
+    }
+
+    private int index(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("index should be in [0, %d), but given %d", size, index));
+        }
+        return index;
+    }
+
+    private static void checkCount(int count) {
+        if (count < 0 || count > Integer.MAX_VALUE / AUTH_KEY_SIZE) {
+            throw new IllegalArgumentException(String.format("invalid number of keys: %d", count));
+        }
+    }
+
+    private static final class Task extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final AccountKeys keys;
+        private final int start;
+        private final int end;
+        // not null for deriving private keys from the seed
+        private final byte[] seed;
+        private final long startIndex;
+
+        Task(AccountKeys keys, int start, int end, byte[] seed, long startIndex) {
+            this.keys = keys;
+            this.start = start;
+            this.end = end;
+            this.seed = seed;
+            this.startIndex = startIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > CHUNK_SIZE) {
+                int mid = (start + end) >>> 1;
+                invokeAll(new Task(keys, start, mid, seed, startIndex), new Task(keys, mid, end, seed, startIndex));
+                return;
+            }
+            SHA3Digest digest = new SHA3Digest(256);
+            byte[] index = new byte[8];
+            for (int i = start; i < end; i++) {
+                int keyOffset = i * KEY_SIZE;
+                if (seed != null) {
+                    long value = startIndex + i;
+                    for (int b = 7; b >= 0; b--) {
+                        index[b] = (byte) value;
+                        value >>>= 8;
+                    }
+                    digest.update(seed, 0, seed.length);
+                    digest.update(index, 0, index.length);
+                    digest.doFinal(keys.privateKeys, keyOffset);
+                }
+                Ed25519.generatePublicKey(keys.privateKeys, keyOffset, keys.publicKeys, keyOffset);
+                // same as AuthKey.ed25519: SHA3-256 of the public key followed by the key scheme
+                digest.update(keys.publicKeys, keyOffset, KEY_SIZE);
+                digest.update(ED25519_KEY_SCHEME);
+                digest.doFinal(keys.authKeys, i * AUTH_KEY_SIZE);
+            }
+        }
+    }
+}
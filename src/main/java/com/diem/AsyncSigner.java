@@ -0,0 +1,45 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * AsyncSigner is the interface of signers that sign batches of messages asynchronously, for example a remote
+ * custody service fronting an HSM, where each request costs a network round trip.
+ * </p>
+ *
+ * <p>
+ * Messages are signature messages created by `HashUtils.signatureMessage`, or metadata signature messages.
+ * Signing a batch in one request amortizes the round trip over all of its messages.
+ * `LocalAsyncSigner` is an in-process implementation backed by a PrivateKey, for tests.
+ * </p>
+ *
+ * @see Signer#signAsync(AsyncSigner, List) for how it is used.
+ */
+public interface AsyncSigner {
+
+    /**
+     * @return Ed25519 public key of the signing key.
+     */
+    byte[] publicKey();
+
+    /**
+     * Sign all messages in one batch.
+     *
+     * @return future of the signatures, `get(i)` is the signature of `messages.get(i)`; it completes
+     * exceptionally if the batch failed.
+     */
+    CompletableFuture<List<byte[]>> sign(List<byte[]> messages);
+
+    /**
+     * Sign one message, as a batch of one.
+     */
+    default CompletableFuture<byte[]> sign(byte[] message) {
+        return sign(Collections.singletonList(message)).thenApply(signatures -> signatures.get(0));
+    }
+}
@@ -0,0 +1,99 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * BatchExecutor runs an action for each index of [0, size) on an executor, split into batches of `batchSize`
+ * indexes run by one task each, and waits for all of them.
+ * The first failed batch cancels the others, its error is thrown as RuntimeException caused by it.
+ */
+final class BatchExecutor implements Closeable {
+
+    static final int DEFAULT_BATCH_SIZE = 64;
+
+    interface Action {
+        void run(int index);
+    }
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int batchSize;
+
+    /**
+     * Create an executor with an internal pool of the given number of daemon threads, shutdown by `close`.
+     */
+    BatchExecutor(int threads, String threadName) {
+        this(Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, threadName);
+            thread.setDaemon(true);
+            return thread;
+        }), DEFAULT_BATCH_SIZE, true);
+    }
+
+    /**
+     * @param executor  executor running the batches, it is not shutdown by `close`.
+     * @param batchSize number of indexes run by one task.
+     */
+    BatchExecutor(ExecutorService executor, int batchSize) {
+        this(executor, batchSize, false);
+    }
+
+    private BatchExecutor(ExecutorService executor, int batchSize, boolean ownsExecutor) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("batch size should be greater than 0, but given %d", batchSize));
+        }
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    void run(int size, Action action) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += batchSize) {
+            int start = from;
+            int end = Math.min(size, from + batchSize);
+            futures.add(executor.submit(() -> {
+                for (int i = start; i < end; i++) {
+                    action.run(i);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(futures);
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Shutdown the internal executor if there is one.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void cancel(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.Ed25519PublicKey;
+import com.diem.types.Ed25519Signature;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.TransactionAuthenticator;
+import com.diem.utils.HashUtils;
+import com.novi.serde.Bytes;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * <p>
+ * BatchSigner signs many RawTransactions across a pool of worker threads, returning the SignedTransactions in
+ * the same order as the given RawTransactions.
+ * </p>
+ *
+ * <p>
+ * The public key of each distinct PrivateKey (by identity) is fetched once per call and shared by all of its
+ * transactions; transactions are split into batches of `batchSize` signed by one task each.
+ * The PrivateKey implementations must be thread-safe, as `Ed25519PrivateKey` is.
+ * </p>
+ *
+ * <p>Sign transactions of a mass payout:</p>
+ * <code>
+ * try (BatchSigner signer = new BatchSigner(Runtime.getRuntime().availableProcessors())) {
+ *     List&lt;SignedTransaction&gt; txns = signer.sign(privateKey, rawTransactions);
+ * }
+ * </code>
+ *
+ * Signing errors are thrown as RuntimeException caused by the error of the failed batch.
+ */
+public class BatchSigner implements Closeable {
+
+    public static final int DEFAULT_BATCH_SIZE = BatchExecutor.DEFAULT_BATCH_SIZE;
+
+    private final BatchExecutor executor;
+
+    /**
+     * Create a signer with an internal pool of the given number of threads, shutdown by `close`.
+     */
+    public BatchSigner(int threads) {
+        this.executor = new BatchExecutor(threads, "diem-batch-signer");
+    }
+
+    /**
+     * @param executor  executor running the signing batches, it is not shutdown by `close`.
+     * @param batchSize number of transactions signed by one task.
+     */
+    public BatchSigner(ExecutorService executor, int batchSize) {
+        this.executor = new BatchExecutor(executor, batchSize);
+    }
+
+    /**
+     * Sign all transactions by the same key.
+     */
+    public List<SignedTransaction> sign(PrivateKey privateKey, List<RawTransaction> txns) {
+        return sign(Collections.nCopies(txns.size(), privateKey), txns);
+    }
+
+    /**
+     * Sign each transaction by the key at the same index.
+     *
+     * @param privateKeys keys, `privateKeys.get(i)` signs `txns.get(i)`
+     * @param txns        transactions to sign
+     * @return SignedTransactions in the order of `txns`
+     */
+    public List<SignedTransaction> sign(List<? extends PrivateKey> privateKeys, List<RawTransaction> txns) {
+        if (privateKeys.size() != txns.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "expect one private key per transaction, but given %d keys for %d transactions",
+                    privateKeys.size(), txns.size()));
+        }
+        Map<PrivateKey, Ed25519PublicKey> publicKeys = new IdentityHashMap<>();
+        Ed25519PublicKey[] txnPublicKeys = new Ed25519PublicKey[txns.size()];
+        for (int i = 0; i < txnPublicKeys.length; i++) {
+            txnPublicKeys[i] = publicKeys.computeIfAbsent(privateKeys.get(i),
+                    key -> new Ed25519PublicKey(new Bytes(key.publicKey())));
+        }
+
+        SignedTransaction[] ret = new SignedTransaction[txns.size()];
+        executor.run(ret.length, i -> {
+            RawTransaction raw = txns.get(i);
+            byte[] signature = privateKeys.get(i).sign(HashUtils.signatureMessage(raw));
+            ret[i] = new SignedTransaction(raw, new TransactionAuthenticator.Ed25519(
+                    txnPublicKeys[i], new Ed25519Signature(new Bytes(signature))));
+        });
+        return Arrays.asList(ret);
+    }
+
+    /**
+     * Shutdown the internal executor if there is one.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+}
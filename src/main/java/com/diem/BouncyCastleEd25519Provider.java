@@ -0,0 +1,78 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import org.bouncycastle.math.ec.rfc8032.Ed25519;
+
+/**
+ * Ed25519Provider using BouncyCastle's RFC 8032 implementation directly, without `Ed25519Signer`.
+ *
+ * The public key is derived once per key and passed to each signature. BouncyCastle does not expose signing
+ * with an expanded secret, so the secret is hashed again by each signature (one SHA-512 of 32 bytes).
+ */
+public final class BouncyCastleEd25519Provider implements Ed25519Provider {
+
+    public static final String NAME = "bouncycastle";
+    public static final BouncyCastleEd25519Provider INSTANCE = new BouncyCastleEd25519Provider();
+
+    private BouncyCastleEd25519Provider() {
+        // build the base point tables once, instead of on the first signature
+        Ed25519.precompute();
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Ed25519Provider.Key loadKey(byte[] privateKey) {
+        if (privateKey.length != PRIVATE_KEY_SIZE) {
+            throw new IllegalArgumentException(String.format(
+                    "Ed25519 private key should be %d bytes, but given %d bytes", PRIVATE_KEY_SIZE, privateKey.length));
+        }
+        byte[] secret = privateKey.clone();
+        byte[] publicKey = new byte[PUBLIC_KEY_SIZE];
+        Ed25519.generatePublicKey(secret, 0, publicKey, 0);
+        return new Key(secret, publicKey);
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+        if (publicKey.length != PUBLIC_KEY_SIZE || signature.length != SIGNATURE_SIZE) {
+            return false;
+        }
+        return Ed25519.verify(signature, 0, publicKey, 0, message, 0, message.length);
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, int offset, int length, byte[] signature) {
+        if (publicKey.length != PUBLIC_KEY_SIZE || signature.length != SIGNATURE_SIZE) {
+            return false;
+        }
+        return Ed25519.verify(signature, 0, publicKey, 0, message, offset, length);
+    }
+
+    private static final class Key implements Ed25519Provider.Key {
+        private final byte[] secret;
+        private final byte[] publicKey;
+
+        Key(byte[] secret, byte[] publicKey) {
+            this.secret = secret;
+            this.publicKey = publicKey;
+        }
+
+        @Override
+        public byte[] publicKey() {
+            return publicKey.clone();
+        }
+
+        @Override
+        public byte[] sign(byte[] message) {
+            byte[] signature = new byte[SIGNATURE_SIZE];
+            Ed25519.sign(secret, 0, publicKey, 0, message, 0, message.length, signature, 0);
+            return signature;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.jsonrpc.JsonRpc;
+import com.diem.types.GeneralMetadata;
+import com.diem.types.GeneralMetadataV0;
+import com.diem.types.Metadata;
+import com.diem.types.RefundReason;
+import com.diem.utils.Hex;
+import com.diem.utils.RangeTask;
+import com.novi.bcs.BcsDeserializer;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.Unsigned;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * DepositReconciler turns `receivedpayment` events of a custodial (omnibus) account into instructions: credit
+ * the customer owning the `to_subaddress` of the event metadata, refund deposits to unknown sub-addresses, or
+ * record refunds of payments sent by the account.
+ * </p>
+ *
+ * <p>
+ * A page of events is split into ranges decoded in parallel by a ForkJoinPool, each worker thread reuses one
+ * buffer for decoding the hex metadata, and BCS deserializes it in place. Sub-addresses are resolved by a
+ * `SubAddressIndex` without any database round trip; events of other types are skipped.
+ * </p>
+ *
+ * <p>Reconcile pages of events as they arrive:</p>
+ * <code>
+ * DepositReconciler reconciler = new DepositReconciler(index);
+ * CompletableFuture&lt;List&lt;Instruction&gt;&gt; result = reconciler.reconcileAsync(client.getEvents(receivedEventsKey, seq, 1000));
+ * </code>
+ *
+ * Instances are thread-safe.
+ */
+public class DepositReconciler {
+
+    /**
+     * Number of events decoded by one task before a range is split.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final String RECEIVED_PAYMENT_EVENT_TYPE = "receivedpayment";
+
+    public enum Type {
+        /**
+         * Credit the amount to the customer owning the `to_subaddress`.
+         */
+        CREDIT,
+        /**
+         * The `to_subaddress` is unknown, the amount should be sent back to the sender with the `refund` metadata.
+         */
+        REFUND,
+        /**
+         * The event is a refund of a payment sent by the account, `metadata` references the refunded payment.
+         */
+        REFUND_RECEIVED,
+        /**
+         * The event can not be reconciled automatically, see `reason`.
+         */
+        UNRESOLVED,
+    }
+
+    /**
+     * Instruction for a `receivedpayment` event.
+     */
+    public static final class Instruction {
+        public static final long NO_CUSTOMER = -1;
+
+        /**
+         * Index of the event in the reconciled list.
+         */
+        public final int index;
+        public final Type type;
+        public final JsonRpc.EventOrBuilder event;
+        /**
+         * Customer owning the `to_subaddress`, `NO_CUSTOMER` unless the type is CREDIT.
+         */
+        public final long customerId;
+        /**
+         * `to_subaddress` of the metadata, null if there is none.
+         */
+        public final SubAddress subAddress;
+        /**
+         * Decoded event metadata, null if the event has none or it is invalid.
+         */
+        public final Metadata metadata;
+        /**
+         * Metadata of the refund transaction for type REFUND, a `Metadata.RefundMetadata` referencing the event
+         * transaction version with reason `InvalidSubaddress`; null otherwise.
+         */
+        public final TransactionMetadata refund;
+        /**
+         * Why the event is unresolved, null unless the type is UNRESOLVED.
+         */
+        public final String reason;
+
+        public Instruction(int index, Type type, JsonRpc.EventOrBuilder event, long customerId, SubAddress subAddress,
+                           Metadata metadata, TransactionMetadata refund, String reason) {
+            this.index = index;
+            this.type = Objects.requireNonNull(type, "type must not be null");
+            this.event = Objects.requireNonNull(event, "event must not be null");
+            this.customerId = customerId;
+            this.subAddress = subAddress;
+            this.metadata = metadata;
+            this.refund = refund;
+            this.reason = reason;
+        }
+
+        public @Unsigned long getAmount() {
+            return event.getData().getAmount().getAmount();
+        }
+
+        public String getCurrency() {
+            return event.getData().getAmount().getCurrency();
+        }
+
+        public String getSender() {
+            return event.getData().getSender();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Instruction{index=%d, type=%s, sequenceNumber=%s, customerId=%d, subAddress=%s, reason=%s}",
+                    index, type, Long.toUnsignedString(event.getSequenceNumber()), customerId,
+                    subAddress == null ? null : subAddress.toHex(), reason);
+        }
+    }
+
+    private final SubAddressIndex index;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+    // metadata decode buffer of each worker thread, grown to the largest metadata seen
+    private final ThreadLocal<byte[]> buffer = ThreadLocal.withInitial(() -> new byte[256]);
+
+    /**
+     * Create a reconciler running on the common ForkJoinPool.
+     */
+    public DepositReconciler(SubAddressIndex index) {
+        this(index, ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param index     sub-addresses of the customers
+     * @param pool      pool running the decoding tasks
+     * @param batchSize number of events decoded by one task
+     */
+    public DepositReconciler(SubAddressIndex index, ForkJoinPool pool, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("batch size should be greater than 0, but given %d", batchSize));
+        }
+        this.index = Objects.requireNonNull(index, "index must not be null");
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return instructions of the `receivedpayment` events, ordered by index.
+     */
+    public List<Instruction> reconcile(List<? extends JsonRpc.EventOrBuilder> events) {
+        return pool.invoke(task(events));
+    }
+
+    /**
+     * Reconcile the events in the pool without waiting for the result.
+     */
+    public CompletableFuture<List<Instruction>> reconcileAsync(List<? extends JsonRpc.EventOrBuilder> events) {
+        RangeTask<Instruction> task = task(events);
+        return CompletableFuture.supplyAsync(task::invoke, pool);
+    }
+
+    /**
+     * Reconcile a single event.
+     *
+     * @return the instruction, null if the event is not a `receivedpayment` event.
+     */
+    public Instruction reconcile(int i, JsonRpc.EventOrBuilder event) {
+        JsonRpc.EventDataOrBuilder data = event.getData();
+        if (!RECEIVED_PAYMENT_EVENT_TYPE.equalsIgnoreCase(data.getType())) {
+            return null;
+        }
+        String hex = data.getMetadata();
+        if (hex == null || hex.isEmpty()) {
+            return unresolved(i, event, null, "missing metadata");
+        }
+        Metadata metadata;
+        try {
+            metadata = decode(hex);
+        } catch (IllegalArgumentException | DeserializationError e) {
+            return unresolved(i, event, null, "invalid metadata: " + e.getMessage());
+        }
+        if (metadata instanceof Metadata.RefundMetadata) {
+            return new Instruction(i, Type.REFUND_RECEIVED, event, Instruction.NO_CUSTOMER, null, metadata, null, null);
+        }
+        if (!(metadata instanceof Metadata.GeneralMetadata)) {
+            return unresolved(i, event, metadata, "unsupported metadata: " + metadata.getClass().getSimpleName());
+        }
+        GeneralMetadata general = ((Metadata.GeneralMetadata) metadata).value;
+        if (!(general instanceof GeneralMetadata.GeneralMetadataVersion0)) {
+            return unresolved(i, event, metadata, "unsupported general metadata: " + general.getClass().getSimpleName());
+        }
+        GeneralMetadataV0 value = ((GeneralMetadata.GeneralMetadataVersion0) general).value;
+        if (value.referenced_event.isPresent()) {
+            return new Instruction(i, Type.REFUND_RECEIVED, event, Instruction.NO_CUSTOMER, null, metadata, null, null);
+        }
+        if (!value.to_subaddress.isPresent()) {
+            return unresolved(i, event, metadata, "missing to_subaddress");
+        }
+        SubAddress subAddress;
+        try {
+            subAddress = new SubAddress(value.to_subaddress.get().content());
+        } catch (IllegalArgumentException e) {
+            return unresolved(i, event, metadata, "invalid to_subaddress: " + e.getMessage());
+        }
+        long customerId = index.get(subAddress, Instruction.NO_CUSTOMER);
+        if (customerId == Instruction.NO_CUSTOMER) {
+            TransactionMetadata refund = TransactionMetadata.createRefundMetadata(
+                    event.getTransactionVersion(), new RefundReason.InvalidSubaddress());
+            return new Instruction(i, Type.REFUND, event, customerId, subAddress, metadata, refund, null);
+        }
+        return new Instruction(i, Type.CREDIT, event, customerId, subAddress, metadata, null, null);
+    }
+
+    // same as TransactionMetadata.deserializeMetadata, decoding into the buffer of the thread
+    private Metadata decode(String hex) throws DeserializationError {
+        int length = hex.length() / 2;
+        byte[] bytes = buffer.get();
+        if (bytes.length < length) {
+            bytes = new byte[Math.max(length, bytes.length * 2)];
+            buffer.set(bytes);
+        }
+        Hex.decode(hex, 0, hex.length(), bytes, 0);
+        BcsDeserializer deserializer = new BcsDeserializer(bytes, 0, length);
+        Metadata metadata = Metadata.deserialize(deserializer);
+        if (deserializer.get_buffer_offset() < length) {
+            throw new DeserializationError("Some input bytes were not read");
+        }
+        return metadata;
+    }
+
+    private static Instruction unresolved(int i, JsonRpc.EventOrBuilder event, Metadata metadata, String reason) {
+        return new Instruction(i, Type.UNRESOLVED, event, Instruction.NO_CUSTOMER, null, metadata, null, reason);
+    }
+
+    private RangeTask<Instruction> task(List<? extends JsonRpc.EventOrBuilder> events) {
+        return new RangeTask<>(0, events.size(), batchSize, i -> reconcile(i, events.get(i)));
+    }
+}
@@ -5,10 +5,14 @@ package com.diem;
 
 import com.diem.jsonrpc.JsonRpc;
 import com.diem.types.AccountAddress;
+import com.diem.types.RawTransaction;
 import com.novi.serde.Unsigned;
 import com.diem.types.SignedTransaction;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * <p>
@@ -43,8 +47,40 @@ public interface DiemClient {
 
     void submit(SignedTransaction txn) throws DiemException;
 
+    /**
+     * Submit the transaction by its prepared hex-encoded bytes, see `submit(String)`.
+     */
+    default void submit(PreparedTransaction txn) throws DiemException {
+        submit(txn.getHex());
+    }
+
+    /**
+     * Sign the transactions by the AsyncSigner in one batch, and submit them in order once signed, by a task run
+     * on the given executor. Each submission blocks until the server responds, so the executor should be
+     * dedicated to I/O, not the common ForkJoinPool shared with parallel streams and fork/join tasks.
+     *
+     * @return future of the submitted transactions, it completes exceptionally with the signer error or the
+     * DiemException of the first failed submission.
+     */
+    default CompletableFuture<List<PreparedTransaction>> submit(AsyncSigner signer, List<RawTransaction> txns,
+                                                                Executor executor) {
+        return Signer.prepareAsync(signer, txns).thenApplyAsync(prepared -> {
+            for (PreparedTransaction txn : prepared) {
+                try {
+                    submit(txn);
+                } catch (DiemException e) {
+                    throw new CompletionException(e);
+                }
+            }
+            return prepared;
+        }, executor);
+    }
+
     JsonRpc.Transaction waitForTransaction(String signedTxnHex, int timeout) throws DiemException;
     JsonRpc.Transaction waitForTransaction(SignedTransaction signedTransaction, int timeout) throws DiemException;
+    default JsonRpc.Transaction waitForTransaction(PreparedTransaction preparedTransaction, int timeout) throws DiemException {
+        return waitForTransaction(preparedTransaction.getHex(), timeout);
+    }
     JsonRpc.Transaction waitForTransaction(String address, @Unsigned long sequence, String transactionHash, @Unsigned long expirationTimeSec, int timeout) throws DiemException;
     JsonRpc.Transaction waitForTransaction(AccountAddress address, @Unsigned long sequence, String transactionHash, @Unsigned long expirationTimeSec, int timeout) throws DiemException;
 
@@ -4,34 +4,45 @@
 package com.diem;
 
 import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
-import org.bouncycastle.crypto.signers.Ed25519Signer;
 import com.diem.utils.Hex;
 
 /**
  * Ed25519 single PrivateKey implementation.
+ *
+ * Key material (the public key, and whatever the `Ed25519Provider` precomputes) is loaded once when the key is
+ * created, and reused for every signature; the default provider is `BouncyCastleEd25519Provider`.
+ * Instances are immutable and can be shared between threads.
  */
 public class Ed25519PrivateKey implements PrivateKey {
-    private Ed25519PrivateKeyParameters key;
+    private final Ed25519Provider.Key key;
 
     public Ed25519PrivateKey(Ed25519PrivateKeyParameters key) {
-        this.key = key;
+        this(key.getEncoded(), Ed25519Provider.defaultProvider());
     }
 
     public Ed25519PrivateKey(String hex) {
-        this(new Ed25519PrivateKeyParameters(Hex.decode(hex), 0));
+        this(hex, Ed25519Provider.defaultProvider());
+    }
+
+    public Ed25519PrivateKey(String hex, Ed25519Provider provider) {
+        this(Hex.decode(hex), provider);
+    }
+
+    /**
+     * @param privateKey 32 bytes private key seed
+     * @param provider   Ed25519 implementation signing with the key
+     */
+    public Ed25519PrivateKey(byte[] privateKey, Ed25519Provider provider) {
+        this.key = provider.loadKey(privateKey);
     }
 
     @Override
     public byte[] sign(byte[] data) {
-        Ed25519Signer signer = new Ed25519Signer();
-        signer.init(true, key);
-
-        signer.update(data, 0, data.length);
-        return signer.generateSignature();
+        return key.sign(data);
     }
 
     @Override
     public byte[] publicKey() {
-        return key.generatePublicKey().getEncoded();
+        return key.publicKey();
     }
 }
@@ -0,0 +1,97 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.util.Arrays;
+import java.util.ServiceLoader;
+
+/**
+ * <p>
+ * Ed25519Provider is the SPI of the Ed25519 implementation used by `Ed25519PrivateKey` for signing and by
+ * signature verification.
+ * </p>
+ *
+ * <p>
+ * `loadKey` is called once per private key, so that implementations can precompute and keep the key material
+ * they need (public key, expanded secret, initialized signature engines) for all following signatures.
+ * </p>
+ *
+ * <p>
+ * Built-in providers are `BouncyCastleEd25519Provider` (default) and `JdkEd25519Provider` (JDK 15+).
+ * Other implementations can be registered with `java.util.ServiceLoader` and found by `forName`.
+ * Implementations must be thread-safe.
+ * </p>
+ */
+public interface Ed25519Provider {
+
+    int PRIVATE_KEY_SIZE = 32;
+    int PUBLIC_KEY_SIZE = 32;
+    int SIGNATURE_SIZE = 64;
+
+    /**
+     * Key material of one private key, it must be thread-safe.
+     */
+    interface Key {
+        /**
+         * @return encoded public key, a new array on each call.
+         */
+        byte[] publicKey();
+
+        byte[] sign(byte[] message);
+    }
+
+    /**
+     * @return provider name, used by `forName`.
+     */
+    String name();
+
+    /**
+     * @param privateKey 32 bytes private key seed
+     * @throws IllegalArgumentException if the private key is not 32 bytes.
+     */
+    Key loadKey(byte[] privateKey) throws IllegalArgumentException;
+
+    /**
+     * @return true if the signature of the message is valid for the public key, false for any invalid input.
+     */
+    boolean verify(byte[] publicKey, byte[] message, byte[] signature);
+
+    /**
+     * Verify the signature of `length` bytes of `message` from `offset`, e.g. one of many messages packed in a
+     * buffer. The default implementation copies the range and calls `verify(byte[], byte[], byte[])`.
+     */
+    default boolean verify(byte[] publicKey, byte[] message, int offset, int length, byte[] signature) {
+        return verify(publicKey, Arrays.copyOfRange(message, offset, offset + length), signature);
+    }
+
+    /**
+     * @return the default provider, BouncyCastle.
+     */
+    static Ed25519Provider defaultProvider() {
+        return BouncyCastleEd25519Provider.INSTANCE;
+    }
+
+    /**
+     * Find a provider by its name among the built-in providers and the providers registered with ServiceLoader.
+     *
+     * @throws IllegalArgumentException if no provider has the given name or it is not available on this JVM.
+     */
+    static Ed25519Provider forName(String name) throws IllegalArgumentException {
+        if (BouncyCastleEd25519Provider.NAME.equals(name)) {
+            return BouncyCastleEd25519Provider.INSTANCE;
+        }
+        if (JdkEd25519Provider.NAME.equals(name)) {
+            if (!JdkEd25519Provider.isAvailable()) {
+                throw new IllegalArgumentException("Ed25519 is not supported by the JDK security providers, requires Java 15+");
+            }
+            return JdkEd25519Provider.INSTANCE;
+        }
+        for (Ed25519Provider provider : ServiceLoader.load(Ed25519Provider.class)) {
+            if (provider.name().equals(name)) {
+                return provider;
+            }
+        }
+        throw new IllegalArgumentException(String.format("unknown Ed25519 provider: %s", name));
+    }
+}
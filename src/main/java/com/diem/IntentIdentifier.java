@@ -3,20 +3,17 @@
 
 package com.diem;
 
-import org.apache.http.NameValuePair;
-import org.apache.http.client.utils.URIBuilder;
-import org.apache.http.client.utils.URLEncodedUtils;
-
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * IntentIdentifier implements Diem Intent Identifier encoding and decoding.
+ *
+ * The `diem://` URI is parsed and built directly: the host is the account identifier, and the query parameters
+ * `c` (currency) and `am` (amount) are percent-decoded / encoded as `application/x-www-form-urlencoded` values.
  * @see <a href="https://github.com/diem/lip/blob/master/lips/lip-5.md">LIP-5 Address formatting</a>
  * */
 public class IntentIdentifier {
@@ -26,6 +23,8 @@ public class IntentIdentifier {
     public static final String CURRENCY_PARAM_NAME = "c";
     public static final String AMOUNT_PARAM_NAME = "am";
 
+    private static final String SCHEME_SEPARATOR = "://";
+
     /**
      * Decode an intent identifier string for the prefix network account identifier.
      *
@@ -34,35 +33,67 @@ public class IntentIdentifier {
      * @throws IllegalArgumentException if the account identifier's network prefix does not match given network prefix.
      */
     public static IntentIdentifier decode(AccountIdentifier.NetworkPrefix prefix, String intentIdentifier) {
-        URI uri;
-        try {
-            uri = new URI(intentIdentifier);
-        } catch (URISyntaxException e) {
-            throw new IllegalArgumentException(e);
-        }
-        String scheme = uri.getScheme();
-
+        int schemeEnd = intentIdentifier.indexOf(SCHEME_SEPARATOR);
+        String scheme = schemeEnd < 0 ? null : intentIdentifier.substring(0, schemeEnd);
         if (!DIEM_SCHEME.equals(scheme)) {
             throw new IllegalArgumentException(String.format("invalid intent identifier scheme: %s", scheme));
         }
 
-        String query = uri.getQuery();
+        int hostStart = schemeEnd + SCHEME_SEPARATOR.length();
+        int end = intentIdentifier.indexOf('#', hostStart);
+        if (end < 0) {
+            end = intentIdentifier.length();
+        }
+        int hostEnd = hostStart;
+        while (hostEnd < end && intentIdentifier.charAt(hostEnd) != '?' && intentIdentifier.charAt(hostEnd) != '/') {
+            hostEnd++;
+        }
+        int queryStart = intentIdentifier.indexOf('?', hostEnd);
+
         String currency = null;
         long amount = 0;
-        if (query != null) {
-            List<NameValuePair> parse = URLEncodedUtils.parse(uri, StandardCharsets.UTF_8);
-            Map<String, String> collect =
-                    parse.stream().collect(Collectors.toMap(NameValuePair::getName,
-                            NameValuePair::getValue));
-
-            currency = collect.get(CURRENCY_PARAM_NAME);
-            amount = Integer.parseInt(collect.get(AMOUNT_PARAM_NAME));
+        if (queryStart >= 0 && queryStart < end) {
+            int paramStart = queryStart + 1;
+            while (paramStart < end) {
+                int paramEnd = intentIdentifier.indexOf('&', paramStart);
+                if (paramEnd < 0 || paramEnd > end) {
+                    paramEnd = end;
+                }
+                int eq = intentIdentifier.indexOf('=', paramStart);
+                int nameEnd = eq < 0 || eq > paramEnd ? paramEnd : eq;
+                if (isParam(intentIdentifier, paramStart, nameEnd, CURRENCY_PARAM_NAME)) {
+                    currency = paramValue(intentIdentifier, nameEnd, paramEnd);
+                } else if (isParam(intentIdentifier, paramStart, nameEnd, AMOUNT_PARAM_NAME)) {
+                    amount = Long.parseLong(paramValue(intentIdentifier, nameEnd, paramEnd));
+                }
+                paramStart = paramEnd + 1;
+            }
         }
 
-        AccountIdentifier accountIdentifier = AccountIdentifier.decode(prefix, uri.getHost());
+        AccountIdentifier accountIdentifier = AccountIdentifier.decode(prefix, intentIdentifier.substring(hostStart, hostEnd));
         return new IntentIdentifier(accountIdentifier, currency, amount);
     }
 
+    private static boolean isParam(String str, int start, int end, String name) {
+        return end - start == name.length() && str.startsWith(name, start);
+    }
+
+    // value from the `=` at `eq` to `end`, empty if there is no `=`
+    private static String paramValue(String str, int eq, int end) {
+        if (eq >= end) {
+            return "";
+        }
+        String value = str.substring(eq + 1, end);
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
+        try {
+            return URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private final AccountIdentifier accountIdentifier;
     private final String currency;
     private final long amount;
@@ -91,24 +122,23 @@ public class IntentIdentifier {
      * @return encoded intent identifier string
      */
     public String encode() {
-        String encodedAccount = this.accountIdentifier.encodeV1();
-
-        try {
-            URI uri = new URI(DIEM_SCHEME + "://" + encodedAccount);
-            URIBuilder uriBuilder = new URIBuilder(uri);
-
-            if (this.amount > 0) {
-                uriBuilder.addParameter(AMOUNT_PARAM_NAME, String.valueOf(this.amount));
-            }
-
-            if (this.currency != null) {
-                uriBuilder.addParameter(CURRENCY_PARAM_NAME, this.currency);
+        StringBuilder sb = new StringBuilder(64)
+                .append(DIEM_SCHEME).append(SCHEME_SEPARATOR)
+                .append(this.accountIdentifier.encodeV1());
+        char separator = '?';
+        if (this.amount > 0) {
+            sb.append(separator).append(AMOUNT_PARAM_NAME).append('=').append(this.amount);
+            separator = '&';
+        }
+        if (this.currency != null) {
+            try {
+                sb.append(separator).append(CURRENCY_PARAM_NAME).append('=')
+                        .append(URLEncoder.encode(this.currency, StandardCharsets.UTF_8.name()));
+            } catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
             }
-
-            return uriBuilder.build().toString();
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
         }
+        return sb.toString();
     }
 
     @Override
@@ -0,0 +1,130 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+
+/**
+ * <p>
+ * Ed25519Provider using the `Ed25519` algorithm of the JDK security providers, available since Java 15.
+ * </p>
+ *
+ * <p>
+ * Keys are imported through their PKCS#8 / X.509 encodings, so this class compiles and loads on Java 8;
+ * use `isAvailable()` before using it on older JVMs. Each key keeps an initialized `Signature` per thread.
+ * The public key is derived by `BouncyCastleEd25519Provider` once per key, as the JDK has no API for it.
+ * </p>
+ */
+public final class JdkEd25519Provider implements Ed25519Provider {
+
+    public static final String NAME = "jdk";
+    public static final JdkEd25519Provider INSTANCE = new JdkEd25519Provider();
+
+    private static final String ALGORITHM = "Ed25519";
+    // DER prefixes of the PKCS#8 private key and X.509 public key encodings of a raw Ed25519 key (RFC 8410).
+    private static final byte[] PKCS8_PREFIX = {0x30, 0x2e, 0x02, 0x01, 0x00, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x04, 0x22, 0x04, 0x20};
+    private static final byte[] X509_PREFIX = {0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00};
+
+    private JdkEd25519Provider() {
+    }
+
+    /**
+     * @return true if the JVM security providers support Ed25519.
+     */
+    public static boolean isAvailable() {
+        try {
+            KeyFactory.getInstance(ALGORITHM);
+            return true;
+        } catch (GeneralSecurityException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Ed25519Provider.Key loadKey(byte[] privateKey) {
+        Ed25519Provider.Key derived = BouncyCastleEd25519Provider.INSTANCE.loadKey(privateKey);
+        try {
+            java.security.PrivateKey key = KeyFactory.getInstance(ALGORITHM)
+                    .generatePrivate(new PKCS8EncodedKeySpec(concat(PKCS8_PREFIX, privateKey)));
+            return new Key(key, derived.publicKey());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Ed25519 is not supported by the JDK security providers", e);
+        }
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, byte[] signature) {
+        return verify(publicKey, message, 0, message.length, signature);
+    }
+
+    @Override
+    public boolean verify(byte[] publicKey, byte[] message, int offset, int length, byte[] signature) {
+        if (publicKey.length != PUBLIC_KEY_SIZE || signature.length != SIGNATURE_SIZE) {
+            return false;
+        }
+        try {
+            PublicKey key = KeyFactory.getInstance(ALGORITHM)
+                    .generatePublic(new X509EncodedKeySpec(concat(X509_PREFIX, publicKey)));
+            Signature verifier = Signature.getInstance(ALGORITHM);
+            verifier.initVerify(key);
+            verifier.update(message, offset, length);
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            // invalid public key point or signature encoding
+            return false;
+        }
+    }
+
+    private static byte[] concat(byte[] prefix, byte[] key) {
+        byte[] ret = new byte[prefix.length + key.length];
+        System.arraycopy(prefix, 0, ret, 0, prefix.length);
+        System.arraycopy(key, 0, ret, prefix.length, key.length);
+        return ret;
+    }
+
+    private static final class Key implements Ed25519Provider.Key {
+        private final byte[] publicKey;
+        private final ThreadLocal<Signature> signers;
+
+        Key(java.security.PrivateKey key, byte[] publicKey) {
+            this.publicKey = publicKey;
+            this.signers = ThreadLocal.withInitial(() -> {
+                try {
+                    Signature signature = Signature.getInstance(ALGORITHM);
+                    signature.initSign(key);
+                    return signature;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @Override
+        public byte[] publicKey() {
+            return publicKey.clone();
+        }
+
+        @Override
+        public byte[] sign(byte[] message) {
+            Signature signer = signers.get();
+            try {
+                // a Signature is reset to its initialized state after each signature
+                signer.update(message);
+                return signer.sign();
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
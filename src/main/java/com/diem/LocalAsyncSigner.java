@@ -0,0 +1,66 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * LocalAsyncSigner is an in-process AsyncSigner signing each batch by a PrivateKey on an executor.
+ * It stands in for a remote signer in tests, and counts the batches it signed.
+ * </p>
+ *
+ * <p>Sign transactions asynchronously in tests:</p>
+ * <code>
+ * AsyncSigner signer = new LocalAsyncSigner(new Ed25519PrivateKey(privateKeyHex));
+ * List&lt;SignedTransaction&gt; txns = Signer.signAsync(signer, rawTransactions).get();
+ * </code>
+ */
+public class LocalAsyncSigner implements AsyncSigner {
+
+    private final PrivateKey privateKey;
+    private final Executor executor;
+    private final AtomicInteger batchCount = new AtomicInteger();
+
+    /**
+     * Create a signer signing on the common ForkJoinPool.
+     */
+    public LocalAsyncSigner(PrivateKey privateKey) {
+        this(privateKey, ForkJoinPool.commonPool());
+    }
+
+    public LocalAsyncSigner(PrivateKey privateKey, Executor executor) {
+        this.privateKey = privateKey;
+        this.executor = executor;
+    }
+
+    @Override
+    public byte[] publicKey() {
+        return privateKey.publicKey();
+    }
+
+    @Override
+    public CompletableFuture<List<byte[]>> sign(List<byte[]> messages) {
+        return CompletableFuture.supplyAsync(() -> {
+            batchCount.incrementAndGet();
+            List<byte[]> ret = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                ret.add(privateKey.sign(message));
+            }
+            return ret;
+        }, executor);
+    }
+
+    /**
+     * @return number of `sign(List)` batches signed so far.
+     */
+    public int getBatchCount() {
+        return batchCount.get();
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+/**
+ * <p>
+ * LongTable is an open addressing table of non-zero long keys (0 marks an empty slot), with linear probing over
+ * `long[]` and no object per entry. A table created without values is a set, 8 bytes per slot; with values each
+ * key maps to a long, 16 bytes per slot.
+ * </p>
+ *
+ * Instances are not thread-safe, callers guard them with their own locks; key 0 is rejected by callers.
+ */
+final class LongTable {
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+
+    /**
+     * @param expectedSize number of keys the table holds without resizing.
+     * @param withValues   allocate values, required by `put` and `get`.
+     */
+    LongTable(int expectedSize, boolean withValues) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) * 2;
+        keys = new long[capacity];
+        values = withValues ? new long[capacity] : null;
+    }
+
+    /**
+     * @return false if the key is already in the table.
+     */
+    boolean add(long key) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int i = slot(keys, key);
+        if (keys[i] != 0) {
+            return false;
+        }
+        keys[i] = key;
+        size++;
+        return true;
+    }
+
+    /**
+     * Map the key to the value, replacing the existing value if any.
+     */
+    void put(long key, long value) {
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        int i = slot(keys, key);
+        if (keys[i] == 0) {
+            keys[i] = key;
+            size++;
+        }
+        values[i] = value;
+    }
+
+    long get(long key, long defaultValue) {
+        int i = slot(keys, key);
+        return keys[i] == 0 ? defaultValue : values[i];
+    }
+
+    boolean contains(long key) {
+        return keys[slot(keys, key)] != 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    // murmur3 fmix64, spreads bits of sequential or otherwise non-random keys
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    // slot of the key, or of the empty slot ending its probe sequence
+    private static int slot(long[] keys, long key) {
+        int mask = keys.length - 1;
+        int i = (int) mix(key) & mask;
+        while (keys[i] != 0 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = oldValues == null ? null : new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = slot(keys, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                if (values != null) {
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccountAddress;
+import com.diem.types.SignedTransaction;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import com.diem.utils.TransactionEncoder;
+import com.novi.serde.Bytes;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.Unsigned;
+
+/**
+ * <p>
+ * PreparedTransaction is a SignedTransaction together with its BCS serialized bytes, so that it is serialized
+ * only once for submitting it and for computing its hash when waiting for it.
+ * </p>
+ *
+ * <p>
+ * The hex encoded bytes and the transaction hash are computed on first access and cached; instances are
+ * immutable and can be shared between threads.
+ * </p>
+ *
+ * @see Signer#prepare(PrivateKey, com.diem.types.RawTransaction) for signing and serializing in one pass.
+ */
+public final class PreparedTransaction {
+    private final SignedTransaction transaction;
+    private final byte[] bytes;
+
+    private volatile String hex;
+    private volatile String hash;
+
+    PreparedTransaction(SignedTransaction transaction, byte[] bytes, String hex) {
+        this.transaction = transaction;
+        this.bytes = bytes;
+        this.hex = hex;
+    }
+
+    /**
+     * Serialize the given SignedTransaction.
+     */
+    public static PreparedTransaction of(SignedTransaction txn) {
+        return new PreparedTransaction(txn, TransactionEncoder.encode(txn), null);
+    }
+
+    /**
+     * @param hex hex encoded BCS serialized SignedTransaction
+     * @throws DeserializationError if the given bytes is not a SignedTransaction
+     */
+    public static PreparedTransaction fromHex(String hex) throws DeserializationError {
+        byte[] bytes = Hex.decode(hex);
+        return new PreparedTransaction(SignedTransaction.bcsDeserialize(bytes), bytes, hex);
+    }
+
+    public SignedTransaction getTransaction() {
+        return transaction;
+    }
+
+    public AccountAddress getSender() {
+        return transaction.raw_txn.sender;
+    }
+
+    public @Unsigned long getSequenceNumber() {
+        return transaction.raw_txn.sequence_number;
+    }
+
+    public @Unsigned long getExpirationTimestampSecs() {
+        return transaction.raw_txn.expiration_timestamp_secs;
+    }
+
+    /**
+     * @return BCS serialized SignedTransaction
+     */
+    public Bytes getBytes() {
+        return new Bytes(bytes);
+    }
+
+    /**
+     * @return hex encoded BCS serialized SignedTransaction, as submitted to the JSON-RPC service.
+     */
+    public String getHex() {
+        String ret = hex;
+        if (ret == null) {
+            ret = Hex.encode(bytes);
+            hex = ret;
+        }
+        return ret;
+    }
+
+    /**
+     * @return hex encoded Transaction#hash, same as `HashUtils.transactionHash(getTransaction())`.
+     */
+    public String getHash() {
+        String ret = hash;
+        if (ret == null) {
+            ret = HashUtils.transactionHash(bytes);
+            hash = ret;
+        }
+        return ret;
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        PreparedTransaction other = (PreparedTransaction) obj;
+        return transaction.equals(other.transaction);
+    }
+
+    public int hashCode() {
+        return transaction.hashCode();
+    }
+}
@@ -0,0 +1,255 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.TransactionAuthenticator;
+import com.diem.utils.HashUtils;
+
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * <p>
+ * SignatureVerifier verifies Ed25519 and MultiEd25519 SignedTransaction signatures and dual attestation
+ * metadata signatures, one at a time by the static methods, or in batches across a pool of worker threads.
+ * </p>
+ *
+ * <p>
+ * Batches are split into chunks of `batchSize` verified by one task each, and results are returned in input
+ * order, so that each invalid signature is located. Every signature is checked individually by the
+ * `Ed25519Provider`: randomized batch equations only hold for cofactored verification and can accept
+ * signatures rejected by the cofactorless check Diem validators apply, so they are not used.
+ * </p>
+ *
+ * <p>Verify signatures of SignedTransactions received from a partner:</p>
+ * <code>
+ * try (SignatureVerifier verifier = new SignatureVerifier(Runtime.getRuntime().availableProcessors())) {
+ *     boolean[] valid = verifier.verify(txns);
+ * }
+ * </code>
+ *
+ * Unexpected verification errors are thrown as RuntimeException caused by the error of the failed batch.
+ */
+public class SignatureVerifier implements Closeable {
+
+    public static final int DEFAULT_BATCH_SIZE = BatchExecutor.DEFAULT_BATCH_SIZE;
+    // MultiEd25519 public key: 32 bytes public keys followed by 1 byte threshold.
+    // MultiEd25519 signature: 64 bytes signatures followed by 4 bytes bitmap of the keys signed.
+    public static final int MAX_NUM_OF_KEYS = 32;
+    private static final int BITMAP_SIZE = 4;
+
+    private final Ed25519Provider provider;
+    private final BatchExecutor executor;
+
+    /**
+     * Create a verifier using the default Ed25519Provider with an internal pool of the given number of threads,
+     * shutdown by `close`.
+     */
+    public SignatureVerifier(int threads) {
+        this.provider = Ed25519Provider.defaultProvider();
+        this.executor = new BatchExecutor(threads, "diem-signature-verifier");
+    }
+
+    /**
+     * @param provider  Ed25519 implementation verifying the signatures
+     * @param executor  executor running the verification batches, it is not shutdown by `close`.
+     * @param batchSize number of signatures verified by one task.
+     */
+    public SignatureVerifier(Ed25519Provider provider, ExecutorService executor, int batchSize) {
+        this.provider = provider;
+        this.executor = new BatchExecutor(executor, batchSize);
+    }
+
+    /**
+     * Verify the signature of a SignedTransaction by the default Ed25519Provider.
+     *
+     * @return true if the authenticator is Ed25519 or MultiEd25519 and its signature of the RawTransaction is valid.
+     */
+    public static boolean verify(SignedTransaction txn) {
+        return verify(Ed25519Provider.defaultProvider(), txn);
+    }
+
+    public static boolean verify(Ed25519Provider provider, SignedTransaction txn) {
+        return verify(provider, txn.authenticator, txn.raw_txn);
+    }
+
+    /**
+     * Verify the authenticator signature of the signature message of the given RawTransaction.
+     */
+    public static boolean verify(Ed25519Provider provider, TransactionAuthenticator authenticator, RawTransaction raw) {
+        return verify(provider, authenticator, HashUtils.signatureMessage(raw));
+    }
+
+    /**
+     * Verify the authenticator signature of the given message.
+     *
+     * @return false for an invalid signature, a malformed public key or signature, and unknown authenticator types.
+     */
+    public static boolean verify(Ed25519Provider provider, TransactionAuthenticator authenticator, byte[] message) {
+        if (authenticator instanceof TransactionAuthenticator.Ed25519) {
+            TransactionAuthenticator.Ed25519 ed25519 = (TransactionAuthenticator.Ed25519) authenticator;
+            return provider.verify(ed25519.public_key.value.content(), message, ed25519.signature.value.content());
+        }
+        if (authenticator instanceof TransactionAuthenticator.MultiEd25519) {
+            TransactionAuthenticator.MultiEd25519 multi = (TransactionAuthenticator.MultiEd25519) authenticator;
+            return verifyMultiEd25519(provider, multi.public_key.value.content(), message, multi.signature.value.content());
+        }
+        return false;
+    }
+
+    /**
+     * Verify a dual attestation metadata signature by the default Ed25519Provider.
+     *
+     * @param compliancePublicKey Ed25519 compliance public key of the receiver account.
+     * @param signatureMessage    `TransactionMetadata#getSignatureMessage()`
+     * @param metadataSignature   signature of the signature message
+     */
+    public static boolean verifyMetadataSignature(byte[] compliancePublicKey, byte[] signatureMessage, byte[] metadataSignature) {
+        return Ed25519Provider.defaultProvider().verify(compliancePublicKey, signatureMessage, metadataSignature);
+    }
+
+    /**
+     * Verify signatures of the given SignedTransactions.
+     *
+     * @return verification result of each transaction, in the order of `txns`
+     */
+    public boolean[] verify(List<SignedTransaction> txns) {
+        boolean[] ret = new boolean[txns.size()];
+        executor.run(ret.length, i -> ret[i] = verify(provider, txns.get(i)));
+        return ret;
+    }
+
+    /**
+     * Verify metadata signatures, `metadataSignatures.get(i)` is the signature of `signatureMessages.get(i)` by
+     * `compliancePublicKeys.get(i)`.
+     *
+     * @return verification result of each signature, in the order of the given lists
+     */
+    public boolean[] verifyMetadataSignatures(List<byte[]> compliancePublicKeys, List<byte[]> signatureMessages,
+                                              List<byte[]> metadataSignatures) {
+        if (compliancePublicKeys.size() != signatureMessages.size() || signatureMessages.size() != metadataSignatures.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "expect one public key and signature per message, but given %d keys and %d signatures for %d messages",
+                    compliancePublicKeys.size(), metadataSignatures.size(), signatureMessages.size()));
+        }
+        boolean[] ret = new boolean[signatureMessages.size()];
+        executor.run(ret.length, i -> ret[i] = provider.verify(
+                compliancePublicKeys.get(i), signatureMessages.get(i), metadataSignatures.get(i)));
+        return ret;
+    }
+
+    /**
+     * Verify metadata signatures of travel rule payments signed by one receiver, `metadataSignatures.get(i)` is
+     * the signature of the signature message of the payment at index i.
+     *
+     * @param compliancePublicKey Ed25519 compliance public key of the receiver account.
+     * @return verification result of each payment, in the order of `messages`
+     */
+    public boolean[] verifyMetadataSignatures(TravelRuleMessages messages, byte[] compliancePublicKey,
+                                              List<byte[]> metadataSignatures) {
+        return verifyMetadataSignatures(messages, Collections.nCopies(messages.size(), compliancePublicKey), metadataSignatures);
+    }
+
+    /**
+     * Verify metadata signatures of travel rule payments, `metadataSignatures.get(i)` is the signature of the
+     * signature message of the payment at index i by `compliancePublicKeys.get(i)`.
+     * Messages are verified in place in the buffer of `messages`, which must not be modified until this returns.
+     *
+     * @return verification result of each payment, in the order of `messages`
+     */
+    public boolean[] verifyMetadataSignatures(TravelRuleMessages messages, List<byte[]> compliancePublicKeys,
+                                              List<byte[]> metadataSignatures) {
+        if (compliancePublicKeys.size() != messages.size() || messages.size() != metadataSignatures.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "expect one public key and signature per message, but given %d keys and %d signatures for %d messages",
+                    compliancePublicKeys.size(), metadataSignatures.size(), messages.size()));
+        }
+        ByteBuffer buffer = messages.buffer();
+        byte[] array;
+        int arrayOffset;
+        if (buffer.hasArray()) {
+            array = buffer.array();
+            arrayOffset = buffer.arrayOffset() + buffer.position();
+        } else {
+            // direct buffer, copy all messages once
+            array = new byte[buffer.remaining()];
+            buffer.duplicate().get(array);
+            arrayOffset = 0;
+        }
+        int[] offsets = new int[messages.size()];
+        int[] lengths = new int[messages.size()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = arrayOffset + messages.offset(i);
+            lengths[i] = messages.length(i);
+        }
+        boolean[] ret = new boolean[offsets.length];
+        executor.run(ret.length, i -> ret[i] = provider.verify(
+                compliancePublicKeys.get(i), array, offsets[i], lengths[i], metadataSignatures.get(i)));
+        return ret;
+    }
+
+    /**
+     * @return indexes of the false results, empty if all are true.
+     */
+    public static List<Integer> failures(boolean[] results) {
+        List<Integer> ret = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (!results[i]) {
+                ret.add(i);
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Shutdown the internal executor if there is one.
+     */
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    static boolean verifyMultiEd25519(Ed25519Provider provider, byte[] publicKey, byte[] message, byte[] signature) {
+        int numOfKeys = (publicKey.length - 1) / Ed25519Provider.PUBLIC_KEY_SIZE;
+        if (publicKey.length != numOfKeys * Ed25519Provider.PUBLIC_KEY_SIZE + 1
+                || numOfKeys == 0 || numOfKeys > MAX_NUM_OF_KEYS) {
+            return false;
+        }
+        int threshold = publicKey[publicKey.length - 1] & 0xff;
+        if (threshold == 0 || threshold > numOfKeys) {
+            return false;
+        }
+        int numOfSignatures = (signature.length - BITMAP_SIZE) / Ed25519Provider.SIGNATURE_SIZE;
+        if (signature.length != numOfSignatures * Ed25519Provider.SIGNATURE_SIZE + BITMAP_SIZE
+                || numOfSignatures < threshold) {
+            return false;
+        }
+        int bitmapOffset = signature.length - BITMAP_SIZE;
+        byte[] key = new byte[Ed25519Provider.PUBLIC_KEY_SIZE];
+        byte[] sig = new byte[Ed25519Provider.SIGNATURE_SIZE];
+        int signed = 0;
+        for (int i = 0; i < MAX_NUM_OF_KEYS; i++) {
+            // bit i, from the most significant bit of the first byte, is set if the key i signed
+            if ((signature[bitmapOffset + i / 8] & (0x80 >>> (i % 8))) == 0) {
+                continue;
+            }
+            if (i >= numOfKeys || signed == numOfSignatures) {
+                return false;
+            }
+            System.arraycopy(publicKey, i * Ed25519Provider.PUBLIC_KEY_SIZE, key, 0, key.length);
+            System.arraycopy(signature, signed * Ed25519Provider.SIGNATURE_SIZE, sig, 0, sig.length);
+            if (!provider.verify(key, message, sig)) {
+                return false;
+            }
+            signed++;
+        }
+        return signed == numOfSignatures;
+    }
+}
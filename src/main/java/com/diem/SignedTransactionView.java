@@ -0,0 +1,320 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccountAddress;
+import com.diem.types.ChainId;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.TransactionAuthenticator;
+import com.diem.types.TransactionPayload;
+import com.diem.utils.Hex;
+import com.novi.bcs.BcsDeserializer;
+import com.novi.bcs.BcsSerializer;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.Deserializer;
+import com.novi.serde.Unsigned;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * SignedTransactionView reads the header fields of a BCS serialized SignedTransaction without deserializing it.
+ * </p>
+ *
+ * <p>
+ * `sender` and `sequence_number` are at a fixed position and are decoded directly. The fields after the
+ * payload (gas, currency, expiration, chain id) are located by skipping over the payload once, without
+ * materializing scripts, arguments nor type tags; the payload and authenticator are only deserialized
+ * when asked for.
+ * </p>
+ *
+ * The view wraps the given array without copying it, the array must not be modified while the view is in use.
+ * Instances are not thread-safe.
+ */
+public class SignedTransactionView {
+    private static final int SENDER_OFFSET = 0;
+    private static final int SEQUENCE_NUMBER_OFFSET = 16;
+    private static final int PAYLOAD_OFFSET = 24;
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+
+    // offsets relative to `offset`, resolved on first access to a field after the payload.
+    private int maxGasAmountOffset = -1;
+    private int gasCurrencyCodeOffset;
+    private int expirationOffset;
+    private int authenticatorOffset;
+
+    private AccountAddress sender;
+
+    /**
+     * @param bytes BCS serialized SignedTransaction
+     */
+    public SignedTransactionView(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param bytes  array holding a BCS serialized SignedTransaction
+     * @param offset start of the SignedTransaction in the array
+     * @param length length of the SignedTransaction
+     */
+    public SignedTransactionView(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException(String.format("offset %d and length %d out of array of %d bytes", offset, length, bytes.length));
+        }
+        if (length < PAYLOAD_OFFSET + 1) {
+            throw new IllegalArgumentException(String.format("SignedTransaction should be at least %d bytes, but given %d bytes", PAYLOAD_OFFSET + 1, length));
+        }
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @param hex hex encoded BCS serialized SignedTransaction, as submitted by `DiemClient#submit(String)`.
+     */
+    public static SignedTransactionView fromHex(String hex) {
+        return new SignedTransactionView(Hex.decode(hex));
+    }
+
+    public AccountAddress getSender() {
+        if (sender == null) {
+            sender = AccountAddress.valueOf(bytes, offset + SENDER_OFFSET);
+        }
+        return sender;
+    }
+
+    public @Unsigned long getSequenceNumber() {
+        return readLong(SEQUENCE_NUMBER_OFFSET);
+    }
+
+    /**
+     * @return the TransactionPayload variant index: 0 WriteSet, 1 Script, 2 Module, 3 ScriptFunction.
+     */
+    public int getPayloadVariantIndex() throws DeserializationError {
+        return new Cursor(PAYLOAD_OFFSET).readUleb128();
+    }
+
+    public @Unsigned long getMaxGasAmount() throws DeserializationError {
+        resolve();
+        return readLong(maxGasAmountOffset);
+    }
+
+    public @Unsigned long getGasUnitPrice() throws DeserializationError {
+        resolve();
+        return readLong(maxGasAmountOffset + 8);
+    }
+
+    public String getGasCurrencyCode() throws DeserializationError {
+        resolve();
+        Cursor cursor = new Cursor(gasCurrencyCodeOffset);
+        int len = cursor.readUleb128();
+        return new String(bytes, offset + cursor.position, len, StandardCharsets.UTF_8);
+    }
+
+    public @Unsigned long getExpirationTimestampSecs() throws DeserializationError {
+        resolve();
+        return readLong(expirationOffset);
+    }
+
+    public ChainId getChainId() throws DeserializationError {
+        resolve();
+        return new ChainId(bytes[offset + expirationOffset + 8]);
+    }
+
+    /**
+     * Fully deserialize the payload.
+     */
+    public TransactionPayload getPayload() throws DeserializationError {
+        resolve();
+        return TransactionPayload.deserialize(deserializer(PAYLOAD_OFFSET, maxGasAmountOffset));
+    }
+
+    public TransactionAuthenticator getAuthenticator() throws DeserializationError {
+        resolve();
+        return TransactionAuthenticator.deserialize(deserializer(authenticatorOffset, length));
+    }
+
+    /**
+     * @return a copy of the BCS serialized RawTransaction, e.g. for building its signature message.
+     */
+    public byte[] getRawTransactionBytes() throws DeserializationError {
+        resolve();
+        return Arrays.copyOfRange(bytes, offset, offset + authenticatorOffset);
+    }
+
+    public RawTransaction toRawTransaction() throws DeserializationError {
+        return RawTransaction.deserialize(deserializer(0, length));
+    }
+
+    public SignedTransaction toSignedTransaction() throws DeserializationError {
+        Deserializer deserializer = deserializer(0, length);
+        SignedTransaction txn = SignedTransaction.deserialize(deserializer);
+        if (deserializer.get_buffer_offset() < length) {
+            throw new DeserializationError("Some input bytes were not read");
+        }
+        return txn;
+    }
+
+    private Deserializer deserializer(int from, int to) {
+        return new BcsDeserializer(bytes, offset + from, to - from);
+    }
+
+    private long readLong(int at) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (bytes[offset + at + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private void resolve() throws DeserializationError {
+        if (maxGasAmountOffset >= 0) {
+            return;
+        }
+        Cursor cursor = new Cursor(PAYLOAD_OFFSET);
+        cursor.skipPayload();
+        int maxGasAmount = cursor.position;
+        cursor.skip(16);
+        int gasCurrencyCode = cursor.position;
+        cursor.skip(cursor.readUleb128());
+        int expiration = cursor.position;
+        cursor.skip(8 + 1);
+
+        this.gasCurrencyCodeOffset = gasCurrencyCode;
+        this.expirationOffset = expiration;
+        this.authenticatorOffset = cursor.position;
+        this.maxGasAmountOffset = maxGasAmount;
+    }
+
+    // Walks over the BCS layout of a RawTransaction payload without decoding values.
+    private class Cursor {
+        int position;
+        int depth;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        void skip(int n) throws DeserializationError {
+            if (n < 0 || n > length - position) {
+                throw new DeserializationError("Input is too short");
+            }
+            position += n;
+        }
+
+        int readUleb128() throws DeserializationError {
+            long value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (position >= length) {
+                    throw new DeserializationError("Input is too short");
+                }
+                int x = bytes[offset + position++];
+                long digit = x & 0x7F;
+                value |= (digit << shift);
+                if (value > Integer.MAX_VALUE) {
+                    throw new DeserializationError("Overflow while parsing uleb128-encoded uint32 value");
+                }
+                if (digit == x) {
+                    if (shift > 0 && digit == 0) {
+                        throw new DeserializationError("Invalid uleb128 number (unexpected zero digit)");
+                    }
+                    return (int) value;
+                }
+            }
+            throw new DeserializationError("Overflow while parsing uleb128-encoded uint32 value");
+        }
+
+        void skipBytes() throws DeserializationError {
+            skip(readUleb128());
+        }
+
+        void skipPayload() throws DeserializationError {
+            int start = position;
+            switch (readUleb128()) {
+                case 0:
+                    // WriteSet payloads are rare and deeply nested, deserialize them to find their end.
+                    Deserializer deserializer = deserializer(start, length);
+                    TransactionPayload.deserialize(deserializer);
+                    position = start + deserializer.get_buffer_offset();
+                    break;
+                case 1:
+                    skipBytes();
+                    skipTypeTags();
+                    skipTransactionArguments();
+                    break;
+                case 2:
+                    skipBytes();
+                    break;
+                case 3:
+                    skip(16);
+                    skipBytes();
+                    skipBytes();
+                    skipTypeTags();
+                    int count = readUleb128();
+                    for (int i = 0; i < count; i++) {
+                        skipBytes();
+                    }
+                    break;
+                default:
+                    throw new DeserializationError("Unknown variant index for TransactionPayload");
+            }
+        }
+
+        void skipTypeTags() throws DeserializationError {
+            int count = readUleb128();
+            for (int i = 0; i < count; i++) {
+                skipTypeTag();
+            }
+        }
+
+        void skipTypeTag() throws DeserializationError {
+            if (++depth > BcsSerializer.MAX_CONTAINER_DEPTH) {
+                throw new DeserializationError("Exceeded maximum container depth");
+            }
+            switch (readUleb128()) {
+                case 0: case 1: case 2: case 3: case 4: case 5:
+                    break;
+                case 6:
+                    skipTypeTag();
+                    break;
+                case 7:
+                    skip(16);
+                    skipBytes();
+                    skipBytes();
+                    skipTypeTags();
+                    break;
+                default:
+                    throw new DeserializationError("Unknown variant index for TypeTag");
+            }
+            depth--;
+        }
+
+        void skipTransactionArguments() throws DeserializationError {
+            int count = readUleb128();
+            for (int i = 0; i < count; i++) {
+                switch (readUleb128()) {
+                    case 0: case 5:
+                        skip(1);
+                        break;
+                    case 1:
+                        skip(8);
+                        break;
+                    case 2: case 3:
+                        skip(16);
+                        break;
+                    case 4:
+                        skipBytes();
+                        break;
+                    default:
+                        throw new DeserializationError("Unknown variant index for TransactionArgument");
+                }
+            }
+        }
+    }
+}
@@ -6,6 +6,11 @@ package com.diem;
 import com.diem.types.*;
 import com.novi.serde.Bytes;
 import com.diem.utils.HashUtils;
+import com.diem.utils.TransactionEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class Signer {
     public static SignedTransaction sign(PrivateKey privateKey, RawTransaction raw) {
@@ -16,4 +21,78 @@ public class Signer {
                 )
         );
     }
+
+    /**
+     * Sign the RawTransaction and serialize the SignedTransaction in one pass: the RawTransaction is encoded once
+     * for its signature message and the encoded bytes are reused for the SignedTransaction.
+     *
+     * @return PreparedTransaction of the same SignedTransaction as `sign(privateKey, raw)`
+     */
+    public static PreparedTransaction prepare(PrivateKey privateKey, RawTransaction raw) {
+        byte[] message = HashUtils.signatureMessage(raw);
+        return prepare(raw, message, privateKey.publicKey(), privateKey.sign(message));
+    }
+
+    /**
+     * Sign RawTransactions by the AsyncSigner in one batch.
+     *
+     * @return future of the SignedTransactions in the order of `raws`, it completes exceptionally if the signer failed.
+     */
+    public static CompletableFuture<List<SignedTransaction>> signAsync(AsyncSigner signer, List<RawTransaction> raws) {
+        List<byte[]> messages = new ArrayList<>(raws.size());
+        for (RawTransaction raw : raws) {
+            messages.add(HashUtils.signatureMessage(raw));
+        }
+        Ed25519PublicKey publicKey = new Ed25519PublicKey(new Bytes(signer.publicKey()));
+        return signer.sign(messages).thenApply(signatures -> {
+            checkSignatures(raws.size(), signatures);
+            List<SignedTransaction> ret = new ArrayList<>(raws.size());
+            for (int i = 0; i < raws.size(); i++) {
+                ret.add(new SignedTransaction(raws.get(i), new TransactionAuthenticator.Ed25519(
+                        publicKey, new Ed25519Signature(new Bytes(signatures.get(i))))));
+            }
+            return ret;
+        });
+    }
+
+    /**
+     * Same as `signAsync`, but returns PreparedTransactions serialized in one pass as `prepare` does.
+     */
+    public static CompletableFuture<List<PreparedTransaction>> prepareAsync(AsyncSigner signer, List<RawTransaction> raws) {
+        List<byte[]> messages = new ArrayList<>(raws.size());
+        for (RawTransaction raw : raws) {
+            messages.add(HashUtils.signatureMessage(raw));
+        }
+        byte[] publicKey = signer.publicKey();
+        return signer.sign(messages).thenApply(signatures -> {
+            checkSignatures(raws.size(), signatures);
+            List<PreparedTransaction> ret = new ArrayList<>(raws.size());
+            for (int i = 0; i < raws.size(); i++) {
+                ret.add(prepare(raws.get(i), messages.get(i), publicKey, signatures.get(i)));
+            }
+            return ret;
+        });
+    }
+
+    private static PreparedTransaction prepare(RawTransaction raw, byte[] message, byte[] publicKey, byte[] signature) {
+        TransactionAuthenticator authenticator = new TransactionAuthenticator.Ed25519(
+                new Ed25519PublicKey(new Bytes(publicKey)),
+                new Ed25519Signature(new Bytes(signature))
+        );
+        // the signature message is the hash prefix followed by the BCS serialized RawTransaction
+        int rawLength = raw.serializedSize();
+        int prefixLength = message.length - rawLength;
+        byte[] bytes = new byte[rawLength + authenticator.serializedSize()];
+        System.arraycopy(message, prefixLength, bytes, 0, rawLength);
+        TransactionEncoder.encode(authenticator, bytes, rawLength);
+        return new PreparedTransaction(new SignedTransaction(raw, authenticator), bytes, null);
+    }
+
+    private static void checkSignatures(int expected, List<byte[]> signatures) {
+        if (signatures.size() != expected) {
+            throw new IllegalStateException(String.format(
+                    "signer should return one signature per message, but returned %d signatures for %d messages",
+                    signatures.size(), expected));
+        }
+    }
 }
@@ -5,19 +5,36 @@ package com.diem;
 
 import com.diem.utils.Hex;
 
+import java.security.SecureRandom;
 import java.util.Arrays;
-import java.util.Random;
 
 /**
  * SubAddress is 8 bytes.
+ *
+ * `generate` creates a random sub-address without uniqueness check, use `SubAddressAllocator` for issuing
+ * unique sub-addresses.
  */
 public class SubAddress {
 
     public static final int SUB_ADDRESS_LENGTH = 8;
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public static SubAddress generate() {
         byte[] b = new byte[SUB_ADDRESS_LENGTH];
-        new Random().nextBytes(b);
+        RANDOM.nextBytes(b);
+        return new SubAddress(b);
+    }
+
+    /**
+     * @param value sub-address bytes as a big-endian long
+     */
+    public static SubAddress valueOf(long value) {
+        byte[] b = new byte[SUB_ADDRESS_LENGTH];
+        for (int i = SUB_ADDRESS_LENGTH - 1; i >= 0; i--) {
+            b[i] = (byte) value;
+            value >>>= 8;
+        }
         return new SubAddress(b);
     }
 
@@ -42,6 +59,17 @@ public class SubAddress {
         return bytes;
     }
 
+    /**
+     * @return sub-address bytes as a big-endian long
+     */
+    public long toLong() {
+        long value = 0;
+        for (byte b : bytes) {
+            value = (value << 8) | (b & 0xFF);
+        }
+        return value;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,318 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.function.LongConsumer;
+
+import static com.diem.SubAddress.SUB_ADDRESS_LENGTH;
+
+/**
+ * <p>
+ * SubAddressAllocator issues random sub-addresses that are unique among all sub-addresses it has issued or
+ * registered, without a database round trip per sub-address.
+ * </p>
+ *
+ * <p>
+ * Sub-addresses are drawn from a SecureRandom per thread, and checked against an in-memory set of 8 bytes
+ * values (`LongTable` without values, striped by hash with one lock per stripe). The all-zero sub-address
+ * means "no sub-address" and is never issued. With a `Store`, issued sub-addresses are appended to the store
+ * before they are returned, and loaded back when the allocator is created, so uniqueness holds across restarts.
+ * </p>
+ *
+ * <p>
+ * With a block size, sub-addresses are pre-generated by blocks: when the current block is used up, the next one
+ * is drawn, reserved and appended to the store at once, then handed out by following calls, so that issuing one
+ * sub-address costs no store append (and no sync) most of the time. Pre-generated sub-addresses count as used, the ones not handed out before the
+ * allocator is discarded are never issued.
+ * </p>
+ *
+ * <p>Issue deposit addresses in bulk:</p>
+ * <code>
+ * try (SubAddressAllocator allocator = new SubAddressAllocator(new SubAddressAllocator.FileStore(path))) {
+ *     byte[] subAddresses = allocator.allocateBlock(1000);
+ *     String[] ids = AccountIdentifier.encodeV1(prefix, address, subAddresses);
+ * }
+ * </code>
+ *
+ * If a store append fails, the sub-addresses of the call stay reserved in memory and are never issued, and
+ * UncheckedIOException is thrown.
+ */
+public class SubAddressAllocator implements Closeable {
+
+    /**
+     * Store persists issued sub-addresses as big-endian longs; implementations are called under a lock.
+     */
+    public interface Store extends Closeable {
+        /**
+         * Feed all stored sub-addresses to the consumer.
+         */
+        void load(LongConsumer consumer) throws IOException;
+
+        void append(long[] subAddresses, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Store appending sub-addresses as 8 bytes records to a file.
+     */
+    public static class FileStore implements Store {
+        private final FileChannel channel;
+        private final boolean sync;
+
+        /**
+         * Open or create the file, appends are synced to the storage device.
+         */
+        public FileStore(Path path) throws IOException {
+            this(path, true);
+        }
+
+        /**
+         * @param sync force appends to the storage device before returning the sub-addresses.
+         */
+        public FileStore(Path path, boolean sync) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.sync = sync;
+        }
+
+        @Override
+        public void load(LongConsumer consumer) throws IOException {
+            long size = channel.size();
+            if (size % SUB_ADDRESS_LENGTH != 0) {
+                // partial record of an interrupted append, it was never issued
+                size -= size % SUB_ADDRESS_LENGTH;
+                channel.truncate(size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(SUB_ADDRESS_LENGTH * 1024);
+            long position = 0;
+            while (position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                position += read;
+                buffer.flip();
+                while (buffer.remaining() >= SUB_ADDRESS_LENGTH) {
+                    consumer.accept(buffer.getLong());
+                }
+                position -= buffer.remaining();
+            }
+            channel.position(size);
+        }
+
+        @Override
+        public void append(long[] subAddresses, int offset, int length) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length * SUB_ADDRESS_LENGTH);
+            for (int i = offset; i < offset + length; i++) {
+                buffer.putLong(subAddresses[i]);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (sync) {
+                channel.force(false);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    public static final int DEFAULT_STRIPES = 16;
+
+    private final LongTable[] stripes;
+    private final Store store;
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+    // pre-generated sub-addresses, handed out from `blockIndex`; null without block size
+    private final long[] block;
+    private int blockIndex;
+
+    /**
+     * Create an in-memory allocator, uniqueness only holds for the lifetime of the allocator.
+     */
+    public SubAddressAllocator() {
+        this(null, DEFAULT_STRIPES, 0);
+    }
+
+    /**
+     * Create an allocator persisting issued sub-addresses in the store, after loading the stored ones.
+     */
+    public SubAddressAllocator(Store store) throws IOException {
+        this(store, 0);
+    }
+
+    /**
+     * Create an allocator handing out sub-addresses from pre-generated blocks.
+     *
+     * @param store     store persisting issued sub-addresses, loaded first; null for an in-memory allocator.
+     * @param blockSize number of sub-addresses generated and appended to the store at once, 0 for no
+     *                  pre-generation.
+     * @throws IOException if the store fails to load, it is closed.
+     */
+    public SubAddressAllocator(Store store, int blockSize) throws IOException {
+        this(store, DEFAULT_STRIPES, blockSize);
+        if (store != null) {
+            try {
+                store.load(this::add);
+            } catch (IOException | RuntimeException e) {
+                try {
+                    store.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private SubAddressAllocator(Store store, int stripes, int blockSize) {
+        if (blockSize < 0) {
+            throw new IllegalArgumentException(String.format("block size should be non-negative, but given %d", blockSize));
+        }
+        this.store = store;
+        this.stripes = new LongTable[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new LongTable(32, false);
+        }
+        this.block = blockSize == 0 ? null : new long[blockSize];
+        this.blockIndex = blockSize;
+    }
+
+    /**
+     * Issue one unique sub-address.
+     */
+    public SubAddress allocate() {
+        long[] values = new long[1];
+        allocate(values, 0, 1);
+        return SubAddress.valueOf(values[0]);
+    }
+
+    /**
+     * Issue `count` unique sub-addresses with at most one store append.
+     *
+     * @return concatenated 8 bytes sub-addresses, as taken by `AccountIdentifier.encodeV1(prefix, address, subAddresses)`
+     */
+    public byte[] allocateBlock(int count) {
+        if (count < 0 || count > Integer.MAX_VALUE / SUB_ADDRESS_LENGTH) {
+            throw new IllegalArgumentException(String.format("invalid number of sub-addresses: %d", count));
+        }
+        long[] values = new long[count];
+        allocate(values, 0, count);
+        ByteBuffer ret = ByteBuffer.allocate(count * SUB_ADDRESS_LENGTH);
+        for (long value : values) {
+            ret.putLong(value);
+        }
+        return ret.array();
+    }
+
+    /**
+     * Issue `length` unique sub-addresses as big-endian longs into `dst` from `offset`, with at most one store
+     * append: they are taken from the pre-generated block first if there is one.
+     */
+    public void allocate(long[] dst, int offset, int length) {
+        if (block == null) {
+            generate(dst, offset, length);
+            return;
+        }
+        synchronized (block) {
+            int taken = Math.min(length, block.length - blockIndex);
+            System.arraycopy(block, blockIndex, dst, offset, taken);
+            blockIndex += taken;
+            int rest = length - taken;
+            if (rest >= block.length) {
+                generate(dst, offset + taken, rest);
+            } else if (rest > 0) {
+                generate(block, 0, block.length);
+                System.arraycopy(block, 0, dst, offset + taken, rest);
+                blockIndex = rest;
+            }
+        }
+    }
+
+    // Draw, reserve and persist `length` new sub-addresses into `dst` from `offset`.
+    private void generate(long[] dst, int offset, int length) {
+        SecureRandom random = this.random.get();
+        for (int i = offset; i < offset + length; i++) {
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value == 0 || !add(value));
+            dst[i] = value;
+        }
+        if (store != null && length > 0) {
+            try {
+                synchronized (store) {
+                    store.append(dst, offset, length);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Mark a sub-address issued by another system as used, so that it is never issued.
+     * It is kept in memory only, register it again after restart.
+     *
+     * @return false if it is already used.
+     */
+    public boolean register(SubAddress subAddress) {
+        return add(subAddress.toLong());
+    }
+
+    public boolean contains(SubAddress subAddress) {
+        long value = subAddress.toLong();
+        LongTable set = stripe(value);
+        synchronized (set) {
+            return set.contains(value);
+        }
+    }
+
+    /**
+     * @return number of used sub-addresses.
+     */
+    public long size() {
+        long ret = 0;
+        for (LongTable set : stripes) {
+            synchronized (set) {
+                ret += set.size();
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Close the store if there is one.
+     */
+    @Override
+    public void close() throws IOException {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    private boolean add(long value) {
+        if (value == 0) {
+            return false;
+        }
+        LongTable set = stripe(value);
+        synchronized (set) {
+            return set.add(value);
+        }
+    }
+
+    private LongTable stripe(long value) {
+        return stripes[(int) ((LongTable.mix(value) >>> 32) % stripes.length)];
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * SubAddressIndex maps sub-addresses to customer ids in memory, for resolving the owner of a deposit.
+ * </p>
+ *
+ * <p>
+ * Entries are kept in a `LongTable` with values (open addressing over two parallel `long[]`, sub-address as a
+ * big-endian long), 16 bytes per slot with no object per entry; lookups take a shared read lock and can run concurrently.
+ * The all-zero sub-address means "no sub-address" and can not be indexed; customer ids are non-negative, so that
+ * a negative default value of `get` always means the sub-address is not indexed.
+ * </p>
+ */
+public class SubAddressIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongTable table;
+
+    public SubAddressIndex() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedSize number of entries the index holds without resizing.
+     */
+    public SubAddressIndex(int expectedSize) {
+        table = new LongTable(expectedSize, true);
+    }
+
+    /**
+     * Map the sub-address to the customer id, replacing the existing mapping if any.
+     *
+     * @throws IllegalArgumentException if the sub-address is all zero, or the customer id is negative.
+     */
+    public void put(SubAddress subAddress, long customerId) {
+        put(subAddress.toLong(), customerId);
+    }
+
+    /**
+     * @param subAddress sub-address bytes as a big-endian long, see `SubAddress.toLong`.
+     */
+    public void put(long subAddress, long customerId) {
+        if (subAddress == 0) {
+            throw new IllegalArgumentException("the all-zero sub-address can not be indexed");
+        }
+        if (customerId < 0) {
+            throw new IllegalArgumentException(String.format("customer id should be non-negative, but given %d", customerId));
+        }
+        lock.writeLock().lock();
+        try {
+            table.put(subAddress, customerId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return customer id of the sub-address, or `defaultValue` if it is not indexed.
+     */
+    public long get(SubAddress subAddress, long defaultValue) {
+        return get(subAddress.toLong(), defaultValue);
+    }
+
+    public long get(long subAddress, long defaultValue) {
+        if (subAddress == 0) {
+            return defaultValue;
+        }
+        lock.readLock().lock();
+        try {
+            return table.get(subAddress, defaultValue);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(SubAddress subAddress) {
+        long key = subAddress.toLong();
+        if (key == 0) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return table.contains(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -11,12 +11,11 @@ import com.novi.serde.Bytes;
 import com.novi.serde.DeserializationError;
 import com.novi.serde.SerializationError;
 import com.novi.serde.Unsigned;
+import com.diem.utils.AccountAddressUtils;
 import com.diem.utils.Hex;
 
 import java.util.Optional;
 
-import static com.google.common.primitives.Bytes.concat;
-
 /**
  * <p>Utils for creating peer to peer transaction metadata.</p>
  *
@@ -37,24 +36,10 @@ public class TransactionMetadata {
             String offChainReferenceId,
             AccountAddress senderAccountAddress, @Unsigned long amount
     ) {
-        Metadata.TravelRuleMetadata travelRuleMetadata = new Metadata.TravelRuleMetadata(
-                new TravelRuleMetadata.TravelRuleMetadataVersion0(
-                        new TravelRuleMetadataV0(Optional.of(offChainReferenceId))));
-
         // receiver_lcs_data = lcs(metadata, sender_address, amount, "@@$$DIEM_ATTEST$$@@" /*ASCII-encoded string*/);
-        BcsSerializer serializer = new BcsSerializer();
-        try {
-            travelRuleMetadata.serialize(serializer);
-
-            byte[] metadataBytes = serializer.get_bytes();
-
-            senderAccountAddress.serialize(serializer);
-            serializer.serialize_u64(amount);
-
-            byte[] signatureMessage = concat(serializer.get_bytes(), "@@$$DIEM_ATTEST$$@@".getBytes());
-            return new TransactionMetadata(metadataBytes, signatureMessage);
-        } catch (SerializationError e) {
-            throw new RuntimeException(e);
+        try (TravelRuleMessages messages = new TravelRuleMessages()) {
+            messages.add(offChainReferenceId, senderAccountAddress, amount);
+            return messages.transactionMetadata(0);
         }
     }
 
@@ -128,7 +113,7 @@ public class TransactionMetadata {
             return null;
         }
 
-        String address = Hex.encode(receiver.value);
+        String address = AccountAddressUtils.hex(receiver);
 
         for (JsonRpc.Event event : transaction.getEventsList()) {
             if ("receivedpayment".equalsIgnoreCase(event.getData().getType()) && address.equalsIgnoreCase(event.getData().getReceiver())) {
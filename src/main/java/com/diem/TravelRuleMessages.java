@@ -0,0 +1,169 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccountAddress;
+import com.diem.types.Metadata;
+import com.diem.types.TravelRuleMetadata;
+import com.diem.types.TravelRuleMetadataV0;
+import com.novi.bcs.BcsSerializer;
+import com.novi.serde.BufferAllocator;
+import com.novi.serde.SerializationError;
+import com.novi.serde.Unsigned;
+
+import java.io.Closeable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * <p>
+ * TravelRuleMessages builds travel rule metadata and dual attestation signature messages of many payments into
+ * one buffer, for signing or verifying the metadata signatures of a settlement window in a batch.
+ * </p>
+ *
+ * <p>
+ * The signature message of a payment is `bcs(metadata, sender_address, amount) || "@@$$DIEM_ATTEST$$@@"`, same as
+ * `TransactionMetadata.createTravelRuleMetadata`, and the metadata is its prefix. All messages are serialized back
+ * to back by one BcsSerializer, which can write into buffers of a `com.novi.serde.BufferPool`; `clear` keeps the
+ * buffer for the next batch, and `close` releases it to the pool.
+ * </p>
+ *
+ * <p>Verify compliance key signatures of a settlement window:</p>
+ * <code>
+ * try (TravelRuleMessages messages = new TravelRuleMessages(pool)) {
+ *     for (Payment p : payments) {
+ *         messages.add(p.referenceId, p.sender, p.amount);
+ *     }
+ *     boolean[] valid = verifier.verifyMetadataSignatures(messages, receiverCompliancePublicKey, signatures);
+ * }
+ * </code>
+ *
+ * Instances are not thread-safe, the buffer views may be read concurrently until the next `add`, `clear` or `close`.
+ */
+public final class TravelRuleMessages implements Closeable {
+
+    private static final byte[] DOMAIN_SEPARATOR = "@@$$DIEM_ATTEST$$@@".getBytes(StandardCharsets.US_ASCII);
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final BcsSerializer serializer;
+    // offsets[i] is the start of the message i, offsets[size] the end of the last message
+    private int[] offsets = new int[17];
+    private int[] metadataLengths = new int[16];
+    private int size;
+
+    /**
+     * Build messages into heap buffers.
+     */
+    public TravelRuleMessages() {
+        this.serializer = new BcsSerializer(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Build messages into buffers of the allocator, e.g. a `BufferPool`, released by `close`.
+     */
+    public TravelRuleMessages(BufferAllocator allocator) {
+        this.serializer = new BcsSerializer(allocator, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Append the travel rule metadata and signature message of a payment.
+     *
+     * @param offChainReferenceId  Get this id from off-chain API communication.
+     * @param senderAccountAddress sender account address
+     * @param amount               transfer amount
+     * @return index of the payment
+     */
+    public int add(String offChainReferenceId, AccountAddress senderAccountAddress, @Unsigned long amount) {
+        if (size == metadataLengths.length) {
+            metadataLengths = Arrays.copyOf(metadataLengths, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2 + 1);
+        }
+        Metadata.TravelRuleMetadata metadata = new Metadata.TravelRuleMetadata(
+                new TravelRuleMetadata.TravelRuleMetadataVersion0(
+                        new TravelRuleMetadataV0(Optional.of(offChainReferenceId))));
+        int start = offsets[size];
+        try {
+            metadata.serialize(serializer);
+            metadataLengths[size] = serializer.get_buffer_offset() - start;
+            senderAccountAddress.serialize(serializer);
+            serializer.serialize_u64(amount);
+            for (byte b : DOMAIN_SEPARATOR) {
+                serializer.serialize_u8(b);
+            }
+        } catch (SerializationError e) {
+            throw new RuntimeException(e);
+        }
+        offsets[++size] = serializer.get_buffer_offset();
+        return size - 1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return view of all signature messages, the message at index i is `length(i)` bytes from `offset(i)`.
+     */
+    public ByteBuffer buffer() {
+        return serializer.get_byte_buffer();
+    }
+
+    public int offset(int index) {
+        return offsets[index(index)];
+    }
+
+    /**
+     * @return signature message length of the payment at the index.
+     */
+    public int length(int index) {
+        return offsets[index(index) + 1] - offsets[index];
+    }
+
+    /**
+     * @return view of the signature message of the payment at the index, without copying.
+     */
+    public ByteBuffer signatureMessage(int index) {
+        ByteBuffer ret = buffer();
+        ((Buffer) ret).position(offset(index));
+        ((Buffer) ret).limit(offsets[index + 1]);
+        return ret.slice();
+    }
+
+    /**
+     * @return metadata and signature message of the payment at the index, same as
+     * `TransactionMetadata.createTravelRuleMetadata` for the payment.
+     */
+    public TransactionMetadata transactionMetadata(int index) {
+        ByteBuffer message = signatureMessage(index);
+        byte[] signatureMessage = new byte[message.remaining()];
+        message.get(signatureMessage);
+        return new TransactionMetadata(Arrays.copyOf(signatureMessage, metadataLengths[index]), signatureMessage);
+    }
+
+    /**
+     * Remove all payments and keep the buffer for reuse.
+     */
+    public void clear() {
+        serializer.reset();
+        size = 0;
+    }
+
+    /**
+     * Release the buffer to its allocator, the instance must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        serializer.release();
+    }
+
+    private int index(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("index should be in [0, %d), but given %d", size, index));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,256 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.DiemClient;
+import com.diem.DiemException;
+import com.diem.types.AccountAddress;
+import com.novi.serde.Unsigned;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <p>
+ * AccountTransactionsIterator iterates over the whole transaction history of an account, from a start sequence
+ * number up to the account sequence number at the time the iterator is created.
+ * </p>
+ *
+ * <p>
+ * Pages are fetched by `get_account_transactions` in the background: while the caller consumes the current page,
+ * up to `readAhead` next pages are already in flight. The page size adapts to the observed page latency and
+ * payload size, between `MIN_PAGE_SIZE` and `MAX_PAGE_SIZE`.
+ * </p>
+ *
+ * <p>Iterate all transactions of an account:</p>
+ * <code>
+ * try (AccountTransactionsIterator it = new AccountTransactionsIterator(client, address, 0, true)) {
+ *     while (it.hasNext()) { process(it.next()); }
+ * }
+ * </code>
+ *
+ * Errors of the JSON-RPC calls are thrown from `hasNext` / `next` as RuntimeException caused by the DiemException.
+ */
+public class AccountTransactionsIterator implements Iterator<JsonRpc.Transaction>, Closeable {
+
+    public static final int MIN_PAGE_SIZE = 10;
+    /**
+     * Maximum page size accepted by the Diem JSON-RPC service for `get_account_transactions`.
+     */
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_READ_AHEAD = 2;
+    /**
+     * Page latency target for growing the page size.
+     */
+    public static final long TARGET_PAGE_LATENCY_MILLIS = 500;
+    /**
+     * Serialized size target of a page for growing the page size.
+     */
+    public static final long TARGET_PAGE_BYTES = 4 * 1024 * 1024;
+
+    private final DiemClient client;
+    private final AccountAddress address;
+    private final boolean includeEvents;
+    private final int readAhead;
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final long end;
+
+    private final ArrayDeque<Page> pages = new ArrayDeque<>();
+    private long nextStart;
+    private int pageSize;
+    private Iterator<JsonRpc.Transaction> current;
+    private boolean closed;
+
+    /**
+     * Create an iterator with default page size and read ahead, pages are fetched by an internal thread pool
+     * which is shutdown when the iterator is exhausted or closed.
+     */
+    public AccountTransactionsIterator(DiemClient client, AccountAddress address, @Unsigned long start,
+                                       boolean includeEvents) throws DiemException {
+        this(client, address, start, includeEvents, DEFAULT_PAGE_SIZE, DEFAULT_READ_AHEAD, null);
+    }
+
+    /**
+     * @param client        client for fetching pages, it is called concurrently when readAhead is greater than 1.
+     * @param address       account address
+     * @param start         first sequence number to iterate
+     * @param includeEvents include transaction events or not
+     * @param pageSize      initial page size
+     * @param readAhead     max number of pages fetching in the background
+     * @param executor      executor for fetching pages, null for creating an internal one.
+     * @throws DiemException if the account can't be fetched.
+     */
+    public AccountTransactionsIterator(DiemClient client, AccountAddress address, @Unsigned long start,
+                                       boolean includeEvents, int pageSize, int readAhead,
+                                       ExecutorService executor) throws DiemException {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format("page size should be in [1, %d], but given %d", MAX_PAGE_SIZE, pageSize));
+        }
+        if (readAhead < 1) {
+            throw new IllegalArgumentException(String.format("read ahead should be greater than 0, but given %d", readAhead));
+        }
+        this.client = client;
+        this.address = address;
+        this.includeEvents = includeEvents;
+        this.pageSize = pageSize;
+        this.readAhead = readAhead;
+        this.nextStart = start;
+        // fetch the account first, so that no internal executor is left running if it fails
+        JsonRpc.Account account = client.getAccount(address);
+        this.end = account == null ? start : account.getSequenceNumber();
+        if (executor == null) {
+            this.executor = Executors.newFixedThreadPool(readAhead, r -> {
+                Thread thread = new Thread(r, "diem-account-transactions");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.ownsExecutor = true;
+        } else {
+            this.executor = executor;
+            this.ownsExecutor = false;
+        }
+        schedule();
+    }
+
+    /**
+     * @return a sequential stream of the transactions, close the stream to stop fetching pages.
+     * Its size is unknown: the account history may end before `getEnd()`.
+     */
+    public Stream<JsonRpc.Transaction> stream() {
+        Spliterator<JsonRpc.Transaction> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * @return the account sequence number the iteration stops at (exclusive).
+     */
+    public long getEnd() {
+        return end;
+    }
+
+    /**
+     * @return current page size used for scheduling next pages.
+     */
+    public synchronized int getPageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current == null || !current.hasNext()) {
+            Page page = pages.poll();
+            if (page == null) {
+                close();
+                return false;
+            }
+            List<JsonRpc.Transaction> txns = page.get();
+            if (txns.isEmpty()) {
+                // the account history is shorter than expected, nothing more to fetch.
+                close();
+                return false;
+            }
+            if (txns.size() < page.limit) {
+                // server returned a partial page, fetch the rest before any page scheduled after it.
+                pages.addFirst(new Page(page.start + txns.size(), page.limit - txns.size()));
+            }
+            current = txns.iterator();
+            schedule();
+        }
+        return true;
+    }
+
+    @Override
+    public JsonRpc.Transaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Cancel pages in flight and shutdown the internal executor if there is one.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Page page : pages) {
+            page.future.cancel(true);
+        }
+        pages.clear();
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void schedule() {
+        while (!closed && pages.size() < readAhead && nextStart < end) {
+            int limit = (int) Math.min(getPageSize(), end - nextStart);
+            pages.add(new Page(nextStart, limit));
+            nextStart += limit;
+        }
+    }
+
+    private synchronized void adaptPageSize(int limit, int count, long bytes, long latencyMillis) {
+        if (limit < pageSize || count == 0) {
+            // tail or partial pages say nothing about a full page
+            return;
+        }
+        if (latencyMillis > TARGET_PAGE_LATENCY_MILLIS * 2 || bytes > TARGET_PAGE_BYTES * 2) {
+            pageSize = Math.max(MIN_PAGE_SIZE, pageSize / 2);
+        } else if (latencyMillis < TARGET_PAGE_LATENCY_MILLIS && bytes < TARGET_PAGE_BYTES) {
+            pageSize = Math.min(MAX_PAGE_SIZE, pageSize * 2);
+        }
+    }
+
+    private class Page {
+        final long start;
+        final int limit;
+        final Future<List<JsonRpc.Transaction>> future;
+
+        Page(long start, int limit) {
+            this.start = start;
+            this.limit = limit;
+            this.future = executor.submit(() -> {
+                long startedAt = System.currentTimeMillis();
+                List<JsonRpc.Transaction> txns = client.getAccountTransactions(address, start, limit, includeEvents);
+                long bytes = 0;
+                for (JsonRpc.Transaction txn : txns) {
+                    bytes += txn.getSerializedSize();
+                }
+                adaptPageSize(limit, txns.size(), bytes, System.currentTimeMillis() - startedAt);
+                return txns;
+            });
+        }
+
+        List<JsonRpc.Transaction> get() {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                close();
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+}
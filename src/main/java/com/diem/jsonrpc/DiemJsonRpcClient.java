@@ -12,7 +12,6 @@ import com.google.protobuf.Message;
 import com.google.protobuf.MessageOrBuilder;
 import com.google.protobuf.util.JsonFormat;
 import com.novi.serde.DeserializationError;
-import com.novi.serde.SerializationError;
 import com.novi.serde.Unsigned;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
@@ -26,9 +25,13 @@ import com.diem.types.AccountAddress;
 import com.diem.utils.AccountAddressUtils;
 import com.diem.utils.HashUtils;
 import com.diem.utils.Hex;
+import com.diem.utils.TransactionEncoder;
 import com.diem.DiemException;
+import com.diem.PreparedTransaction;
+import com.diem.AsyncSigner;
 import com.diem.types.ChainId;
 import com.diem.types.SignedTransaction;
+import com.diem.types.RawTransaction;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -38,8 +41,12 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DiemJsonRpcClient implements DiemClient {
 
@@ -59,6 +66,12 @@ public class DiemJsonRpcClient implements DiemClient {
     private final URI serverURL;
     private final HttpClient httpClient;
     private Retry<Response> retry;
+    // runs the blocking submissions of signed transactions, idle threads are released after 60 seconds
+    private final ExecutorService submitExecutor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "diem-json-rpc-submit");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public DiemJsonRpcClient(String serverURL, ChainId chainId) {
         this(serverURL, createDefaultHttpClient(), chainId, DEFAULT_RETRY_ON_STALE_RESPONSE);
@@ -95,6 +108,33 @@ public class DiemJsonRpcClient implements DiemClient {
         return new Builder<JsonRpc.Transaction>().parseList(resp, JsonRpc.Transaction.newBuilder());
     }
 
+    /**
+     * Same as getTransactions, but only the given top level fields of the transactions are decoded into
+     * the JsonRpc.Transaction messages, see LazyTransaction for field names. The whole response is still
+     * parsed as JSON, see LazyTransaction#toTransaction(Collection).
+     */
+    public List<JsonRpc.Transaction> getTransactions(@Unsigned long fromVersion, int limit, boolean includeEvents,
+                                                     Collection<String> fields) throws DiemException {
+        List<JsonRpc.Transaction> ret = new ArrayList<>();
+        for (LazyTransaction txn : getLazyTransactions(fromVersion, limit, includeEvents)) {
+            ret.add(txn.toTransaction(fields));
+        }
+        return ret;
+    }
+
+    /**
+     * Same as getTransactions, but the transactions nested objects are decoded when they are first accessed.
+     */
+    public List<LazyTransaction> getLazyTransactions(@Unsigned long fromVersion, int limit, boolean includeEvents)
+            throws DiemException {
+        List<Object> params = new ArrayList<>();
+        params.add(fromVersion);
+        params.add(limit);
+        params.add(includeEvents);
+
+        return parseLazyList(call(Method.get_transactions, params));
+    }
+
     @Override
     public JsonRpc.Account getAccount(String address) throws DiemException {
         List<Object> params = new ArrayList<>();
@@ -145,7 +185,7 @@ public class DiemJsonRpcClient implements DiemClient {
     @Override
     public JsonRpc.Transaction getAccountTransaction(AccountAddress address, @Unsigned long sequence, boolean includeEvents)
             throws DiemException {
-        return getAccountTransaction(Hex.encode(address.value), sequence, includeEvents);
+        return getAccountTransaction(AccountAddressUtils.hex(address), sequence, includeEvents);
     }
 
     @Override
@@ -158,7 +198,7 @@ public class DiemJsonRpcClient implements DiemClient {
     public List<JsonRpc.Transaction> getAccountTransactions(AccountAddress address, @Unsigned long start, int limit, boolean includeEvents)
             throws DiemException {
         List<Object> params = new ArrayList<>();
-        params.add(Hex.encode(address.value));
+        params.add(AccountAddressUtils.hex(address));
         params.add(start);
         params.add(limit);
         params.add(includeEvents);
@@ -167,6 +207,20 @@ public class DiemJsonRpcClient implements DiemClient {
         return new Builder<JsonRpc.Transaction>().parseList(resp, JsonRpc.Transaction.newBuilder());
     }
 
+    /**
+     * Same as getAccountTransactions, but the transactions nested objects are decoded when they are first accessed.
+     */
+    public List<LazyTransaction> getLazyAccountTransactions(AccountAddress address, @Unsigned long start, int limit,
+                                                            boolean includeEvents) throws DiemException {
+        List<Object> params = new ArrayList<>();
+        params.add(AccountAddressUtils.hex(address));
+        params.add(start);
+        params.add(limit);
+        params.add(includeEvents);
+
+        return parseLazyList(call(Method.get_account_transactions, params));
+    }
+
     @Override
     public void submit(String data) throws DiemException {
         List<Object> params = new ArrayList<>();
@@ -182,28 +236,28 @@ public class DiemJsonRpcClient implements DiemClient {
 
     @Override
     public void submit(SignedTransaction txn) throws DiemException {
-        String hex;
-        try {
-            hex = Hex.encode(txn.bcsSerialize());
-        } catch (SerializationError e) {
-            throw new RuntimeException(e);
-        }
-        submit(hex);
+        submit(Hex.encode(TransactionEncoder.encode(txn)));
+    }
+
+    /**
+     * Same as DiemClient#submit(AsyncSigner, List, Executor), submitting on the I/O threads of this client.
+     */
+    public CompletableFuture<List<PreparedTransaction>> submit(AsyncSigner signer, List<RawTransaction> txns) {
+        return submit(signer, txns, submitExecutor);
     }
 
     @Override
     public JsonRpc.Transaction waitForTransaction(String signedTxnHex, int timeout) throws DiemException {
-        byte[] bytes = Hex.decode(signedTxnHex);
-        SignedTransaction signedTransaction;
+        PreparedTransaction preparedTransaction;
 
         try {
-            signedTransaction = SignedTransaction.bcsDeserialize(bytes);
+            preparedTransaction = PreparedTransaction.fromHex(signedTxnHex);
         } catch (DeserializationError e) {
             throw new IllegalArgumentException(
                     String.format("Deserialize given hex string as SignedTransaction LCS failed: %s", e.getMessage()));
         }
 
-        return waitForTransaction(signedTransaction, timeout);
+        return waitForTransaction(preparedTransaction, timeout);
     }
 
     @Override
@@ -213,6 +267,12 @@ public class DiemJsonRpcClient implements DiemClient {
                 signedTransaction.raw_txn.expiration_timestamp_secs, timeout);
     }
 
+    @Override
+    public JsonRpc.Transaction waitForTransaction(PreparedTransaction preparedTransaction, int timeout) throws DiemException {
+        return waitForTransaction(preparedTransaction.getSender(), preparedTransaction.getSequenceNumber(),
+                preparedTransaction.getHash(), preparedTransaction.getExpirationTimestampSecs(), timeout);
+    }
+
     @Override
     public JsonRpc.Transaction waitForTransaction(String address, @Unsigned long sequence, String transactionHash,
                                                   @Unsigned long expirationTimeSec, int timeout) throws DiemException {
@@ -264,6 +324,22 @@ public class DiemJsonRpcClient implements DiemClient {
         return new Builder<JsonRpc.Event>().parseList(resp, JsonRpc.Event.newBuilder());
     }
 
+    private static List<LazyTransaction> parseLazyList(Response response) throws InvalidResponseException {
+        List<LazyTransaction> ret = new ArrayList<>();
+        if (response.getResult() != null && !response.getResult().isJsonNull()) {
+            if (!response.getResult().isJsonArray()) {
+                throw new InvalidResponseException(String.format("expect array but got something else: %s", response.getResult()));
+            }
+            for (JsonElement ele : response.getResult().getAsJsonArray()) {
+                if (!ele.isJsonObject()) {
+                    throw new InvalidResponseException(String.format("expect object but got something else: %s", ele));
+                }
+                ret.add(new LazyTransaction(ele.getAsJsonObject()));
+            }
+        }
+        return ret;
+    }
+
     private static class Builder<T extends MessageOrBuilder> {
 
         public static final JsonFormat.Parser PARSER = JsonFormat.parser().ignoringUnknownFields();
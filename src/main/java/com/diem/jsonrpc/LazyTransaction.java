@@ -0,0 +1,268 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.types.ContractEvent;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.types.TransactionPayload;
+import com.diem.types.TypeTag;
+import com.diem.utils.TransactionUtils;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.util.JsonFormat;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.Unsigned;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * LazyTransaction keeps the JSON object of a transaction returned by the JSON-RPC service and decodes its
+ * nested objects (`transaction`, `events`, `vm_status`) into JsonRpc messages only when they are first accessed.
+ * </p>
+ *
+ * <p>
+ * Scalar fields (`version`, `hash`, `bytes`, `gas_used`) and the `vm_status` / `transaction` types are read
+ * from the JSON object directly. Decoded messages are cached; instances are not thread-safe.
+ * </p>
+ *
+ * <p>
+ * The `to/getBcs*` and `getContractEvent` methods decode the hex-encoded BCS `bytes` fields into
+ * `com.diem.types` objects instead, without parsing the human-readable `transaction` and `data` objects.
+ * </p>
+ */
+public class LazyTransaction {
+
+    public static final String VERSION = "version";
+    public static final String TRANSACTION = "transaction";
+    public static final String HASH = "hash";
+    public static final String BYTES = "bytes";
+    public static final String EVENTS = "events";
+    public static final String VM_STATUS = "vm_status";
+    public static final String GAS_USED = "gas_used";
+
+    private static final JsonFormat.Parser PARSER = JsonFormat.parser().ignoringUnknownFields();
+
+    private final JsonObject json;
+
+    private JsonRpc.TransactionData transaction;
+    private JsonRpc.VMStatus vmStatus;
+    private JsonRpc.Event[] events;
+    private JsonRpc.Transaction message;
+    private Transaction bcsTransaction;
+
+    public LazyTransaction(JsonObject json) {
+        this.json = json;
+    }
+
+    /**
+     * @return the JSON object of the transaction, it must not be modified.
+     */
+    public JsonObject getJson() {
+        return json;
+    }
+
+    public @Unsigned long getVersion() {
+        return getUnsignedLong(json, VERSION);
+    }
+
+    public String getHash() {
+        return getString(json, HASH);
+    }
+
+    /**
+     * @return hex-encoded BCS bytes of the transaction
+     */
+    public String getBytes() {
+        return getString(json, BYTES);
+    }
+
+    public @Unsigned long getGasUsed() {
+        return getUnsignedLong(json, GAS_USED);
+    }
+
+    /**
+     * @return `vm_status.type` without decoding the VMStatus, empty if absent.
+     */
+    public String getVmStatusType() {
+        JsonElement status = json.get(VM_STATUS);
+        return status != null && status.isJsonObject() ? getString(status.getAsJsonObject(), "type") : "";
+    }
+
+    /**
+     * @return `transaction.type` without decoding the TransactionData, empty if absent.
+     */
+    public String getTransactionType() {
+        JsonElement txn = json.get(TRANSACTION);
+        return txn != null && txn.isJsonObject() ? getString(txn.getAsJsonObject(), "type") : "";
+    }
+
+    public JsonRpc.VMStatus getVmStatus() throws InvalidResponseException {
+        if (vmStatus == null) {
+            vmStatus = parse(json.get(VM_STATUS), JsonRpc.VMStatus.newBuilder());
+        }
+        return vmStatus;
+    }
+
+    public JsonRpc.TransactionData getTransaction() throws InvalidResponseException {
+        if (transaction == null) {
+            transaction = parse(json.get(TRANSACTION), JsonRpc.TransactionData.newBuilder());
+        }
+        return transaction;
+    }
+
+    public int getEventsCount() {
+        JsonArray array = eventsArray();
+        return array == null ? 0 : array.size();
+    }
+
+    /**
+     * Decode only the event at the given index.
+     */
+    public JsonRpc.Event getEvents(int index) throws InvalidResponseException {
+        JsonArray array = eventsArray();
+        if (array == null || index < 0 || index >= array.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getEventsCount());
+        }
+        if (events == null) {
+            events = new JsonRpc.Event[array.size()];
+        }
+        if (events[index] == null) {
+            events[index] = parse(array.get(index), JsonRpc.Event.newBuilder());
+        }
+        return events[index];
+    }
+
+    public List<JsonRpc.Event> getEventsList() throws InvalidResponseException {
+        int count = getEventsCount();
+        if (count == 0) {
+            return Collections.emptyList();
+        }
+        List<JsonRpc.Event> ret = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ret.add(getEvents(i));
+        }
+        return ret;
+    }
+
+    /**
+     * @return the transaction decoded from the BCS `bytes` field.
+     */
+    public Transaction toBcsTransaction() throws DeserializationError {
+        if (bcsTransaction == null) {
+            bcsTransaction = TransactionUtils.decodeTransaction(getBytes());
+        }
+        return bcsTransaction;
+    }
+
+    /**
+     * @return the SignedTransaction decoded from the BCS `bytes` field, null if it is not a user transaction.
+     */
+    public SignedTransaction getBcsSignedTransaction() throws DeserializationError {
+        Transaction txn = toBcsTransaction();
+        return txn instanceof Transaction.UserTransaction ? ((Transaction.UserTransaction) txn).value : null;
+    }
+
+    /**
+     * @return the RawTransaction decoded from the BCS `bytes` field, null if it is not a user transaction.
+     */
+    public RawTransaction getBcsRawTransaction() throws DeserializationError {
+        SignedTransaction txn = getBcsSignedTransaction();
+        return txn == null ? null : txn.raw_txn;
+    }
+
+    /**
+     * @return the TransactionPayload decoded from the BCS `bytes` field, null if it is not a user transaction.
+     */
+    public TransactionPayload getBcsPayload() throws DeserializationError {
+        RawTransaction txn = getBcsRawTransaction();
+        return txn == null ? null : txn.payload;
+    }
+
+    /**
+     * Decode the event at the given index from its `key`, `sequence_number` and BCS `data.bytes` fields, see
+     * TransactionUtils#decodeEvent.
+     *
+     * @param typeTag type tag of the Move struct emitted as event data
+     */
+    public ContractEvent getContractEvent(int index, TypeTag typeTag) throws DeserializationError {
+        JsonArray array = eventsArray();
+        if (array == null || index < 0 || index >= array.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + getEventsCount());
+        }
+        JsonObject event = array.get(index).getAsJsonObject();
+        JsonElement data = event.get("data");
+        JsonObject dataObject = data != null && data.isJsonObject() ? data.getAsJsonObject() : new JsonObject();
+        return TransactionUtils.decodeEvent(getString(event, "key"), getUnsignedLong(event, "sequence_number"),
+                typeTag, getString(dataObject, BYTES));
+    }
+
+    /**
+     * @return the fully decoded transaction.
+     */
+    public JsonRpc.Transaction toTransaction() throws InvalidResponseException {
+        if (message == null) {
+            message = parse(json, JsonRpc.Transaction.newBuilder());
+        }
+        return message;
+    }
+
+    /**
+     * Decode only the given top level fields, e.g. `VERSION`, `HASH` and `VM_STATUS`; other fields keep
+     * their default value. The JSON object is already parsed, projecting saves the JsonFormat decoding of
+     * the other subtrees, not their JSON parsing.
+     */
+    public JsonRpc.Transaction toTransaction(Collection<String> fields) throws InvalidResponseException {
+        return parse(project(json, fields), JsonRpc.Transaction.newBuilder());
+    }
+
+    /**
+     * @return a JSON object sharing the given top level fields of `json`, without copying them.
+     */
+    public static JsonObject project(JsonObject json, Collection<String> fields) {
+        JsonObject ret = new JsonObject();
+        for (String field : fields) {
+            JsonElement value = json.get(field);
+            if (value != null) {
+                ret.add(field, value);
+            }
+        }
+        return ret;
+    }
+
+    private JsonArray eventsArray() {
+        JsonElement array = json.get(EVENTS);
+        return array != null && array.isJsonArray() ? array.getAsJsonArray() : null;
+    }
+
+    @SuppressWarnings(value = "unchecked")
+    private static <T extends Message> T parse(JsonElement ele, Message.Builder builder) throws InvalidResponseException {
+        if (ele != null && !ele.isJsonNull()) {
+            try {
+                PARSER.merge(ele.toString(), builder);
+            } catch (InvalidProtocolBufferException e) {
+                throw new InvalidResponseException(e);
+            }
+        }
+        return (T) builder.build();
+    }
+
+    private static String getString(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        return value == null || value.isJsonNull() ? "" : value.getAsString();
+    }
+
+    private static long getUnsignedLong(JsonObject json, String field) {
+        JsonElement value = json.get(field);
+        return value == null || value.isJsonNull() ? 0 : Long.parseUnsignedLong(value.getAsString());
+    }
+}
@@ -58,7 +58,7 @@ public class LedgerState {
     }
 
     private boolean validateLedgerState(byte chainId, long version, long timestampUsecs) throws StaleResponseException, ChainIdMismatchException {
-        if (this.chainId.value.byteValue() != chainId) {
+        if (this.chainId.value != chainId) {
             throw new ChainIdMismatchException(String.format("chainId mismatch! Expected: %s Received: " +
                     "%s", this.chainId, chainId));
         }
@@ -0,0 +1,196 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.utils.HashingSerializer;
+import com.diem.utils.Hex;
+import com.diem.utils.RangeTask;
+import com.novi.serde.Unsigned;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>
+ * TransactionHashVerifier checks that the `hash` field of fetched transactions matches their content: the hash
+ * is recomputed from the hex-encoded BCS `bytes` field, which is hashed as is with the `Transaction` salt, so
+ * user, block metadata and genesis transactions are all verified without being deserialized.
+ * </p>
+ *
+ * <p>
+ * A page of transactions is split into ranges hashed in parallel by a ForkJoinPool; `verifyAsync` hands a page
+ * over to the pool so that pages can be verified while the next ones are being fetched.
+ * </p>
+ *
+ * <p>Verify pages of transactions as they arrive:</p>
+ * <code>
+ * TransactionHashVerifier verifier = new TransactionHashVerifier();
+ * CompletableFuture&lt;List&lt;Mismatch&gt;&gt; result = verifier.verifyAsync(client.getTransactions(version, 1000, false));
+ * </code>
+ *
+ * Instances are thread-safe.
+ */
+public class TransactionHashVerifier {
+
+    /**
+     * Number of transactions hashed by one task before a range is split.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    public enum Reason {
+        /**
+         * The hash computed from `bytes` is different from the `hash` field.
+         */
+        HASH_MISMATCH,
+        /**
+         * The `bytes` field is empty.
+         */
+        MISSING_BYTES,
+        /**
+         * The `bytes` or `hash` field is not valid hex.
+         */
+        INVALID_HEX,
+    }
+
+    /**
+     * A transaction failing verification.
+     */
+    public static final class Mismatch {
+        /**
+         * Index of the transaction in the verified list.
+         */
+        public final int index;
+        public final @Unsigned long version;
+        public final Reason reason;
+        /**
+         * `hash` field value of the transaction.
+         */
+        public final String reportedHash;
+        /**
+         * hex encoded hash computed from the `bytes` field, null if it could not be computed.
+         */
+        public final String computedHash;
+
+        public Mismatch(int index, @Unsigned long version, Reason reason, String reportedHash, String computedHash) {
+            this.index = index;
+            this.version = version;
+            this.reason = Objects.requireNonNull(reason, "reason must not be null");
+            this.reportedHash = reportedHash;
+            this.computedHash = computedHash;
+        }
+
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (obj == null) return false;
+            if (getClass() != obj.getClass()) return false;
+            Mismatch other = (Mismatch) obj;
+            return index == other.index && version == other.version && reason == other.reason
+                    && Objects.equals(reportedHash, other.reportedHash)
+                    && Objects.equals(computedHash, other.computedHash);
+        }
+
+        public int hashCode() {
+            return Objects.hash(index, version, reason, reportedHash, computedHash);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Mismatch{index=%d, version=%s, reason=%s, reportedHash=%s, computedHash=%s}",
+                    index, Long.toUnsignedString(version), reason, reportedHash, computedHash);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    /**
+     * Create a verifier running on the common ForkJoinPool.
+     */
+    public TransactionHashVerifier() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param pool      pool running the verification tasks
+     * @param batchSize number of transactions hashed by one task
+     */
+    public TransactionHashVerifier(ForkJoinPool pool, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("batch size should be greater than 0, but given %d", batchSize));
+        }
+        this.pool = Objects.requireNonNull(pool, "pool must not be null");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * @return mismatches ordered by index, empty if all transactions are verified.
+     */
+    public List<Mismatch> verify(List<? extends JsonRpc.TransactionOrBuilder> txns) {
+        return pool.invoke(task(txns));
+    }
+
+    public List<Mismatch> verifyLazy(List<LazyTransaction> txns) {
+        return pool.invoke(lazyTask(txns));
+    }
+
+    /**
+     * Verify the transactions in the pool without waiting for the result.
+     */
+    public CompletableFuture<List<Mismatch>> verifyAsync(List<? extends JsonRpc.TransactionOrBuilder> txns) {
+        RangeTask<Mismatch> task = task(txns);
+        return CompletableFuture.supplyAsync(task::invoke, pool);
+    }
+
+    public CompletableFuture<List<Mismatch>> verifyLazyAsync(List<LazyTransaction> txns) {
+        RangeTask<Mismatch> task = lazyTask(txns);
+        return CompletableFuture.supplyAsync(task::invoke, pool);
+    }
+
+    /**
+     * Verify a single transaction.
+     *
+     * @return the mismatch, null if the transaction is verified.
+     */
+    public static Mismatch check(int index, @Unsigned long version, String hash, String bytes) {
+        if (bytes == null || bytes.isEmpty()) {
+            return new Mismatch(index, version, Reason.MISSING_BYTES, hash, null);
+        }
+        byte[] computed;
+        try {
+            byte[] content = Hex.decode(bytes);
+            HashingSerializer serializer = HashingSerializer.transaction();
+            serializer.update(content, 0, content.length);
+            computed = serializer.digest();
+        } catch (IllegalArgumentException e) {
+            return new Mismatch(index, version, Reason.INVALID_HEX, hash, null);
+        }
+        byte[] reported;
+        try {
+            reported = Hex.decode(hash);
+        } catch (IllegalArgumentException e) {
+            return new Mismatch(index, version, Reason.INVALID_HEX, hash, Hex.encodeLowerCase(computed));
+        }
+        if (!Arrays.equals(reported, computed)) {
+            return new Mismatch(index, version, Reason.HASH_MISMATCH, hash, Hex.encodeLowerCase(computed));
+        }
+        return null;
+    }
+
+    private RangeTask<Mismatch> task(List<? extends JsonRpc.TransactionOrBuilder> txns) {
+        return new RangeTask<>(0, txns.size(), batchSize, i -> {
+            JsonRpc.TransactionOrBuilder txn = txns.get(i);
+            return check(i, txn.getVersion(), txn.getHash(), txn.getBytes());
+        });
+    }
+
+    private RangeTask<Mismatch> lazyTask(List<LazyTransaction> txns) {
+        return new RangeTask<>(0, txns.size(), batchSize, i -> {
+            LazyTransaction txn = txns.get(i);
+            return check(i, txn.getVersion(), txn.getHash(), txn.getBytes());
+        });
+    }
+}
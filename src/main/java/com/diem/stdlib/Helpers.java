@@ -4124,8 +4124,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.AddValidatorAndReconfigure.Builder builder = new ScriptFunctionCall.AddValidatorAndReconfigure.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.validator_name = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.validator_name = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         builder.validator_address = AccountAddress.bcsDeserialize(script.args.get(2).content());
         return builder.build();
     }
@@ -4147,9 +4147,9 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.BurnWithAmount.Builder builder = new ScriptFunctionCall.BurnWithAmount.Builder();
         builder.token = script.ty_args.get(0);
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.preburn_address = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.amount = new BcsDeserializer(script.args.get(2).content()).deserialize_u64();
+        builder.amount = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4161,7 +4161,7 @@ public final class Helpers {
         ScriptFunctionCall.CancelBurnWithAmount.Builder builder = new ScriptFunctionCall.CancelBurnWithAmount.Builder();
         builder.token = script.ty_args.get(0);
         builder.preburn_address = AccountAddress.bcsDeserialize(script.args.get(0).content());
-        builder.amount = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
+        builder.amount = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4173,9 +4173,9 @@ public final class Helpers {
         ScriptFunctionCall.CreateChildVaspAccount.Builder builder = new ScriptFunctionCall.CreateChildVaspAccount.Builder();
         builder.coin_type = script.ty_args.get(0);
         builder.child_address = AccountAddress.bcsDeserialize(script.args.get(0).content());
-        builder.auth_key_prefix = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
-        builder.add_all_currencies = new BcsDeserializer(script.args.get(2).content()).deserialize_bool();
-        builder.child_initial_balance = new BcsDeserializer(script.args.get(3).content()).deserialize_u64();
+        builder.auth_key_prefix = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.add_all_currencies = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bool();
+        builder.child_initial_balance = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4186,11 +4186,11 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.CreateDesignatedDealer.Builder builder = new ScriptFunctionCall.CreateDesignatedDealer.Builder();
         builder.currency = script.ty_args.get(0);
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.addr = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.human_name = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
-        builder.add_all_currencies = new BcsDeserializer(script.args.get(4).content()).deserialize_bool();
+        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.human_name = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.add_all_currencies = new BcsDeserializer(script.args.get(4).asReadOnlyByteBuffer()).deserialize_bool();
         return builder.build();
     }
 
@@ -4201,11 +4201,11 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.CreateParentVaspAccount.Builder builder = new ScriptFunctionCall.CreateParentVaspAccount.Builder();
         builder.coin_type = script.ty_args.get(0);
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.new_account_address = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.human_name = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
-        builder.add_all_currencies = new BcsDeserializer(script.args.get(4).content()).deserialize_bool();
+        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.human_name = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.add_all_currencies = new BcsDeserializer(script.args.get(4).asReadOnlyByteBuffer()).deserialize_bool();
         return builder.build();
     }
 
@@ -4224,10 +4224,10 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.CreateValidatorAccount.Builder builder = new ScriptFunctionCall.CreateValidatorAccount.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.new_account_address = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.human_name = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
+        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.human_name = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4237,10 +4237,10 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.CreateValidatorOperatorAccount.Builder builder = new ScriptFunctionCall.CreateValidatorOperatorAccount.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.new_account_address = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.human_name = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
+        builder.auth_key_prefix = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.human_name = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4250,7 +4250,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.FreezeAccount.Builder builder = new ScriptFunctionCall.FreezeAccount.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.to_freeze_account = AccountAddress.bcsDeserialize(script.args.get(1).content());
         return builder.build();
     }
@@ -4261,7 +4261,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.InitializeDiemConsensusConfig.Builder builder = new ScriptFunctionCall.InitializeDiemConsensusConfig.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4273,9 +4273,9 @@ public final class Helpers {
         ScriptFunctionCall.PeerToPeerWithMetadata.Builder builder = new ScriptFunctionCall.PeerToPeerWithMetadata.Builder();
         builder.currency = script.ty_args.get(0);
         builder.payee = AccountAddress.bcsDeserialize(script.args.get(0).content());
-        builder.amount = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
-        builder.metadata = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.metadata_signature = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
+        builder.amount = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.metadata = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.metadata_signature = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4286,7 +4286,7 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.Preburn.Builder builder = new ScriptFunctionCall.Preburn.Builder();
         builder.token = script.ty_args.get(0);
-        builder.amount = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.amount = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4296,7 +4296,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.PublishSharedEd25519PublicKey.Builder builder = new ScriptFunctionCall.PublishSharedEd25519PublicKey.Builder();
-        builder.public_key = new BcsDeserializer(script.args.get(0).content()).deserialize_bytes();
+        builder.public_key = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4307,9 +4307,9 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RegisterValidatorConfig.Builder builder = new ScriptFunctionCall.RegisterValidatorConfig.Builder();
         builder.validator_account = AccountAddress.bcsDeserialize(script.args.get(0).content());
-        builder.consensus_pubkey = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
-        builder.validator_network_addresses = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.fullnode_network_addresses = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
+        builder.consensus_pubkey = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.validator_network_addresses = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.fullnode_network_addresses = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4319,8 +4319,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RemoveValidatorAndReconfigure.Builder builder = new ScriptFunctionCall.RemoveValidatorAndReconfigure.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.validator_name = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.validator_name = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         builder.validator_address = AccountAddress.bcsDeserialize(script.args.get(2).content());
         return builder.build();
     }
@@ -4331,7 +4331,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RotateAuthenticationKey.Builder builder = new ScriptFunctionCall.RotateAuthenticationKey.Builder();
-        builder.new_key = new BcsDeserializer(script.args.get(0).content()).deserialize_bytes();
+        builder.new_key = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4341,8 +4341,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RotateAuthenticationKeyWithNonce.Builder builder = new ScriptFunctionCall.RotateAuthenticationKeyWithNonce.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.new_key = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.new_key = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4352,8 +4352,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RotateAuthenticationKeyWithNonceAdmin.Builder builder = new ScriptFunctionCall.RotateAuthenticationKeyWithNonceAdmin.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.new_key = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.new_key = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4365,7 +4365,7 @@ public final class Helpers {
         ScriptFunctionCall.RotateAuthenticationKeyWithRecoveryAddress.Builder builder = new ScriptFunctionCall.RotateAuthenticationKeyWithRecoveryAddress.Builder();
         builder.recovery_address = AccountAddress.bcsDeserialize(script.args.get(0).content());
         builder.to_recover = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.new_key = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
+        builder.new_key = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4375,8 +4375,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RotateDualAttestationInfo.Builder builder = new ScriptFunctionCall.RotateDualAttestationInfo.Builder();
-        builder.new_url = new BcsDeserializer(script.args.get(0).content()).deserialize_bytes();
-        builder.new_key = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.new_url = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.new_key = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4386,7 +4386,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.RotateSharedEd25519PublicKey.Builder builder = new ScriptFunctionCall.RotateSharedEd25519PublicKey.Builder();
-        builder.public_key = new BcsDeserializer(script.args.get(0).content()).deserialize_bytes();
+        builder.public_key = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4396,18 +4396,18 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.SetGasConstants.Builder builder = new ScriptFunctionCall.SetGasConstants.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.global_memory_per_byte_cost = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
-        builder.global_memory_per_byte_write_cost = new BcsDeserializer(script.args.get(2).content()).deserialize_u64();
-        builder.min_transaction_gas_units = new BcsDeserializer(script.args.get(3).content()).deserialize_u64();
-        builder.large_transaction_cutoff = new BcsDeserializer(script.args.get(4).content()).deserialize_u64();
-        builder.intrinsic_gas_per_byte = new BcsDeserializer(script.args.get(5).content()).deserialize_u64();
-        builder.maximum_number_of_gas_units = new BcsDeserializer(script.args.get(6).content()).deserialize_u64();
-        builder.min_price_per_gas_unit = new BcsDeserializer(script.args.get(7).content()).deserialize_u64();
-        builder.max_price_per_gas_unit = new BcsDeserializer(script.args.get(8).content()).deserialize_u64();
-        builder.max_transaction_size_in_bytes = new BcsDeserializer(script.args.get(9).content()).deserialize_u64();
-        builder.gas_unit_scaling_factor = new BcsDeserializer(script.args.get(10).content()).deserialize_u64();
-        builder.default_account_size = new BcsDeserializer(script.args.get(11).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.global_memory_per_byte_cost = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.global_memory_per_byte_write_cost = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.min_transaction_gas_units = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.large_transaction_cutoff = new BcsDeserializer(script.args.get(4).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.intrinsic_gas_per_byte = new BcsDeserializer(script.args.get(5).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.maximum_number_of_gas_units = new BcsDeserializer(script.args.get(6).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.min_price_per_gas_unit = new BcsDeserializer(script.args.get(7).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.max_price_per_gas_unit = new BcsDeserializer(script.args.get(8).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.max_transaction_size_in_bytes = new BcsDeserializer(script.args.get(9).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.gas_unit_scaling_factor = new BcsDeserializer(script.args.get(10).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.default_account_size = new BcsDeserializer(script.args.get(11).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4418,9 +4418,9 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.SetValidatorConfigAndReconfigure.Builder builder = new ScriptFunctionCall.SetValidatorConfigAndReconfigure.Builder();
         builder.validator_account = AccountAddress.bcsDeserialize(script.args.get(0).content());
-        builder.consensus_pubkey = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
-        builder.validator_network_addresses = new BcsDeserializer(script.args.get(2).content()).deserialize_bytes();
-        builder.fullnode_network_addresses = new BcsDeserializer(script.args.get(3).content()).deserialize_bytes();
+        builder.consensus_pubkey = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.validator_network_addresses = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_bytes();
+        builder.fullnode_network_addresses = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4430,7 +4430,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.SetValidatorOperator.Builder builder = new ScriptFunctionCall.SetValidatorOperator.Builder();
-        builder.operator_name = new BcsDeserializer(script.args.get(0).content()).deserialize_bytes();
+        builder.operator_name = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bytes();
         builder.operator_account = AccountAddress.bcsDeserialize(script.args.get(1).content());
         return builder.build();
     }
@@ -4441,8 +4441,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.SetValidatorOperatorWithNonceAdmin.Builder builder = new ScriptFunctionCall.SetValidatorOperatorWithNonceAdmin.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.operator_name = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.operator_name = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         builder.operator_account = AccountAddress.bcsDeserialize(script.args.get(2).content());
         return builder.build();
     }
@@ -4454,10 +4454,10 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.TieredMint.Builder builder = new ScriptFunctionCall.TieredMint.Builder();
         builder.coin_type = script.ty_args.get(0);
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.designated_dealer_address = AccountAddress.bcsDeserialize(script.args.get(1).content());
-        builder.mint_amount = new BcsDeserializer(script.args.get(2).content()).deserialize_u64();
-        builder.tier_index = new BcsDeserializer(script.args.get(3).content()).deserialize_u64();
+        builder.mint_amount = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.tier_index = new BcsDeserializer(script.args.get(3).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4467,7 +4467,7 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UnfreezeAccount.Builder builder = new ScriptFunctionCall.UnfreezeAccount.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
         builder.to_unfreeze_account = AccountAddress.bcsDeserialize(script.args.get(1).content());
         return builder.build();
     }
@@ -4478,8 +4478,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UpdateDiemConsensusConfig.Builder builder = new ScriptFunctionCall.UpdateDiemConsensusConfig.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.config = new BcsDeserializer(script.args.get(1).content()).deserialize_bytes();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.config = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_bytes();
         return builder.build();
     }
 
@@ -4489,8 +4489,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UpdateDiemVersion.Builder builder = new ScriptFunctionCall.UpdateDiemVersion.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.major = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.major = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4500,8 +4500,8 @@ public final class Helpers {
                 }
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UpdateDualAttestationLimit.Builder builder = new ScriptFunctionCall.UpdateDualAttestationLimit.Builder();
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.new_micro_xdx_limit = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.new_micro_xdx_limit = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4512,9 +4512,9 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UpdateExchangeRate.Builder builder = new ScriptFunctionCall.UpdateExchangeRate.Builder();
         builder.currency = script.ty_args.get(0);
-        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).content()).deserialize_u64();
-        builder.new_exchange_rate_numerator = new BcsDeserializer(script.args.get(1).content()).deserialize_u64();
-        builder.new_exchange_rate_denominator = new BcsDeserializer(script.args.get(2).content()).deserialize_u64();
+        builder.sliding_nonce = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.new_exchange_rate_numerator = new BcsDeserializer(script.args.get(1).asReadOnlyByteBuffer()).deserialize_u64();
+        builder.new_exchange_rate_denominator = new BcsDeserializer(script.args.get(2).asReadOnlyByteBuffer()).deserialize_u64();
         return builder.build();
     }
 
@@ -4525,7 +4525,7 @@ public final class Helpers {
         ScriptFunction script = ((TransactionPayload.ScriptFunction)payload).value;
         ScriptFunctionCall.UpdateMintingAbility.Builder builder = new ScriptFunctionCall.UpdateMintingAbility.Builder();
         builder.currency = script.ty_args.get(0);
-        builder.allow_minting = new BcsDeserializer(script.args.get(0).content()).deserialize_bool();
+        builder.allow_minting = new BcsDeserializer(script.args.get(0).asReadOnlyByteBuffer()).deserialize_bool();
         return builder.build();
     }
 
@@ -4987,9 +4987,9 @@ public final class Helpers {
     private static Bytes encode_bool_argument(Boolean arg) {
         try {
 
-            BcsSerializer s = new BcsSerializer();
-            s.serialize_bool(arg);
-            return Bytes.valueOf(s.get_bytes());
+            BcsSerializer s = new BcsSerializer(1);
+            s.serialize_bool(arg.booleanValue());
+            return new Bytes(s.get_bytes());
         
         } catch (SerializationError e) {
             throw new IllegalArgumentException("Unable to serialize argument of type bool");
@@ -5000,9 +5000,9 @@ public final class Helpers {
     private static Bytes encode_u64_argument(@Unsigned Long arg) {
         try {
 
-            BcsSerializer s = new BcsSerializer();
-            s.serialize_u64(arg);
-            return Bytes.valueOf(s.get_bytes());
+            BcsSerializer s = new BcsSerializer(8);
+            s.serialize_u64(arg.longValue());
+            return new Bytes(s.get_bytes());
         
         } catch (SerializationError e) {
             throw new IllegalArgumentException("Unable to serialize argument of type u64");
@@ -19,8 +19,15 @@ public final class AccessPath {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += address.serializedSize();
+        size += TraitHelpers.size_bytes(path);
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
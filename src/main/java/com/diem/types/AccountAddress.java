@@ -2,31 +2,84 @@ package com.diem.types;
 
 
 public final class AccountAddress {
+    /// Read-only view of the address bytes, kept for compatibility; prefer `toBytes`, `high` and `low`.
+    /// It stays a public final field, as code reading `address.value` is compiled against a field, so the view
+    /// (one object holding a reference to the address) is created with each address instead of on first access.
     public final java.util.@com.novi.serde.ArrayLen(length=16) List<@com.novi.serde.Unsigned Byte> value;
 
+    // Address bytes 0..7 and 8..15, most significant byte first.
+    private final long high;
+    private final long low;
+    private final int hash;
+
     public AccountAddress(java.util.@com.novi.serde.ArrayLen(length=16) List<@com.novi.serde.Unsigned Byte> value) {
         java.util.Objects.requireNonNull(value, "value must not be null");
-        this.value = value;
+        if (value.size() != LENGTH) {
+            throw new java.lang.IllegalArgumentException("Invalid length for fixed-size array: " + value.size() + " instead of "+ LENGTH);
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (value.get(i) & 0xFF);
+            low = (low << 8) | (value.get(i + 8) & 0xFF);
+        }
+        this.high = high;
+        this.low = low;
+        this.hash = hash(high, low);
+        this.value = new ByteListView();
+    }
+
+    private AccountAddress(long high, long low) {
+        this.high = high;
+        this.low = low;
+        this.hash = hash(high, low);
+        this.value = new ByteListView();
     }
 
     public void serialize(com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError {
         serializer.increase_container_depth();
-        TraitHelpers.serialize_array16_u8_array(value, serializer);
+        if (serializer instanceof com.novi.serde.BinarySerializer) {
+            // binary serializers write u64 in little-endian order: reverse to keep the address byte order.
+            serializer.serialize_u64(Long.reverseBytes(high));
+            serializer.serialize_u64(Long.reverseBytes(low));
+        } else {
+            for (int i = 0; i < LENGTH; i++) {
+                serializer.serialize_u8(byteAt(i));
+            }
+        }
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        return LENGTH;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(LENGTH);
         serialize(serializer);
         return serializer.get_bytes();
     }
 
     public static AccountAddress deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         deserializer.increase_container_depth();
-        Builder builder = new Builder();
-        builder.value = TraitHelpers.deserialize_array16_u8_array(deserializer);
+        AccountAddress address;
+        if (deserializer instanceof com.novi.serde.BinaryDeserializer) {
+            long high = Long.reverseBytes(deserializer.deserialize_u64_primitive());
+            long low = Long.reverseBytes(deserializer.deserialize_u64_primitive());
+            address = new AccountAddress(high, low);
+        } else {
+            long high = 0;
+            long low = 0;
+            for (int i = 0; i < 8; i++) {
+                high = (high << 8) | (deserializer.deserialize_u8_primitive() & 0xFF);
+            }
+            for (int i = 0; i < 8; i++) {
+                low = (low << 8) | (deserializer.deserialize_u8_primitive() & 0xFF);
+            }
+            address = new AccountAddress(high, low);
+        }
         deserializer.decrease_container_depth();
-        return builder.build();
+        return address;
     }
 
     public static AccountAddress bcsDeserialize(byte[] input) throws com.novi.serde.DeserializationError {
@@ -46,14 +99,15 @@ public final class AccountAddress {
         if (obj == null) return false;
         if (getClass() != obj.getClass()) return false;
         AccountAddress other = (AccountAddress) obj;
-        if (!java.util.Objects.equals(this.value, other.value)) { return false; }
-        return true;
+        return this.high == other.high && this.low == other.low;
     }
 
     public int hashCode() {
-        int value = 7;
-        value = 31 * value + (this.value != null ? this.value.hashCode() : 0);
-        return value;
+        return hash;
+    }
+
+    private static int hash(long high, long low) {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
     }
 
     public static final class Builder {
@@ -72,20 +126,70 @@ public final class AccountAddress {
         if (values.length != LENGTH) {
             throw new java.lang.IllegalArgumentException("Invalid length for AccountAddress");
         }
-        java.util.List<Byte> address = new java.util.ArrayList<Byte>(LENGTH);
-        for (int i = 0; i < LENGTH; i++) {
-            address.add(Byte.valueOf(values[i]));
+        return valueOf(values, 0);
+    }
+
+    /// Create an address from the 16 bytes of `values` starting at `offset`.
+    public static AccountAddress valueOf(byte[] values, int offset) {
+        if (offset < 0 || offset + LENGTH > values.length) {
+            throw new java.lang.IllegalArgumentException("Invalid offset for AccountAddress");
         }
-        return new AccountAddress(address);
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < 8; i++) {
+            high = (high << 8) | (values[offset + i] & 0xFF);
+            low = (low << 8) | (values[offset + i + 8] & 0xFF);
+        }
+        return new AccountAddress(high, low);
+    }
+
+    /// Create an address from its bytes 0..7 and 8..15 read as big-endian longs.
+    public static AccountAddress valueOf(long high, long low) {
+        return new AccountAddress(high, low);
     }
 
     public byte[] toBytes() {
         byte[] bytes = new byte[LENGTH];
-        int i = 0;
-        for (Byte item : value) {
-            bytes[i++] = item.byteValue();
-        }
+        copyTo(bytes, 0);
         return bytes;
     }
 
+    /// Write the 16 address bytes into `dst` starting at `offset`.
+    public void copyTo(byte[] dst, int offset) {
+        for (int i = 0; i < 8; i++) {
+            dst[offset + i] = (byte) (high >>> (56 - 8 * i));
+            dst[offset + i + 8] = (byte) (low >>> (56 - 8 * i));
+        }
+    }
+
+    public byte byteAt(int index) {
+        if (index < 0 || index >= LENGTH) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        long half = index < 8 ? high : low;
+        return (byte) (half >>> (56 - 8 * (index & 7)));
+    }
+
+    /// Address bytes 0..7 as a big-endian long.
+    public long high() {
+        return high;
+    }
+
+    /// Address bytes 8..15 as a big-endian long.
+    public long low() {
+        return low;
+    }
+
+    // Read-only `List<Byte>` view of the address bytes.
+    private final class ByteListView extends java.util.AbstractList<Byte> implements java.util.RandomAccess {
+        @Override
+        public Byte get(int index) {
+            return Byte.valueOf(byteAt(index));
+        }
+
+        @Override
+        public int size() {
+            return LENGTH;
+        }
+    }
 }
@@ -3,15 +3,13 @@ package com.diem.types;
 
 public final class BlockMetadata {
     public final HashValue id;
-    public final @com.novi.serde.Unsigned Long round;
-    public final @com.novi.serde.Unsigned Long timestamp_usecs;
+    public final @com.novi.serde.Unsigned long round;
+    public final @com.novi.serde.Unsigned long timestamp_usecs;
     public final java.util.List<AccountAddress> previous_block_votes;
     public final AccountAddress proposer;
 
-    public BlockMetadata(HashValue id, @com.novi.serde.Unsigned Long round, @com.novi.serde.Unsigned Long timestamp_usecs, java.util.List<AccountAddress> previous_block_votes, AccountAddress proposer) {
+    public BlockMetadata(HashValue id, @com.novi.serde.Unsigned long round, @com.novi.serde.Unsigned long timestamp_usecs, java.util.List<AccountAddress> previous_block_votes, AccountAddress proposer) {
         java.util.Objects.requireNonNull(id, "id must not be null");
-        java.util.Objects.requireNonNull(round, "round must not be null");
-        java.util.Objects.requireNonNull(timestamp_usecs, "timestamp_usecs must not be null");
         java.util.Objects.requireNonNull(previous_block_votes, "previous_block_votes must not be null");
         java.util.Objects.requireNonNull(proposer, "proposer must not be null");
         this.id = id;
@@ -31,8 +29,18 @@ public final class BlockMetadata {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += id.serializedSize();
+        size += 8;
+        size += 8;
+        size += TraitHelpers.size_vector_AccountAddress(previous_block_votes);
+        size += proposer.serializedSize();
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -41,8 +49,8 @@ public final class BlockMetadata {
         deserializer.increase_container_depth();
         Builder builder = new Builder();
         builder.id = HashValue.deserialize(deserializer);
-        builder.round = deserializer.deserialize_u64();
-        builder.timestamp_usecs = deserializer.deserialize_u64();
+        builder.round = deserializer.deserialize_u64_primitive();
+        builder.timestamp_usecs = deserializer.deserialize_u64_primitive();
         builder.previous_block_votes = TraitHelpers.deserialize_vector_AccountAddress(deserializer);
         builder.proposer = AccountAddress.deserialize(deserializer);
         deserializer.decrease_container_depth();
@@ -67,8 +75,8 @@ public final class BlockMetadata {
         if (getClass() != obj.getClass()) return false;
         BlockMetadata other = (BlockMetadata) obj;
         if (!java.util.Objects.equals(this.id, other.id)) { return false; }
-        if (!java.util.Objects.equals(this.round, other.round)) { return false; }
-        if (!java.util.Objects.equals(this.timestamp_usecs, other.timestamp_usecs)) { return false; }
+        if (this.round != other.round) { return false; }
+        if (this.timestamp_usecs != other.timestamp_usecs) { return false; }
         if (!java.util.Objects.equals(this.previous_block_votes, other.previous_block_votes)) { return false; }
         if (!java.util.Objects.equals(this.proposer, other.proposer)) { return false; }
         return true;
@@ -77,8 +85,8 @@ public final class BlockMetadata {
     public int hashCode() {
         int value = 7;
         value = 31 * value + (this.id != null ? this.id.hashCode() : 0);
-        value = 31 * value + (this.round != null ? this.round.hashCode() : 0);
-        value = 31 * value + (this.timestamp_usecs != null ? this.timestamp_usecs.hashCode() : 0);
+        value = 31 * value + Long.hashCode(this.round);
+        value = 31 * value + Long.hashCode(this.timestamp_usecs);
         value = 31 * value + (this.previous_block_votes != null ? this.previous_block_votes.hashCode() : 0);
         value = 31 * value + (this.proposer != null ? this.proposer.hashCode() : 0);
         return value;
@@ -86,8 +94,8 @@ public final class BlockMetadata {
 
     public static final class Builder {
         public HashValue id;
-        public @com.novi.serde.Unsigned Long round;
-        public @com.novi.serde.Unsigned Long timestamp_usecs;
+        public @com.novi.serde.Unsigned long round;
+        public @com.novi.serde.Unsigned long timestamp_usecs;
         public java.util.List<AccountAddress> previous_block_votes;
         public AccountAddress proposer;
 
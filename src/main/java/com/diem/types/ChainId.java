@@ -2,10 +2,9 @@ package com.diem.types;
 
 
 public final class ChainId {
-    public final @com.novi.serde.Unsigned Byte value;
+    public final @com.novi.serde.Unsigned byte value;
 
-    public ChainId(@com.novi.serde.Unsigned Byte value) {
-        java.util.Objects.requireNonNull(value, "value must not be null");
+    public ChainId(@com.novi.serde.Unsigned byte value) {
         this.value = value;
     }
 
@@ -15,8 +14,14 @@ public final class ChainId {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += 1;
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -24,7 +29,7 @@ public final class ChainId {
     public static ChainId deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         deserializer.increase_container_depth();
         Builder builder = new Builder();
-        builder.value = deserializer.deserialize_u8();
+        builder.value = deserializer.deserialize_u8_primitive();
         deserializer.decrease_container_depth();
         return builder.build();
     }
@@ -46,18 +51,18 @@ public final class ChainId {
         if (obj == null) return false;
         if (getClass() != obj.getClass()) return false;
         ChainId other = (ChainId) obj;
-        if (!java.util.Objects.equals(this.value, other.value)) { return false; }
+        if (this.value != other.value) { return false; }
         return true;
     }
 
     public int hashCode() {
         int value = 7;
-        value = 31 * value + (this.value != null ? this.value.hashCode() : 0);
+        value = 31 * value + Byte.hashCode(this.value);
         return value;
     }
 
     public static final class Builder {
-        public @com.novi.serde.Unsigned Byte value;
+        public @com.novi.serde.Unsigned byte value;
 
         public ChainId build() {
             return new ChainId(
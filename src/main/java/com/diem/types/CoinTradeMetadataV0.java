@@ -15,8 +15,14 @@ public final class CoinTradeMetadataV0 {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += TraitHelpers.size_vector_str(trade_ids);
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -3,13 +3,12 @@ package com.diem.types;
 
 public final class ContractEventV0 {
     public final EventKey key;
-    public final @com.novi.serde.Unsigned Long sequence_number;
+    public final @com.novi.serde.Unsigned long sequence_number;
     public final TypeTag type_tag;
     public final com.novi.serde.Bytes event_data;
 
-    public ContractEventV0(EventKey key, @com.novi.serde.Unsigned Long sequence_number, TypeTag type_tag, com.novi.serde.Bytes event_data) {
+    public ContractEventV0(EventKey key, @com.novi.serde.Unsigned long sequence_number, TypeTag type_tag, com.novi.serde.Bytes event_data) {
         java.util.Objects.requireNonNull(key, "key must not be null");
-        java.util.Objects.requireNonNull(sequence_number, "sequence_number must not be null");
         java.util.Objects.requireNonNull(type_tag, "type_tag must not be null");
         java.util.Objects.requireNonNull(event_data, "event_data must not be null");
         this.key = key;
@@ -27,8 +26,17 @@ public final class ContractEventV0 {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += key.serializedSize();
+        size += 8;
+        size += type_tag.serializedSize();
+        size += TraitHelpers.size_bytes(event_data);
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -37,7 +45,7 @@ public final class ContractEventV0 {
         deserializer.increase_container_depth();
         Builder builder = new Builder();
         builder.key = EventKey.deserialize(deserializer);
-        builder.sequence_number = deserializer.deserialize_u64();
+        builder.sequence_number = deserializer.deserialize_u64_primitive();
         builder.type_tag = TypeTag.deserialize(deserializer);
         builder.event_data = deserializer.deserialize_bytes();
         deserializer.decrease_container_depth();
@@ -62,7 +70,7 @@ public final class ContractEventV0 {
         if (getClass() != obj.getClass()) return false;
         ContractEventV0 other = (ContractEventV0) obj;
         if (!java.util.Objects.equals(this.key, other.key)) { return false; }
-        if (!java.util.Objects.equals(this.sequence_number, other.sequence_number)) { return false; }
+        if (this.sequence_number != other.sequence_number) { return false; }
         if (!java.util.Objects.equals(this.type_tag, other.type_tag)) { return false; }
         if (!java.util.Objects.equals(this.event_data, other.event_data)) { return false; }
         return true;
@@ -71,7 +79,7 @@ public final class ContractEventV0 {
     public int hashCode() {
         int value = 7;
         value = 31 * value + (this.key != null ? this.key.hashCode() : 0);
-        value = 31 * value + (this.sequence_number != null ? this.sequence_number.hashCode() : 0);
+        value = 31 * value + Long.hashCode(this.sequence_number);
         value = 31 * value + (this.type_tag != null ? this.type_tag.hashCode() : 0);
         value = 31 * value + (this.event_data != null ? this.event_data.hashCode() : 0);
         return value;
@@ -79,7 +87,7 @@ public final class ContractEventV0 {
 
     public static final class Builder {
         public EventKey key;
-        public @com.novi.serde.Unsigned Long sequence_number;
+        public @com.novi.serde.Unsigned long sequence_number;
         public TypeTag type_tag;
         public com.novi.serde.Bytes event_data;
 
@@ -5,6 +5,8 @@ public abstract class GeneralMetadata {
 
     abstract public void serialize(com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError;
 
+    abstract public int serializedSize();
+
     public static GeneralMetadata deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         int index = deserializer.deserialize_variant_index();
         switch (index) {
@@ -14,7 +16,7 @@ public abstract class GeneralMetadata {
     }
 
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -46,6 +48,13 @@ public abstract class GeneralMetadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(0);
+            size += value.serializedSize();
+            return size;
+        }
+
         static GeneralMetadataVersion0 load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
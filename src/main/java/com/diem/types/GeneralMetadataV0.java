@@ -23,8 +23,16 @@ public final class GeneralMetadataV0 {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += TraitHelpers.size_option_bytes(to_subaddress);
+        size += TraitHelpers.size_option_bytes(from_subaddress);
+        size += TraitHelpers.size_option_u64(referenced_event);
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
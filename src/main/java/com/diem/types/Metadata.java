@@ -5,6 +5,8 @@ public abstract class Metadata {
 
     abstract public void serialize(com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError;
 
+    abstract public int serializedSize();
+
     public static Metadata deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         int index = deserializer.deserialize_variant_index();
         switch (index) {
@@ -19,7 +21,7 @@ public abstract class Metadata {
     }
 
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -46,6 +48,12 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(0);
+            return size;
+        }
+
         static Undefined load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -89,6 +97,13 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(1);
+            size += value.serializedSize();
+            return size;
+        }
+
         static GeneralMetadata load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -138,6 +153,13 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(2);
+            size += value.serializedSize();
+            return size;
+        }
+
         static TravelRuleMetadata load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -187,6 +209,13 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(3);
+            size += value.serializedSize();
+            return size;
+        }
+
         static UnstructuredBytesMetadata load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -236,6 +265,13 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(4);
+            size += value.serializedSize();
+            return size;
+        }
+
         static RefundMetadata load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -285,6 +321,13 @@ public abstract class Metadata {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(5);
+            size += value.serializedSize();
+            return size;
+        }
+
         static CoinTradeMetadata load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
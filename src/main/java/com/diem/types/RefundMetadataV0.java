@@ -2,11 +2,10 @@ package com.diem.types;
 
 
 public final class RefundMetadataV0 {
-    public final @com.novi.serde.Unsigned Long transaction_version;
+    public final @com.novi.serde.Unsigned long transaction_version;
     public final RefundReason reason;
 
-    public RefundMetadataV0(@com.novi.serde.Unsigned Long transaction_version, RefundReason reason) {
-        java.util.Objects.requireNonNull(transaction_version, "transaction_version must not be null");
+    public RefundMetadataV0(@com.novi.serde.Unsigned long transaction_version, RefundReason reason) {
         java.util.Objects.requireNonNull(reason, "reason must not be null");
         this.transaction_version = transaction_version;
         this.reason = reason;
@@ -19,8 +18,15 @@ public final class RefundMetadataV0 {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += 8;
+        size += reason.serializedSize();
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -28,7 +34,7 @@ public final class RefundMetadataV0 {
     public static RefundMetadataV0 deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         deserializer.increase_container_depth();
         Builder builder = new Builder();
-        builder.transaction_version = deserializer.deserialize_u64();
+        builder.transaction_version = deserializer.deserialize_u64_primitive();
         builder.reason = RefundReason.deserialize(deserializer);
         deserializer.decrease_container_depth();
         return builder.build();
@@ -51,20 +57,20 @@ public final class RefundMetadataV0 {
         if (obj == null) return false;
         if (getClass() != obj.getClass()) return false;
         RefundMetadataV0 other = (RefundMetadataV0) obj;
-        if (!java.util.Objects.equals(this.transaction_version, other.transaction_version)) { return false; }
+        if (this.transaction_version != other.transaction_version) { return false; }
         if (!java.util.Objects.equals(this.reason, other.reason)) { return false; }
         return true;
     }
 
     public int hashCode() {
         int value = 7;
-        value = 31 * value + (this.transaction_version != null ? this.transaction_version.hashCode() : 0);
+        value = 31 * value + Long.hashCode(this.transaction_version);
         value = 31 * value + (this.reason != null ? this.reason.hashCode() : 0);
         return value;
     }
 
     public static final class Builder {
-        public @com.novi.serde.Unsigned Long transaction_version;
+        public @com.novi.serde.Unsigned long transaction_version;
         public RefundReason reason;
 
         public RefundMetadataV0 build() {
@@ -27,8 +27,17 @@ public final class StructTag {
         serializer.decrease_container_depth();
     }
 
+    public int serializedSize() {
+        int size = 0;
+        size += address.serializedSize();
+        size += module.serializedSize();
+        size += name.serializedSize();
+        size += TraitHelpers.size_vector_TypeTag(type_params);
+        return size;
+    }
+
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
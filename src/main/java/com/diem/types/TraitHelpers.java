@@ -1,12 +1,29 @@
 package com.diem.types;
 
 final class TraitHelpers {
+    static int size_len(long value) {
+        return com.novi.serde.BinaryOutput.uleb128Size((int) value);
+    }
+
+    static int size_variant_index(int value) {
+        return com.novi.serde.BinaryOutput.uleb128Size(value);
+    }
+
+    static int size_bytes(com.novi.serde.Bytes value) {
+        return size_len(value.length()) + value.length();
+    }
+
+    static int size_str(String value) {
+        int length = com.novi.serde.BinaryOutput.utf8Size(value);
+        return size_len(length) + length;
+    }
+
     static void serialize_array16_u8_array(java.util.@com.novi.serde.ArrayLen(length=16) List<@com.novi.serde.Unsigned Byte> value, com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError {
         if (value.size() != 16) {
             throw new java.lang.IllegalArgumentException("Invalid length for fixed-size array: " + value.size() + " instead of "+ 16);
         }
         for (@com.novi.serde.Unsigned Byte item : value) {
-            serializer.serialize_u8(item);
+            serializer.serialize_u8(item.byteValue());
         }
     }
 
@@ -27,6 +44,10 @@ final class TraitHelpers {
         }
     }
 
+    static int size_option_bytes(java.util.Optional<com.novi.serde.Bytes> value) {
+        return value.isPresent() ? 1 + size_bytes(value.get()) : 1;
+    }
+
     static java.util.Optional<com.novi.serde.Bytes> deserialize_option_bytes(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         boolean tag = deserializer.deserialize_option_tag();
         if (!tag) {
@@ -45,6 +66,10 @@ final class TraitHelpers {
         }
     }
 
+    static int size_option_str(java.util.Optional<String> value) {
+        return value.isPresent() ? 1 + size_str(value.get()) : 1;
+    }
+
     static java.util.Optional<String> deserialize_option_str(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         boolean tag = deserializer.deserialize_option_tag();
         if (!tag) {
@@ -57,12 +82,16 @@ final class TraitHelpers {
     static void serialize_option_u64(java.util.Optional<@com.novi.serde.Unsigned Long> value, com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError {
         if (value.isPresent()) {
             serializer.serialize_option_tag(true);
-            serializer.serialize_u64(value.get());
+            serializer.serialize_u64(value.get().longValue());
         } else {
             serializer.serialize_option_tag(false);
         }
     }
 
+    static int size_option_u64(java.util.Optional<@com.novi.serde.Unsigned Long> value) {
+        return value.isPresent() ? 1 + 8 : 1;
+    }
+
     static java.util.Optional<@com.novi.serde.Unsigned Long> deserialize_option_u64(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         boolean tag = deserializer.deserialize_option_tag();
         if (!tag) {
@@ -77,6 +106,10 @@ final class TraitHelpers {
         value.field1.serialize(serializer);
     }
 
+    static int size_tuple2_AccessPath_WriteOp(com.novi.serde.Tuple2<AccessPath, WriteOp> value) {
+        return value.field0.serializedSize() + value.field1.serializedSize();
+    }
+
     static com.novi.serde.Tuple2<AccessPath, WriteOp> deserialize_tuple2_AccessPath_WriteOp(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         return new com.novi.serde.Tuple2<AccessPath, WriteOp>(
             AccessPath.deserialize(deserializer),
@@ -91,6 +124,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_AccountAddress(java.util.List<AccountAddress> value) {
+        int size = size_len(value.size());
+        for (AccountAddress item : value) {
+            size += item.serializedSize();
+        }
+        return size;
+    }
+
     static java.util.List<AccountAddress> deserialize_vector_AccountAddress(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<AccountAddress> obj = new java.util.ArrayList<AccountAddress>((int) length);
@@ -107,6 +148,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_ContractEvent(java.util.List<ContractEvent> value) {
+        int size = size_len(value.size());
+        for (ContractEvent item : value) {
+            size += item.serializedSize();
+        }
+        return size;
+    }
+
     static java.util.List<ContractEvent> deserialize_vector_ContractEvent(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<ContractEvent> obj = new java.util.ArrayList<ContractEvent>((int) length);
@@ -123,6 +172,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_TransactionArgument(java.util.List<TransactionArgument> value) {
+        int size = size_len(value.size());
+        for (TransactionArgument item : value) {
+            size += item.serializedSize();
+        }
+        return size;
+    }
+
     static java.util.List<TransactionArgument> deserialize_vector_TransactionArgument(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<TransactionArgument> obj = new java.util.ArrayList<TransactionArgument>((int) length);
@@ -139,6 +196,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_TypeTag(java.util.List<TypeTag> value) {
+        int size = size_len(value.size());
+        for (TypeTag item : value) {
+            size += item.serializedSize();
+        }
+        return size;
+    }
+
     static java.util.List<TypeTag> deserialize_vector_TypeTag(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<TypeTag> obj = new java.util.ArrayList<TypeTag>((int) length);
@@ -155,6 +220,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_bytes(java.util.List<com.novi.serde.Bytes> value) {
+        int size = size_len(value.size());
+        for (com.novi.serde.Bytes item : value) {
+            size += size_bytes(item);
+        }
+        return size;
+    }
+
     static java.util.List<com.novi.serde.Bytes> deserialize_vector_bytes(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<com.novi.serde.Bytes> obj = new java.util.ArrayList<com.novi.serde.Bytes>((int) length);
@@ -171,6 +244,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_str(java.util.List<String> value) {
+        int size = size_len(value.size());
+        for (String item : value) {
+            size += size_str(item);
+        }
+        return size;
+    }
+
     static java.util.List<String> deserialize_vector_str(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<String> obj = new java.util.ArrayList<String>((int) length);
@@ -187,6 +268,14 @@ final class TraitHelpers {
         }
     }
 
+    static int size_vector_tuple2_AccessPath_WriteOp(java.util.List<com.novi.serde.Tuple2<AccessPath, WriteOp>> value) {
+        int size = size_len(value.size());
+        for (com.novi.serde.Tuple2<AccessPath, WriteOp> item : value) {
+            size += size_tuple2_AccessPath_WriteOp(item);
+        }
+        return size;
+    }
+
     static java.util.List<com.novi.serde.Tuple2<AccessPath, WriteOp>> deserialize_vector_tuple2_AccessPath_WriteOp(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         long length = deserializer.deserialize_len();
         java.util.List<com.novi.serde.Tuple2<AccessPath, WriteOp>> obj = new java.util.ArrayList<com.novi.serde.Tuple2<AccessPath, WriteOp>>((int) length);
@@ -5,6 +5,8 @@ public abstract class TransactionArgument {
 
     abstract public void serialize(com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError;
 
+    abstract public int serializedSize();
+
     public static TransactionArgument deserialize(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
         int index = deserializer.deserialize_variant_index();
         switch (index) {
@@ -19,7 +21,7 @@ public abstract class TransactionArgument {
     }
 
     public byte[] bcsSerialize() throws com.novi.serde.SerializationError {
-        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer();
+        com.novi.serde.Serializer serializer = new com.novi.bcs.BcsSerializer(serializedSize());
         serialize(serializer);
         return serializer.get_bytes();
     }
@@ -37,10 +39,9 @@ public abstract class TransactionArgument {
     }
 
     public static final class U8 extends TransactionArgument {
-        public final @com.novi.serde.Unsigned Byte value;
+        public final @com.novi.serde.Unsigned byte value;
 
-        public U8(@com.novi.serde.Unsigned Byte value) {
-            java.util.Objects.requireNonNull(value, "value must not be null");
+        public U8(@com.novi.serde.Unsigned byte value) {
             this.value = value;
         }
 
@@ -51,10 +52,17 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(0);
+            size += 1;
+            return size;
+        }
+
         static U8 load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
-            builder.value = deserializer.deserialize_u8();
+            builder.value = deserializer.deserialize_u8_primitive();
             deserializer.decrease_container_depth();
             return builder.build();
         }
@@ -64,18 +72,18 @@ public abstract class TransactionArgument {
             if (obj == null) return false;
             if (getClass() != obj.getClass()) return false;
             U8 other = (U8) obj;
-            if (!java.util.Objects.equals(this.value, other.value)) { return false; }
+            if (this.value != other.value) { return false; }
             return true;
         }
 
         public int hashCode() {
             int value = 7;
-            value = 31 * value + (this.value != null ? this.value.hashCode() : 0);
+            value = 31 * value + Byte.hashCode(this.value);
             return value;
         }
 
         public static final class Builder {
-            public @com.novi.serde.Unsigned Byte value;
+            public @com.novi.serde.Unsigned byte value;
 
             public U8 build() {
                 return new U8(
@@ -86,10 +94,9 @@ public abstract class TransactionArgument {
     }
 
     public static final class U64 extends TransactionArgument {
-        public final @com.novi.serde.Unsigned Long value;
+        public final @com.novi.serde.Unsigned long value;
 
-        public U64(@com.novi.serde.Unsigned Long value) {
-            java.util.Objects.requireNonNull(value, "value must not be null");
+        public U64(@com.novi.serde.Unsigned long value) {
             this.value = value;
         }
 
@@ -100,10 +107,17 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(1);
+            size += 8;
+            return size;
+        }
+
         static U64 load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
-            builder.value = deserializer.deserialize_u64();
+            builder.value = deserializer.deserialize_u64_primitive();
             deserializer.decrease_container_depth();
             return builder.build();
         }
@@ -113,18 +127,18 @@ public abstract class TransactionArgument {
             if (obj == null) return false;
             if (getClass() != obj.getClass()) return false;
             U64 other = (U64) obj;
-            if (!java.util.Objects.equals(this.value, other.value)) { return false; }
+            if (this.value != other.value) { return false; }
             return true;
         }
 
         public int hashCode() {
             int value = 7;
-            value = 31 * value + (this.value != null ? this.value.hashCode() : 0);
+            value = 31 * value + Long.hashCode(this.value);
             return value;
         }
 
         public static final class Builder {
-            public @com.novi.serde.Unsigned Long value;
+            public @com.novi.serde.Unsigned long value;
 
             public U64 build() {
                 return new U64(
@@ -135,13 +149,21 @@ public abstract class TransactionArgument {
     }
 
     public static final class U128 extends TransactionArgument {
-        public final java.math.@com.novi.serde.Unsigned @com.novi.serde.Int128 BigInteger value;
+        public final com.novi.serde.@com.novi.serde.Unsigned @com.novi.serde.Int128 U128 value;
 
-        public U128(java.math.@com.novi.serde.Unsigned @com.novi.serde.Int128 BigInteger value) {
+        public U128(com.novi.serde.@com.novi.serde.Unsigned @com.novi.serde.Int128 U128 value) {
             java.util.Objects.requireNonNull(value, "value must not be null");
             this.value = value;
         }
 
+        public U128(java.math.@com.novi.serde.Unsigned @com.novi.serde.Int128 BigInteger value) {
+            this(com.novi.serde.U128.valueOf(value));
+        }
+
+        public java.math.BigInteger toBigInteger() {
+            return value.toBigInteger();
+        }
+
         public void serialize(com.novi.serde.Serializer serializer) throws com.novi.serde.SerializationError {
             serializer.increase_container_depth();
             serializer.serialize_variant_index(2);
@@ -149,10 +171,17 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(2);
+            size += 16;
+            return size;
+        }
+
         static U128 load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
-            builder.value = deserializer.deserialize_u128();
+            builder.value = deserializer.deserialize_u128_value();
             deserializer.decrease_container_depth();
             return builder.build();
         }
@@ -173,7 +202,7 @@ public abstract class TransactionArgument {
         }
 
         public static final class Builder {
-            public java.math.@com.novi.serde.Unsigned @com.novi.serde.Int128 BigInteger value;
+            public com.novi.serde.@com.novi.serde.Unsigned @com.novi.serde.Int128 U128 value;
 
             public U128 build() {
                 return new U128(
@@ -198,6 +227,13 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(3);
+            size += value.serializedSize();
+            return size;
+        }
+
         static Address load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -247,6 +283,13 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(4);
+            size += TraitHelpers.size_bytes(value);
+            return size;
+        }
+
         static U8Vector load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
@@ -282,10 +325,9 @@ public abstract class TransactionArgument {
     }
 
     public static final class Bool extends TransactionArgument {
-        public final Boolean value;
+        public final boolean value;
 
-        public Bool(Boolean value) {
-            java.util.Objects.requireNonNull(value, "value must not be null");
+        public Bool(boolean value) {
             this.value = value;
         }
 
@@ -296,10 +338,17 @@ public abstract class TransactionArgument {
             serializer.decrease_container_depth();
         }
 
+        public int serializedSize() {
+            int size = 0;
+            size += TraitHelpers.size_variant_index(5);
+            size += 1;
+            return size;
+        }
+
         static Bool load(com.novi.serde.Deserializer deserializer) throws com.novi.serde.DeserializationError {
             deserializer.increase_container_depth();
             Builder builder = new Builder();
-            builder.value = deserializer.deserialize_bool();
+            builder.value = deserializer.deserialize_bool_primitive();
             deserializer.decrease_container_depth();
             return builder.build();
         }
@@ -309,18 +358,18 @@ public abstract class TransactionArgument {
             if (obj == null) return false;
             if (getClass() != obj.getClass()) return false;
             Bool other = (Bool) obj;
-            if (!java.util.Objects.equals(this.value, other.value)) { return false; }
+            if (this.value != other.value) { return false; }
             return true;
         }
 
         public int hashCode() {
             int value = 7;
-            value = 31 * value + (this.value != null ? this.value.hashCode() : 0);
+            value = 31 * value + Boolean.hashCode(this.value);
             return value;
         }
 
         public static final class Builder {
-            public Boolean value;
+            public boolean value;
 
             public Bool build() {
                 return new Bool(
@@ -3,6 +3,8 @@
 
 /**
  * Provides Diem on-chain data structure types.
- * Code is generated, do not modify.
+ * Code is generated, then maintained by hand: fixed-width numeric fields are primitives, AccountAddress is stored
+ * as two longs, and types compute their `serializedSize`. `gradle gen` does not overwrite these sources, it fails
+ * listing the regenerated files to merge by hand.
  */
 package com.diem.types;
\ No newline at end of file
@@ -5,9 +5,6 @@ package com.diem.utils;
 
 import com.diem.types.AccountAddress;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public class AccountAddressUtils {
     public static int ACCOUNT_ADDRESS_LENGTH = 16;
 
@@ -22,11 +19,7 @@ public class AccountAddressUtils {
         if (bytes.length != ACCOUNT_ADDRESS_LENGTH) {
             throw new IllegalArgumentException(String.format("account address bytes length must be {}", ACCOUNT_ADDRESS_LENGTH));
         }
-        List<Byte> address = new ArrayList<Byte>();
-        for (int i = 0; i < ACCOUNT_ADDRESS_LENGTH; i++) {
-            address.add(Byte.valueOf(bytes[i]));
-        }
-        return new AccountAddress(address);
+        return AccountAddress.valueOf(bytes);
     }
 
     /**
@@ -46,7 +39,7 @@ public class AccountAddressUtils {
      * @return hex-encoded bytes string
      */
     public static String hex(AccountAddress address) {
-        return Hex.encode(address.value);
+        return Hex.encode(address.toBytes());
     }
 
     /**
@@ -54,10 +47,6 @@ public class AccountAddressUtils {
      * @return byte array of the address
      */
     public static byte[] bytes(AccountAddress address) {
-        byte[] ret = new byte[ACCOUNT_ADDRESS_LENGTH];
-        for (int i = 0; i < ACCOUNT_ADDRESS_LENGTH; i++) {
-            ret[i] = address.value.get(i);
-        }
-        return ret;
+        return address.toBytes();
     }
 }
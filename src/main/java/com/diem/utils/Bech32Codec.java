@@ -0,0 +1,263 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.utils;
+
+import org.bitcoinj.core.AddressFormatException;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Bech32Codec implements bech32 (BIP-173) and bech32m (BIP-350) encoding and decoding of 5-bit values on
+ * primitive arrays, for the short Diem network prefixes (dm, tdm, pdm, ddm) used by account identifiers.
+ * </p>
+ *
+ * <p>
+ * Methods write into caller-supplied arrays and return the number of values written, no intermediate array or
+ * collection is created. Invalid input throws bitcoinj's AddressFormatException, an IllegalArgumentException,
+ * with the same messages as `org.bitcoinj.core.Bech32`.
+ * </p>
+ */
+public final class Bech32Codec {
+
+    public enum Variant {
+        BECH32(1), BECH32M(0x2bc830a3);
+
+        private final int constant;
+
+        Variant(int constant) {
+            this.constant = constant;
+        }
+    }
+
+    public static final int CHECKSUM_LENGTH = 6;
+    public static final int MAX_LENGTH = 90;
+    public static final char SEPARATOR = '1';
+
+    private static final char[] CHARSET = "qpzry9x8gf2tvdw0s3jn54khce6mua7l".toCharArray();
+    // 5-bit value of a charset character (lower or upper case), -1 for other ASCII characters
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < CHARSET.length; i++) {
+            VALUES[CHARSET[i]] = (byte) i;
+            VALUES[Character.toUpperCase(CHARSET[i])] = (byte) i;
+        }
+    }
+
+    private Bech32Codec() {
+    }
+
+    /**
+     * @return checksum state after the expanded human-readable part, to continue with `polymod(int, int)`.
+     */
+    public static int hrpState(CharSequence hrp) {
+        int chk = 1;
+        for (int i = 0; i < hrp.length(); i++) {
+            chk = polymod(chk, Character.toLowerCase(hrp.charAt(i)) >>> 5);
+        }
+        chk = polymod(chk, 0);
+        for (int i = 0; i < hrp.length(); i++) {
+            chk = polymod(chk, Character.toLowerCase(hrp.charAt(i)) & 0x1f);
+        }
+        return chk;
+    }
+
+    /**
+     * One step of the BCH checksum: feeds a 5-bit value into the checksum state.
+     */
+    public static int polymod(int chk, int value) {
+        int top = chk >>> 25;
+        chk = ((chk & 0x1ffffff) << 5) ^ value;
+        if ((top & 1) != 0) chk ^= 0x3b6a57b2;
+        if ((top & 2) != 0) chk ^= 0x26508e6d;
+        if ((top & 4) != 0) chk ^= 0x1ea119fa;
+        if ((top & 8) != 0) chk ^= 0x3d4233dd;
+        if ((top & 16) != 0) chk ^= 0x2a1462b3;
+        return chk;
+    }
+
+    /**
+     * @return encoded character of a 5-bit value.
+     */
+    public static char character(int value) {
+        return CHARSET[value];
+    }
+
+    public static int encodedLength(int hrpLength, int dataLength) {
+        return hrpLength + 1 + dataLength + CHECKSUM_LENGTH;
+    }
+
+    public static String encode(String hrp, byte[] data, int offset, int length, Variant variant) {
+        char[] chars = new char[encodedLength(hrp.length(), length)];
+        encode(hrp, hrpState(hrp), data, offset, length, variant, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * Encode 5-bit values into `dst` from `dstOffset` as lower case characters.
+     *
+     * @param hrpState `hrpState(hrp)`, which can be computed once for encoding many values with the same prefix.
+     * @return number of characters written, `encodedLength(hrp.length(), length)`.
+     */
+    public static int encode(String hrp, int hrpState, byte[] data, int offset, int length, Variant variant,
+                             char[] dst, int dstOffset) {
+        int pos = dstOffset;
+        for (int i = 0; i < hrp.length(); i++) {
+            dst[pos++] = Character.toLowerCase(hrp.charAt(i));
+        }
+        dst[pos++] = SEPARATOR;
+        int chk = hrpState;
+        for (int i = offset; i < offset + length; i++) {
+            int value = data[i];
+            if ((value & ~0x1f) != 0) {
+                throw new IllegalArgumentException(String.format("bech32 value should be 5 bits, but given %d", value));
+            }
+            chk = polymod(chk, value);
+            dst[pos++] = CHARSET[value];
+        }
+        return pos - dstOffset + checksum(chk, variant, dst, pos);
+    }
+
+    /**
+     * Append the checksum of the checksum state to `dst` from `dstOffset`.
+     *
+     * @return number of characters written, `CHECKSUM_LENGTH`.
+     */
+    public static int checksum(int chk, Variant variant, char[] dst, int dstOffset) {
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            chk = polymod(chk, 0);
+        }
+        chk ^= variant.constant;
+        for (int i = 0; i < CHECKSUM_LENGTH; i++) {
+            dst[dstOffset + i] = CHARSET[(chk >>> (5 * (5 - i))) & 0x1f];
+        }
+        return CHECKSUM_LENGTH;
+    }
+
+    /**
+     * Decode the 5-bit values of a bech32 string of the expected variant into `dst` from `dstOffset`.
+     *
+     * @param hrp expected human-readable part, compared case-insensitively.
+     * @param dst destination with room for `str.length()` values, or `MAX_LENGTH` for any valid input.
+     * @return number of values written, the data part length without checksum.
+     * @throws AddressFormatException if the string is invalid, or its prefix or variant does not match.
+     */
+    public static int decode(CharSequence str, String hrp, Variant variant, byte[] dst, int dstOffset)
+            throws AddressFormatException {
+        int length = str.length();
+        if (length < 8) {
+            throw new AddressFormatException("Input too short: " + length);
+        }
+        if (length > MAX_LENGTH) {
+            throw new AddressFormatException("Input too long: " + length);
+        }
+        boolean lower = false, upper = false;
+        int separator = -1;
+        for (int i = 0; i < length; i++) {
+            char c = str.charAt(i);
+            if (c < 33 || c > 126) {
+                throw new AddressFormatException(String.format("Invalid character '%c' at position %d", c, i));
+            }
+            if (c >= 'a' && c <= 'z') {
+                lower = true;
+            } else if (c >= 'A' && c <= 'Z') {
+                upper = true;
+            } else if (c == SEPARATOR) {
+                separator = i;
+            }
+        }
+        if (lower && upper) {
+            throw new AddressFormatException("Cannot mix upper and lower cases");
+        }
+        if (separator < 1) {
+            throw new AddressFormatException("Missing human-readable part");
+        }
+        int dataLength = length - 1 - separator - CHECKSUM_LENGTH;
+        if (dataLength < 0) {
+            throw new AddressFormatException("Data part too short: " + (length - 1 - separator));
+        }
+        if (!matches(str, separator, hrp)) {
+            throw new AddressFormatException(String.format("Invalid network prefix : %s != %s",
+                    hrp, str.subSequence(0, separator).toString().toLowerCase()));
+        }
+        int chk = hrpState(hrp);
+        for (int i = separator + 1; i < length; i++) {
+            char c = str.charAt(i);
+            int value = VALUES[c];
+            if (value < 0) {
+                throw new AddressFormatException(String.format("Invalid character '%c' at position %d", c, i));
+            }
+            chk = polymod(chk, value);
+            if (i < length - CHECKSUM_LENGTH) {
+                dst[dstOffset + i - separator - 1] = (byte) value;
+            }
+        }
+        if (chk != variant.constant) {
+            throw new AddressFormatException("Checksum does not validate");
+        }
+        return dataLength;
+    }
+
+    /**
+     * Regroup `length` values of `fromBits` bits from `offset` into values of `toBits` bits into `dst` from
+     * `dstOffset`, e.g. 8-bit bytes into 5-bit bech32 values.
+     *
+     * <p>Adapted from org.bitcoinj.core.SegwitAddress#convertBits to write into an array range, and throw
+     * IllegalArgumentException instead of AddressFormatException. bitcoinj is released under Apache License 2.</p>
+     *
+     * @param pad pad the last value with zero bits, otherwise the left over bits must be zero padding.
+     * @return number of values written
+     */
+    public static int convertBits(byte[] inputs, int offset, int length, int fromBits, int toBits, boolean pad,
+                                  byte[] dst, int dstOffset) throws IllegalArgumentException {
+        int acc = 0;
+        int bits = 0;
+        int pos = dstOffset;
+        final int maxv = (1 << toBits) - 1;
+        final int maxAcc = (1 << (fromBits + toBits - 1)) - 1;
+        for (int i = offset; i < offset + length; i++) {
+            int value = inputs[i] & 0xff;
+            if ((value >>> fromBits) != 0) {
+                throw new IllegalArgumentException(
+                        String.format("Input value '%X' exceeds '%d' bit size", value, fromBits));
+            }
+            acc = ((acc << fromBits) | value) & maxAcc;
+            bits += fromBits;
+            while (bits >= toBits) {
+                bits -= toBits;
+                dst[pos++] = (byte) ((acc >>> bits) & maxv);
+            }
+        }
+        if (pad) {
+            if (bits > 0) {
+                dst[pos++] = (byte) ((acc << (toBits - bits)) & maxv);
+            }
+        } else if (bits >= fromBits || ((acc << (toBits - bits)) & maxv) != 0) {
+            throw new IllegalArgumentException("Could not convert bits, invalid padding");
+        }
+        return pos - dstOffset;
+    }
+
+    /**
+     * @return number of values `convertBits` writes for `length` inputs.
+     */
+    public static int convertedLength(int length, int fromBits, int toBits, boolean pad) {
+        int bits = length * fromBits;
+        return pad ? (bits + toBits - 1) / toBits : bits / toBits;
+    }
+
+    private static boolean matches(CharSequence str, int separator, String hrp) {
+        if (separator != hrp.length()) {
+            return false;
+        }
+        for (int i = 0; i < separator; i++) {
+            if (Character.toLowerCase(str.charAt(i)) != Character.toLowerCase(hrp.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
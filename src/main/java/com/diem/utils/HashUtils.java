@@ -5,13 +5,15 @@ package com.diem.utils;
 
 import com.diem.types.RawTransaction;
 import com.diem.types.Transaction;
+import com.novi.serde.Bytes;
 import com.novi.serde.SerializationError;
 import org.bouncycastle.jcajce.provider.digest.SHA3;
 import com.diem.types.SignedTransaction;
 
-import static com.google.common.primitives.Bytes.concat;
-
 public class HashUtils {
+    // hash prefixes of the salts used for every signature and transaction hash, they must not be modified.
+    static final byte[] RAW_TRANSACTION_HASH_PREFIX = hashPrefix("RawTransaction");
+    static final byte[] TRANSACTION_HASH_PREFIX = hashPrefix("Transaction");
 
     public static byte[] hashPrefix(String name) {
         return hash("DIEM::".getBytes(), name.getBytes());
@@ -31,6 +33,20 @@ public class HashUtils {
         return digestSHA3.digest();
     }
 
+    /**
+     * @param prefix
+     * @param bytes
+     * @return sha3 256 hash of given prefix and bytes, the bytes are read without copying.
+     */
+    public static byte[] hash(byte[] prefix, Bytes bytes) {
+        SHA3.DigestSHA3 digestSHA3 = new SHA3.Digest256();
+
+        digestSHA3.update(prefix);
+        digestSHA3.update(bytes.asReadOnlyByteBuffer());
+
+        return digestSHA3.digest();
+    }
+
     /**
      * Create transaction hash of the given SignedTransaction. This hash is same with the one returned
      * from getTransactions / getAccountTransaction Transaction#hash.
@@ -39,13 +55,27 @@ public class HashUtils {
      * @return hex encoded Transaction#hash for the SignedTransaction.
      */
     public static String transactionHash(SignedTransaction signedTransaction) {
-        Transaction.UserTransaction userTransaction = new Transaction.UserTransaction(signedTransaction);
+        HashingSerializer serializer = HashingSerializer.transaction();
         try {
-            byte[] transactions = hash(hashPrefix("Transaction"), userTransaction.bcsSerialize());
-            return Hex.encode(transactions);
+            new Transaction.UserTransaction(signedTransaction).serialize(serializer);
         } catch (SerializationError e) {
             throw new RuntimeException(e);
         }
+        return Hex.encode(serializer.digest());
+    }
+
+    /**
+     * Same as transactionHash(SignedTransaction), for a SignedTransaction that is already serialized.
+     *
+     * @param signedTransaction BCS serialized SignedTransaction
+     * @return hex encoded Transaction#hash for the SignedTransaction.
+     */
+    public static String transactionHash(byte[] signedTransaction) {
+        HashingSerializer serializer = HashingSerializer.transaction();
+        // variant index of Transaction.UserTransaction
+        serializer.update(new byte[]{0}, 0, 1);
+        serializer.update(signedTransaction, 0, signedTransaction.length);
+        return Hex.encode(serializer.digest());
     }
 
     public static byte[] sha3Hash(byte[] data) {
@@ -53,15 +83,21 @@ public class HashUtils {
         return digestSHA3.digest(data);
     }
 
+    public static byte[] sha3Hash(Bytes data) {
+        SHA3.DigestSHA3 digestSHA3 = new SHA3.Digest256();
+        digestSHA3.update(data.asReadOnlyByteBuffer());
+        return digestSHA3.digest();
+    }
+
     /**
      * @param txn
      * @return hash bytes of given RawTransaction for creating it's signature.
      */
     public static byte[] signatureMessage(RawTransaction txn) {
-        try {
-            return concat(hashPrefix("RawTransaction"), txn.bcsSerialize());
-        } catch (SerializationError e) {
-            throw new RuntimeException(e);
-        }
+        byte[] prefix = RAW_TRANSACTION_HASH_PREFIX;
+        byte[] message = new byte[prefix.length + txn.serializedSize()];
+        System.arraycopy(prefix, 0, message, 0, prefix.length);
+        TransactionEncoder.encode(txn, message, prefix.length);
+        return message;
     }
 }
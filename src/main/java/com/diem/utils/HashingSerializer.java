@@ -0,0 +1,360 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.utils;
+
+import com.novi.bcs.BcsSerializer;
+import com.novi.serde.BinaryOutput;
+import com.novi.serde.Bytes;
+import com.novi.serde.Int128;
+import com.novi.serde.SerializationError;
+import com.novi.serde.Serializer;
+import com.novi.serde.Slice;
+import com.novi.serde.U128;
+import com.novi.serde.Unit;
+import com.novi.serde.Unsigned;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * HashingSerializer is a BCS Serializer feeding the serialized bytes into a SHA3-256 digest instead of a buffer,
+ * so that a value can be hashed without materializing its serialized bytes.
+ * </p>
+ *
+ * <p>
+ * `rawTransaction()` and `transaction()` start from digest states already seeded with the hash prefix of
+ * the `RawTransaction` and `Transaction` salts; the seeded states are computed once and copied per serializer.
+ * </p>
+ *
+ * <p>
+ * Serialized bytes are only kept from the first `get_buffer_offset` call, i.e. the first map entry, until the
+ * entries starting there are sorted by `sort_map_entries`; `get_bytes` is not supported and throws
+ * UnsupportedOperationException.
+ * </p>
+ *
+ * Instances are not thread-safe and must not be used after calling `digest()`.
+ */
+public final class HashingSerializer implements Serializer {
+
+    private static final SHA3Digest RAW_TRANSACTION_SEED = seed(HashUtils.RAW_TRANSACTION_HASH_PREFIX);
+    private static final SHA3Digest TRANSACTION_SEED = seed(HashUtils.TRANSACTION_HASH_PREFIX);
+
+    // multiple of the SHA3-256 rate (136 bytes), small values are batched before being absorbed by the digest.
+    private static final int BUFFER_SIZE = 272;
+
+    private final SHA3Digest digest;
+    // buffered bytes are the last `position` bytes serialized, grown while map entries are kept
+    private byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    // offset of the first kept map entry, -1 if none
+    private long mark = -1;
+    private final OutputStream stream = new OutputStream() {
+        @Override
+        public void write(int b) {
+            put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            update(b, off, len);
+        }
+    };
+    private long size;
+    private long containerDepthBudget = BcsSerializer.MAX_CONTAINER_DEPTH;
+
+    /**
+     * Create a serializer hashing the serialized bytes without prefix.
+     */
+    public HashingSerializer() {
+        this(new SHA3Digest(256));
+    }
+
+    private HashingSerializer(SHA3Digest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Create a serializer hashing with the given prefix, e.g. `HashUtils.hashPrefix(name)`.
+     */
+    public static HashingSerializer withPrefix(byte[] prefix) {
+        return new HashingSerializer(seed(prefix));
+    }
+
+    /**
+     * @return serializer for hashing a RawTransaction, its digest is the signing message hash.
+     */
+    public static HashingSerializer rawTransaction() {
+        return new HashingSerializer(new SHA3Digest(RAW_TRANSACTION_SEED));
+    }
+
+    /**
+     * @return serializer for hashing a Transaction, its digest is the Transaction#hash.
+     */
+    public static HashingSerializer transaction() {
+        return new HashingSerializer(new SHA3Digest(TRANSACTION_SEED));
+    }
+
+    /**
+     * Hash bytes that are already serialized, e.g. part of a value encoded elsewhere.
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        if (length > buffer.length - position) {
+            flush();
+            if (mark < 0 && length > buffer.length) {
+                digest.update(bytes, offset, length);
+                size += length;
+                return;
+            }
+            reserve(length);
+        }
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+        size += length;
+    }
+
+    /**
+     * @return SHA3-256 hash of the prefix and the serialized bytes.
+     */
+    public byte[] digest() {
+        mark = -1;
+        flush();
+        byte[] hash = new byte[digest.getDigestSize()];
+        digest.doFinal(hash, 0);
+        return hash;
+    }
+
+    public void serialize_str(String value) throws SerializationError {
+        int length = BinaryOutput.utf8Size(value);
+        serialize_len(length);
+        if (mark < 0 && length > BUFFER_SIZE) {
+            byte[] content = new byte[length];
+            BinaryOutput.encodeUtf8(value, length, content, 0);
+            update(content, 0, length);
+            return;
+        }
+        reserve(length);
+        BinaryOutput.encodeUtf8(value, length, buffer, position);
+        position += length;
+        size += length;
+    }
+
+    public void serialize_bytes(Bytes value) throws SerializationError {
+        serialize_len(value.length());
+        try {
+            value.writeTo(stream);
+        } catch (IOException e) {
+            throw new SerializationError(e.getMessage());
+        }
+    }
+
+    public void serialize_bool(Boolean value) throws SerializationError {
+        serialize_bool(value.booleanValue());
+    }
+
+    public void serialize_bool(boolean value) throws SerializationError {
+        serialize_u8((byte) (value ? 1 : 0));
+    }
+
+    public void serialize_unit(Unit value) throws SerializationError {
+    }
+
+    public void serialize_char(Character value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_char");
+    }
+
+    public void serialize_f32(Float value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_f32");
+    }
+
+    public void serialize_f64(Double value) throws SerializationError {
+        throw new SerializationError("Not implemented: serialize_f64");
+    }
+
+    public void serialize_u8(@Unsigned Byte value) throws SerializationError {
+        serialize_u8(value.byteValue());
+    }
+
+    public void serialize_u8(@Unsigned byte value) throws SerializationError {
+        put(value);
+    }
+
+    public void serialize_u16(@Unsigned Short value) throws SerializationError {
+        serialize_u16(value.shortValue());
+    }
+
+    public void serialize_u16(@Unsigned short value) throws SerializationError {
+        writeLittleEndian(value, 2);
+    }
+
+    public void serialize_u32(@Unsigned Integer value) throws SerializationError {
+        serialize_u32(value.intValue());
+    }
+
+    public void serialize_u32(@Unsigned int value) throws SerializationError {
+        writeLittleEndian(value, 4);
+    }
+
+    public void serialize_u64(@Unsigned Long value) throws SerializationError {
+        serialize_u64(value.longValue());
+    }
+
+    public void serialize_u64(@Unsigned long value) throws SerializationError {
+        writeLittleEndian(value, 8);
+    }
+
+    public void serialize_u128(@Unsigned @Int128 BigInteger value) throws SerializationError {
+        serialize_u128(U128.valueOf(value));
+    }
+
+    public void serialize_u128(@Unsigned @Int128 U128 value) throws SerializationError {
+        writeLittleEndian(value.low(), 8);
+        writeLittleEndian(value.high(), 8);
+    }
+
+    public void serialize_i8(Byte value) throws SerializationError {
+        serialize_u8(value.byteValue());
+    }
+
+    public void serialize_i16(Short value) throws SerializationError {
+        serialize_u16(value.shortValue());
+    }
+
+    public void serialize_i32(Integer value) throws SerializationError {
+        serialize_u32(value.intValue());
+    }
+
+    public void serialize_i64(Long value) throws SerializationError {
+        serialize_u64(value.longValue());
+    }
+
+    public void serialize_i128(@Int128 BigInteger value) throws SerializationError {
+        if (value.bitLength() > 127) {
+            throw new java.lang.IllegalArgumentException("Invalid value for a signed int128");
+        }
+        writeLittleEndian(value.longValue(), 8);
+        writeLittleEndian(value.shiftRight(64).longValue(), 8);
+    }
+
+    public void serialize_len(long value) throws SerializationError {
+        if ((value < 0) || (value > BcsSerializer.MAX_LENGTH)) {
+            throw new SerializationError("Incorrect length value");
+        }
+        writeUleb128((int) value);
+    }
+
+    public void serialize_variant_index(int value) throws SerializationError {
+        writeUleb128(value);
+    }
+
+    public void serialize_option_tag(boolean value) throws SerializationError {
+        serialize_bool(value);
+    }
+
+    public void increase_container_depth() throws SerializationError {
+        if (containerDepthBudget == 0) {
+            throw new SerializationError("Exceeded maximum container depth");
+        }
+        containerDepthBudget -= 1;
+    }
+
+    public void decrease_container_depth() {
+        containerDepthBudget += 1;
+    }
+
+    /**
+     * @return number of serialized bytes hashed so far, excluding the prefix.
+     */
+    public int get_buffer_offset() {
+        if (mark < 0) {
+            mark = size;
+        }
+        return (int) size;
+    }
+
+    /**
+     * Sort the kept map entries the same way as BcsSerializer, and stop keeping them once the outermost map is sorted.
+     */
+    public void sort_map_entries(int[] offsets) {
+        if (offsets.length == 0) {
+            return;
+        }
+        if (offsets.length > 1) {
+            int base = (int) (size - position);
+            Slice[] slices = new Slice[offsets.length];
+            for (int i = 0; i < offsets.length; i++) {
+                int end = i + 1 < offsets.length ? offsets[i + 1] : (int) size;
+                slices[i] = new Slice(offsets[i] - base, end - base);
+            }
+            Arrays.sort(slices, (slice1, slice2) -> Slice.compare_bytes(buffer, slice1, slice2));
+            byte[] content = new byte[(int) size - offsets[0]];
+            int length = 0;
+            for (Slice slice : slices) {
+                System.arraycopy(buffer, slice.start, content, length, slice.end - slice.start);
+                length += slice.end - slice.start;
+            }
+            System.arraycopy(content, 0, buffer, offsets[0] - base, length);
+        }
+        if (offsets[0] == mark) {
+            mark = -1;
+        }
+    }
+
+    public byte[] get_bytes() {
+        throw new UnsupportedOperationException("HashingSerializer does not keep serialized bytes, use digest()");
+    }
+
+    private void put(byte value) {
+        if (position == buffer.length) {
+            reserve(1);
+        }
+        buffer[position++] = value;
+        size++;
+    }
+
+    // absorb the buffered bytes, except the kept map entries
+    private void flush() {
+        int kept = mark < 0 ? 0 : (int) (size - mark);
+        int absorbed = position - kept;
+        if (absorbed > 0) {
+            digest.update(buffer, 0, absorbed);
+            System.arraycopy(buffer, absorbed, buffer, 0, kept);
+            position = kept;
+        }
+    }
+
+    private void reserve(int length) {
+        if (buffer.length - position < length) {
+            flush();
+            if (buffer.length - position < length) {
+                buffer = Arrays.copyOf(buffer, Math.max(position + length, buffer.length * 2));
+            }
+        }
+    }
+
+    private void writeLittleEndian(long value, int length) {
+        reserve(length);
+        for (int i = 0; i < length; i++) {
+            buffer[position++] = (byte) (value >>> (8 * i));
+        }
+        size += length;
+    }
+
+    private void writeUleb128(int value) {
+        while ((value >>> 7) != 0) {
+            put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        put((byte) value);
+    }
+
+    private static SHA3Digest seed(byte[] prefix) {
+        SHA3Digest digest = new SHA3Digest(256);
+        digest.update(prefix, 0, prefix.length);
+        return digest;
+    }
+}
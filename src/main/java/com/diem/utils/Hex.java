@@ -3,31 +3,206 @@
 
 package com.diem.utils;
 
-import com.google.common.io.BaseEncoding;
 import com.novi.serde.Bytes;
 import com.novi.serde.Unsigned;
-import org.apache.commons.lang3.ArrayUtils;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
 
+/**
+ * <p>
+ * Hex is a lookup table based hex codec.
+ * </p>
+ *
+ * <p>
+ * `encode` returns upper case hex strings, `encodeLowerCase` the lower case hex strings used by the Diem JSON-RPC
+ * API. Decoding is case-insensitive, from a CharSequence or from a range of ASCII bytes, and throws
+ * IllegalArgumentException for an odd length or a non hex character.
+ * </p>
+ *
+ * <p>
+ * Methods taking a destination array or an Appendable encode into it without creating a String, e.g. to write
+ * a hex encoded field straight into a JSON writer:
+ * </p>
+ * <code>
+ * writer.write("{\"bytes\":");
+ * Hex.appendJsonString(bytes, writer);
+ * </code>
+ */
 public class Hex {
+    private static final char[] DIGITS = "0123456789ABCDEF".toCharArray();
+    private static final char[] LOWER_CASE_DIGITS = "0123456789abcdef".toCharArray();
+    // hex digit value of an ASCII character, -1 for non hex characters
+    private static final byte[] VALUES = new byte[128];
+
+    static {
+        Arrays.fill(VALUES, (byte) -1);
+        for (int i = 0; i < 16; i++) {
+            VALUES[DIGITS[i]] = (byte) i;
+            VALUES[LOWER_CASE_DIGITS[i]] = (byte) i;
+        }
+    }
+
     public static byte[] decode(String hex) {
-        return BaseEncoding.base16().decode(hex.toUpperCase());
+        return decode((CharSequence) hex);
+    }
+
+    public static byte[] decode(CharSequence hex) {
+        return decode(hex, 0, hex.length());
+    }
+
+    /**
+     * Decode the characters of `hex` from `start` (inclusive) to `end` (exclusive).
+     */
+    public static byte[] decode(CharSequence hex, int start, int end) {
+        byte[] ret = new byte[decodedLength(end - start)];
+        decode(hex, start, end, ret, 0);
+        return ret;
+    }
+
+    /**
+     * Decode the characters of `hex` from `start` (inclusive) to `end` (exclusive) into `dst` from `dstOffset`.
+     *
+     * @return number of bytes decoded
+     */
+    public static int decode(CharSequence hex, int start, int end, byte[] dst, int dstOffset) {
+        int length = decodedLength(end - start);
+        for (int i = 0; i < length; i++) {
+            int index = start + 2 * i;
+            dst[dstOffset + i] = (byte) (value(hex.charAt(index), index) << 4 | value(hex.charAt(index + 1), index + 1));
+        }
+        return length;
+    }
+
+    /**
+     * Decode `length` ASCII hex characters of `ascii` from `offset`, e.g. a hex field of a JSON response body.
+     */
+    public static byte[] decode(byte[] ascii, int offset, int length) {
+        byte[] ret = new byte[decodedLength(length)];
+        decode(ascii, offset, length, ret, 0);
+        return ret;
+    }
+
+    /**
+     * Decode `length` ASCII hex characters of `ascii` from `offset` into `dst` from `dstOffset`.
+     *
+     * @return number of bytes decoded
+     */
+    public static int decode(byte[] ascii, int offset, int length, byte[] dst, int dstOffset) {
+        int ret = decodedLength(length);
+        for (int i = 0; i < ret; i++) {
+            int index = offset + 2 * i;
+            dst[dstOffset + i] = (byte) (value((char) (ascii[index] & 0xFF), index) << 4
+                    | value((char) (ascii[index + 1] & 0xFF), index + 1));
+        }
+        return ret;
     }
 
     public static String encode(byte[] bytes) {
-        return BaseEncoding.base16().encode(bytes);
+        return encode(bytes, DIGITS);
+    }
+
+    public static String encodeLowerCase(byte[] bytes) {
+        return encode(bytes, LOWER_CASE_DIGITS);
     }
 
     public static String encode(List<Byte> bytes) {
-        return encode(bytes.toArray(new Byte[0]));
+        char[] chars = new char[bytes.size() * 2];
+        int i = 0;
+        for (Byte b : bytes) {
+            encode(b, DIGITS, chars, i);
+            i += 2;
+        }
+        return new String(chars);
     }
 
     public static String encode(@Unsigned Byte[] bytes) {
-        return encode(ArrayUtils.toPrimitive(bytes));
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            encode(bytes[i], DIGITS, chars, 2 * i);
+        }
+        return new String(chars);
     }
 
     public static String encode(Bytes bytes) {
-        return encode(bytes.content());
+        char[] chars = new char[bytes.length() * 2];
+        for (int i = 0; i < bytes.length(); i++) {
+            encode(bytes.byteAt(i), DIGITS, chars, 2 * i);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Encode `length` bytes from `offset` into `dst` from `dstOffset`, `2 * length` chars are written.
+     */
+    public static void encode(byte[] bytes, int offset, int length, char[] dst, int dstOffset, boolean lowerCase) {
+        char[] digits = lowerCase ? LOWER_CASE_DIGITS : DIGITS;
+        for (int i = 0; i < length; i++) {
+            encode(bytes[offset + i], digits, dst, dstOffset + 2 * i);
+        }
+    }
+
+    /**
+     * Encode `length` bytes from `offset` as ASCII into `dst` from `dstOffset`, `2 * length` bytes are written.
+     */
+    public static void encode(byte[] bytes, int offset, int length, byte[] dst, int dstOffset, boolean lowerCase) {
+        char[] digits = lowerCase ? LOWER_CASE_DIGITS : DIGITS;
+        for (int i = 0; i < length; i++) {
+            dst[dstOffset + 2 * i] = (byte) digit(bytes[offset + i], digits, true);
+            dst[dstOffset + 2 * i + 1] = (byte) digit(bytes[offset + i], digits, false);
+        }
+    }
+
+    /**
+     * Append the hex encoded `length` bytes from `offset` to `out`.
+     */
+    public static void encode(byte[] bytes, int offset, int length, Appendable out, boolean lowerCase) throws IOException {
+        char[] digits = lowerCase ? LOWER_CASE_DIGITS : DIGITS;
+        for (int i = 0; i < length; i++) {
+            out.append(digit(bytes[offset + i], digits, true)).append(digit(bytes[offset + i], digits, false));
+        }
+    }
+
+    /**
+     * Append the bytes as a quoted lower case hex JSON string to `out`, e.g. a JSON `Writer`.
+     * Hex digits need no JSON escaping, so no intermediate String is created.
+     */
+    public static void appendJsonString(byte[] bytes, Appendable out) throws IOException {
+        out.append('"');
+        encode(bytes, 0, bytes.length, out, true);
+        out.append('"');
+    }
+
+    private static String encode(byte[] bytes, char[] digits) {
+        char[] chars = new char[bytes.length * 2];
+        encode(bytes, 0, bytes.length, chars, 0, digits == LOWER_CASE_DIGITS);
+        return new String(chars);
+    }
+
+    // write the hex digits of the byte into `dst` at `index` and `index + 1`
+    private static void encode(byte b, char[] digits, char[] dst, int index) {
+        dst[index] = digit(b, digits, true);
+        dst[index + 1] = digit(b, digits, false);
+    }
+
+    // hex digit of the high or low nibble of the byte
+    private static char digit(byte b, char[] digits, boolean high) {
+        return digits[high ? (b & 0xF0) >>> 4 : b & 0x0F];
+    }
+
+    private static int decodedLength(int length) {
+        if (length < 0 || length % 2 != 0) {
+            throw new IllegalArgumentException(String.format("hex length should be even, but given %d", length));
+        }
+        return length / 2;
+    }
+
+    private static int value(char c, int index) {
+        int value = c < VALUES.length ? VALUES[c] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException(String.format("invalid hex character '%c' at index %d", c, index));
+        }
+        return value;
     }
 }
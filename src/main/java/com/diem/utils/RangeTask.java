@@ -0,0 +1,71 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * <p>
+ * RangeTask maps each index of the range [from, to) to a result in a ForkJoinPool, splitting the range in halves
+ * down to `batchSize` indexes mapped by one task.
+ * </p>
+ *
+ * Null results are skipped, the others are returned in index order; a range without result returns an
+ * immutable empty list.
+ */
+public final class RangeTask<R> extends RecursiveTask<List<R>> {
+    private static final long serialVersionUID = 1L;
+
+    private final int from;
+    private final int to;
+    private final int batchSize;
+    private final IntFunction<R> function;
+
+    public RangeTask(int from, int to, int batchSize, IntFunction<R> function) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(String.format("batch size should be greater than 0, but given %d", batchSize));
+        }
+        this.from = from;
+        this.to = to;
+        this.batchSize = batchSize;
+        this.function = function;
+    }
+
+    @Override
+    protected List<R> compute() {
+        if (to - from > batchSize) {
+            int middle = (from + to) >>> 1;
+            RangeTask<R> left = new RangeTask<>(from, middle, batchSize, function);
+            RangeTask<R> right = new RangeTask<>(middle, to, batchSize, function);
+            left.fork();
+            List<R> rightResult = right.compute();
+            List<R> leftResult = left.join();
+            if (rightResult.isEmpty()) {
+                return leftResult;
+            }
+            if (leftResult.isEmpty()) {
+                return rightResult;
+            }
+            List<R> ret = new ArrayList<>(leftResult.size() + rightResult.size());
+            ret.addAll(leftResult);
+            ret.addAll(rightResult);
+            return ret;
+        }
+        List<R> ret = Collections.emptyList();
+        for (int i = from; i < to; i++) {
+            R result = function.apply(i);
+            if (result != null) {
+                if (ret.isEmpty()) {
+                    ret = new ArrayList<>(to - i);
+                }
+                ret.add(result);
+            }
+        }
+        return ret;
+    }
+}
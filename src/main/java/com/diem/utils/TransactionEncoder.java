@@ -0,0 +1,237 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.utils;
+
+import com.diem.types.AccountAddress;
+import com.diem.types.RawTransaction;
+import com.diem.types.ScriptFunction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.StructTag;
+import com.diem.types.Transaction;
+import com.diem.types.TransactionAuthenticator;
+import com.diem.types.TransactionPayload;
+import com.diem.types.TypeTag;
+import com.novi.bcs.BcsSerializer;
+import com.novi.serde.BinaryOutput;
+import com.novi.serde.Bytes;
+import com.novi.serde.SerializationError;
+import com.novi.serde.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * <p>
+ * TransactionEncoder writes the BCS encoding of the most common transaction shapes straight into a byte array
+ * sized by `serializedSize()`, without going through the `Serializer` interface and its container depth checks.
+ * </p>
+ *
+ * <p>
+ * ScriptFunction payloads, type tags and Ed25519 authenticators are encoded directly; other payloads and
+ * authenticators fall back to the generated `serialize` methods, writing into the same array.
+ * The output is identical to `bcsSerialize()`.
+ * </p>
+ */
+public final class TransactionEncoder {
+
+    private TransactionEncoder() {
+    }
+
+    public static byte[] encode(RawTransaction txn) {
+        byte[] bytes = new byte[txn.serializedSize()];
+        encode(txn, bytes, 0);
+        return bytes;
+    }
+
+    public static byte[] encode(SignedTransaction txn) {
+        byte[] bytes = new byte[txn.serializedSize()];
+        encode(txn, bytes, 0);
+        return bytes;
+    }
+
+    public static byte[] encode(TransactionPayload.ScriptFunction payload) {
+        byte[] bytes = new byte[payload.serializedSize()];
+        encode(payload, bytes, 0);
+        return bytes;
+    }
+
+    public static byte[] encode(Transaction.UserTransaction txn) {
+        byte[] bytes = new byte[txn.serializedSize()];
+        encode(txn, bytes, 0);
+        return bytes;
+    }
+
+    /**
+     * Encode the RawTransaction into `dst` starting at `offset`, `dst` must have `txn.serializedSize()` bytes left.
+     *
+     * @return offset after the encoded bytes
+     */
+    public static int encode(RawTransaction txn, byte[] dst, int offset) {
+        Writer writer = new Writer(dst, offset);
+        writer.rawTransaction(txn);
+        return writer.position;
+    }
+
+    public static int encode(SignedTransaction txn, byte[] dst, int offset) {
+        Writer writer = new Writer(dst, offset);
+        writer.signedTransaction(txn);
+        return writer.position;
+    }
+
+    public static int encode(TransactionPayload.ScriptFunction payload, byte[] dst, int offset) {
+        Writer writer = new Writer(dst, offset);
+        writer.payload(payload);
+        return writer.position;
+    }
+
+    public static int encode(TransactionAuthenticator authenticator, byte[] dst, int offset) {
+        Writer writer = new Writer(dst, offset);
+        writer.authenticator(authenticator);
+        return writer.position;
+    }
+
+    public static int encode(Transaction.UserTransaction txn, byte[] dst, int offset) {
+        Writer writer = new Writer(dst, offset);
+        writer.uleb128(0);
+        writer.signedTransaction(txn.value);
+        return writer.position;
+    }
+
+    private interface Serializable {
+        void serialize(Serializer serializer) throws SerializationError;
+    }
+
+    private static final class Writer {
+        final byte[] buffer;
+        int position;
+
+        Writer(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        void signedTransaction(SignedTransaction txn) {
+            rawTransaction(txn.raw_txn);
+            authenticator(txn.authenticator);
+        }
+
+        void authenticator(TransactionAuthenticator authenticator) {
+            if (authenticator instanceof TransactionAuthenticator.Ed25519) {
+                TransactionAuthenticator.Ed25519 ed25519 = (TransactionAuthenticator.Ed25519) authenticator;
+                uleb128(0);
+                bytes(ed25519.public_key.value);
+                bytes(ed25519.signature.value);
+            } else {
+                generic(authenticator::serialize);
+            }
+        }
+
+        void rawTransaction(RawTransaction txn) {
+            address(txn.sender);
+            u64(txn.sequence_number);
+            payload(txn.payload);
+            u64(txn.max_gas_amount);
+            u64(txn.gas_unit_price);
+            str(txn.gas_currency_code);
+            u64(txn.expiration_timestamp_secs);
+            buffer[position++] = txn.chain_id.value;
+        }
+
+        void payload(TransactionPayload payload) {
+            if (payload instanceof TransactionPayload.ScriptFunction) {
+                ScriptFunction function = ((TransactionPayload.ScriptFunction) payload).value;
+                uleb128(3);
+                address(function.module.address);
+                str(function.module.name.value);
+                str(function.function.value);
+                typeTags(function.ty_args);
+                uleb128(function.args.size());
+                for (Bytes arg : function.args) {
+                    bytes(arg);
+                }
+                return;
+            }
+            generic(payload::serialize);
+        }
+
+        // Encode a value without direct encoder by its generated serialize method, writing into the same buffer.
+        void generic(Serializable value) {
+            ByteBuffer output = ByteBuffer.wrap(buffer, position, buffer.length - position);
+            BcsSerializer serializer = new BcsSerializer(output, null);
+            try {
+                value.serialize(serializer);
+            } catch (SerializationError e) {
+                throw new RuntimeException(e);
+            }
+            position += serializer.get_buffer_offset();
+        }
+
+        void typeTags(List<TypeTag> tags) {
+            uleb128(tags.size());
+            for (TypeTag tag : tags) {
+                typeTag(tag);
+            }
+        }
+
+        void typeTag(TypeTag tag) {
+            if (tag instanceof TypeTag.Struct) {
+                StructTag struct = ((TypeTag.Struct) tag).value;
+                uleb128(7);
+                address(struct.address);
+                str(struct.module.value);
+                str(struct.name.value);
+                typeTags(struct.type_params);
+            } else if (tag instanceof TypeTag.Vector) {
+                uleb128(6);
+                typeTag(((TypeTag.Vector) tag).value);
+            } else if (tag instanceof TypeTag.Bool) {
+                uleb128(0);
+            } else if (tag instanceof TypeTag.U8) {
+                uleb128(1);
+            } else if (tag instanceof TypeTag.U64) {
+                uleb128(2);
+            } else if (tag instanceof TypeTag.U128) {
+                uleb128(3);
+            } else if (tag instanceof TypeTag.Address) {
+                uleb128(4);
+            } else if (tag instanceof TypeTag.Signer) {
+                uleb128(5);
+            } else {
+                throw new IllegalArgumentException("Unknown TypeTag: " + tag.getClass());
+            }
+        }
+
+        void address(AccountAddress address) {
+            address.copyTo(buffer, position);
+            position += 16;
+        }
+
+        void u64(long value) {
+            for (int i = 0; i < 8; i++) {
+                buffer[position++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        void uleb128(int value) {
+            while ((value >>> 7) != 0) {
+                buffer[position++] = (byte) ((value & 0x7f) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void bytes(Bytes value) {
+            uleb128(value.length());
+            value.copyTo(buffer, position);
+            position += value.length();
+        }
+
+        void str(String value) {
+            int length = BinaryOutput.utf8Size(value);
+            uleb128(length);
+            BinaryOutput.encodeUtf8(value, length, buffer, position);
+            position += length;
+        }
+    }
+}
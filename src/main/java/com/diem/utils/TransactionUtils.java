@@ -5,6 +5,15 @@ package com.diem.utils;
 
 import com.diem.Constants;
 import com.diem.jsonrpc.JsonRpc;
+import com.diem.types.ContractEvent;
+import com.diem.types.ContractEventV0;
+import com.diem.types.EventKey;
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.types.TypeTag;
+import com.novi.serde.Bytes;
+import com.novi.serde.DeserializationError;
+import com.novi.serde.Unsigned;
 
 /**
  * Transaction utility functions.
@@ -22,4 +31,71 @@ public class TransactionUtils {
     public static boolean isExecuted(JsonRpc.TransactionOrBuilder txn) {
         return txn.getVmStatus() != null && VM_STATUS_EXECUTED.equalsIgnoreCase(txn.getVmStatus().getType());
     }
+
+    /**
+     * Decode the transaction from its hex-encoded BCS `bytes` field, which carries the same data as the
+     * `transaction` field with exact types, e.g. script arguments are TransactionArgument instead of strings.
+     *
+     * @param txn
+     * @return Transaction.UserTransaction, Transaction.BlockMetadata or Transaction.GenesisTransaction
+     * @throws DeserializationError if the `bytes` field is empty or is not a BCS serialized Transaction
+     */
+    public static Transaction decodeTransaction(JsonRpc.TransactionOrBuilder txn) throws DeserializationError {
+        return decodeTransaction(txn.getBytes());
+    }
+
+    /**
+     * @param bytes hex-encoded BCS serialized Transaction
+     * @see #decodeTransaction(JsonRpc.TransactionOrBuilder)
+     */
+    public static Transaction decodeTransaction(String bytes) throws DeserializationError {
+        if (bytes == null || bytes.isEmpty()) {
+            throw new DeserializationError("transaction bytes is empty");
+        }
+        return Transaction.bcsDeserialize(Hex.decode(bytes));
+    }
+
+    /**
+     * @param txn
+     * @return the SignedTransaction of a user transaction, null for other transaction types
+     * @throws DeserializationError if the `bytes` field is empty or is not a BCS serialized Transaction
+     */
+    public static SignedTransaction decodeSignedTransaction(JsonRpc.TransactionOrBuilder txn) throws DeserializationError {
+        Transaction transaction = decodeTransaction(txn);
+        if (transaction instanceof Transaction.UserTransaction) {
+            return ((Transaction.UserTransaction) transaction).value;
+        }
+        return null;
+    }
+
+    /**
+     * Decode the event into a ContractEvent of the given type tag, the event data is the hex-encoded BCS
+     * `data.bytes` field.
+     * The JSON-RPC service only sets the `data.bytes` field for `unknown` events, the type tag of their Move struct
+     * is not part of the response and must be given.
+     *
+     * @param event
+     * @param typeTag type tag of the Move struct emitted as event data
+     * @return ContractEvent.V0
+     * @throws DeserializationError if the event data bytes is empty
+     */
+    public static ContractEvent decodeEvent(JsonRpc.EventOrBuilder event, TypeTag typeTag) throws DeserializationError {
+        return decodeEvent(event.getKey(), event.getSequenceNumber(), typeTag, event.getData().getBytes());
+    }
+
+    /**
+     * @param key            hex-encoded event key
+     * @param sequenceNumber event sequence number
+     * @param typeTag        type tag of the Move struct emitted as event data
+     * @param bytes          hex-encoded BCS event data
+     * @see #decodeEvent(JsonRpc.EventOrBuilder, TypeTag)
+     */
+    public static ContractEvent decodeEvent(String key, @Unsigned long sequenceNumber, TypeTag typeTag, String bytes)
+            throws DeserializationError {
+        if (bytes == null || bytes.isEmpty()) {
+            throw new DeserializationError("event data bytes is empty");
+        }
+        return new ContractEvent.V0(new ContractEventV0(
+                new EventKey(new Bytes(Hex.decode(key))), sequenceNumber, typeTag, new Bytes(Hex.decode(bytes))));
+    }
 }
@@ -7,11 +7,33 @@ import com.novi.serde.DeserializationError;
 import com.novi.serde.Slice;
 import com.novi.serde.BinaryDeserializer;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 public class BcsDeserializer extends BinaryDeserializer {
     public BcsDeserializer(byte[] input) {
         super(input, BcsSerializer.MAX_CONTAINER_DEPTH);
     }
 
+    /// Deserialize `length` bytes of `input` starting at `offset`, without copying them.
+    public BcsDeserializer(byte[] input, int offset, int length) {
+        super(ByteBuffer.wrap(input, offset, length), BcsSerializer.MAX_CONTAINER_DEPTH);
+    }
+
+    /// Deserialize the remaining bytes of `input`, which may be a direct or memory-mapped buffer.
+    public BcsDeserializer(ByteBuffer input) {
+        super(input, BcsSerializer.MAX_CONTAINER_DEPTH);
+    }
+
+    /// Deserialize incrementally from `input`, reading it by chunks of `DEFAULT_CHUNK_SIZE` bytes.
+    public BcsDeserializer(InputStream input) {
+        this(input, DEFAULT_CHUNK_SIZE);
+    }
+
+    public BcsDeserializer(InputStream input, int chunkSize) {
+        super(input, chunkSize, BcsSerializer.MAX_CONTAINER_DEPTH);
+    }
+
     public Float deserialize_f32() throws DeserializationError {
         throw new DeserializationError("Not implemented: deserialize_f32");
     }
@@ -48,8 +70,9 @@ public class BcsDeserializer extends BinaryDeserializer {
     }
 
     public void check_that_key_slices_are_increasing(Slice key1, Slice key2) throws DeserializationError {
-        if (Slice.compare_bytes(input.array(), key1, key2) >= 0) {
+        if (compare_input_slices(key1, key2) >= 0) {
             throw new DeserializationError("Error while decoding map: keys are not serialized in the expected order");
         }
+        release_slice(key1);
     }
 }
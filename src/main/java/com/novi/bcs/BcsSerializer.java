@@ -6,6 +6,9 @@ package com.novi.bcs;
 import com.novi.serde.SerializationError;
 import com.novi.serde.Slice;
 import com.novi.serde.BinarySerializer;
+import com.novi.serde.BufferAllocator;
+
+import java.nio.ByteBuffer;
 
 public class BcsSerializer extends BinarySerializer {
     public static final long MAX_LENGTH = Integer.MAX_VALUE;
@@ -15,6 +18,24 @@ public class BcsSerializer extends BinarySerializer {
         super(MAX_CONTAINER_DEPTH);
     }
 
+    /// Create a serializer whose buffer is pre-sized to `capacityHint` bytes.
+    public BcsSerializer(int capacityHint) {
+        super(MAX_CONTAINER_DEPTH, capacityHint);
+    }
+
+    /// Create a serializer writing into `buffer` (heap or direct) from its current position, without modifying its
+    /// position or byte order; the caller keeps ownership of `buffer`.
+    /// `allocator` provides larger buffers when needed, or null to throw `BufferOverflowException` instead.
+    public BcsSerializer(ByteBuffer buffer, BufferAllocator allocator) {
+        super(MAX_CONTAINER_DEPTH, buffer, allocator);
+    }
+
+    /// Create a serializer writing into a buffer of at least `capacity` bytes from `allocator`, e.g. a `BufferPool`.
+    /// All its buffers, including the first one, are returned to the allocator by `release`.
+    public BcsSerializer(BufferAllocator allocator, int capacity) {
+        super(MAX_CONTAINER_DEPTH, allocator, capacity);
+    }
+
     public void serialize_f32(Float value) throws SerializationError {
         throw new SerializationError("Not implemented: serialize_f32");
     }
@@ -24,11 +45,7 @@ public class BcsSerializer extends BinarySerializer {
     }
 
     private void serialize_u32_as_uleb128(int value) {
-        while ((value >>> 7) != 0) {
-            output.write((value & 0x7f) | 0x80);
-            value = value >>> 7;
-        }
-        output.write(value);
+        output.writeUleb128(value);
     }
 
     public void serialize_len(long value) throws SerializationError {
@@ -47,29 +64,30 @@ public class BcsSerializer extends BinarySerializer {
             return;
         }
         int offset0 = offsets[0];
-        byte[] content = output.getBuffer();
+        byte[] old_content = new byte[output.size() - offset0];
+        output.read(offset0, old_content);
+
         Slice[] slices = new Slice[offsets.length];
         for (int i = 0; i < offsets.length - 1; i++) {
-            slices[i] = new Slice(offsets[i], offsets[i + 1]);
+            slices[i] = new Slice(offsets[i] - offset0, offsets[i + 1] - offset0);
         }
-        slices[offsets.length - 1] = new Slice(offsets[offsets.length - 1], output.size());
+        slices[offsets.length - 1] = new Slice(offsets[offsets.length - 1] - offset0, output.size() - offset0);
 
         java.util.Arrays.sort(slices, new java.util.Comparator<Slice>() {
             @Override
             public int compare(Slice slice1, Slice slice2) {
-                return Slice.compare_bytes(content, slice1, slice2);
+                return Slice.compare_bytes(old_content, slice1, slice2);
             }
         });
 
-        byte[] old_content = new byte[output.size() - offset0];
-        System.arraycopy(content, offset0, old_content, 0, output.size() - offset0);
-
-        int position = offset0;
+        byte[] content = new byte[old_content.length];
+        int position = 0;
         for (int i = 0; i < offsets.length; i++) {
             int start = slices[i].start;
             int end = slices[i].end;
-            System.arraycopy(old_content, start - offset0, content, position, end - start);
+            System.arraycopy(old_content, start, content, position, end - start);
             position += end - start;
         }
+        output.overwrite(offset0, content);
     }
 }
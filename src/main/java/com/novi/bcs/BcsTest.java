@@ -76,6 +76,375 @@ public class BcsTest {
         assert Arrays.equals(serializer.get_bytes(), new byte[]{-1, /**/ 0, /**/ 0, /**/ 0, 0, /**/ 0, 1, 0,  /**/ 1, /**/ 2, 0, 0, 0});
     }
 
+    static void test_serialize_into_byte_buffer() throws Exception {
+        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocateDirect(4);
+        BcsSerializer serializer = new BcsSerializer(buffer, com.novi.serde.BufferAllocator.DIRECT);
+        serializer.serialize_u32(1);
+        assert serializer.get_byte_buffer().isDirect();
+        serializer.serialize_u64(2L);
+        java.nio.ByteBuffer written = serializer.get_byte_buffer();
+        assert written.isDirect() && written.remaining() == 12;
+        assert Arrays.equals(serializer.get_bytes(), new byte[]{1, 0, 0, 0, /**/ 2, 0, 0, 0, 0, 0, 0, 0});
+
+        serializer.reset();
+        serializer.serialize_u8((byte) 7);
+        assert Arrays.equals(serializer.get_bytes(), new byte[]{7});
+
+        // the caller's buffer keeps its position and byte order
+        java.nio.ByteBuffer heap = java.nio.ByteBuffer.allocate(16);
+        ((java.nio.Buffer) heap).position(2);
+        serializer = new BcsSerializer(heap, null);
+        serializer.serialize_u16((short) 0x0102);
+        assert heap.position() == 2 && heap.order() == java.nio.ByteOrder.BIG_ENDIAN;
+        assert heap.get(2) == 2 && heap.get(3) == 1;
+
+        serializer = new BcsSerializer(java.nio.ByteBuffer.allocate(2), null);
+        try {
+            serializer.serialize_u32(1);
+            assert false;
+        } catch (java.nio.BufferOverflowException e) { /* all good */ }
+    }
+
+    static void test_serialize_unpaired_surrogate() throws Exception {
+        String[] values = {"a\uD800", "\uDC00b", "\uD800\uD800", "\u00e9\uD800", "\uD83D\uDE00\uDE00"};
+        for (String value : values) {
+            byte[] content = value.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            BcsSerializer serializer = new BcsSerializer();
+            serializer.serialize_str(value);
+            byte[] bytes = serializer.get_bytes();
+            assert bytes.length == content.length + 1 && bytes[0] == content.length;
+            assert Arrays.equals(Arrays.copyOfRange(bytes, 1, bytes.length), content);
+
+            serializer = new BcsSerializer(java.nio.ByteBuffer.allocateDirect(2), com.novi.serde.BufferAllocator.DIRECT);
+            serializer.serialize_str(value);
+            assert Arrays.equals(serializer.get_bytes(), bytes);
+        }
+
+        BcsSerializer serializer = new BcsSerializer();
+        serializer.serialize_str("a\uD800");
+        assert Arrays.equals(serializer.get_bytes(), new byte[]{2, 0x61, 0x3f});
+    }
+
+    static void test_serializer_reset_after_get_bytes() throws Exception {
+        BcsSerializer serializer = new BcsSerializer(2);
+        serializer.serialize_u16((short) 1);
+        byte[] first = serializer.get_bytes();
+        serializer.reset();
+        serializer.serialize_u16((short) 2);
+        assert Arrays.equals(first, new byte[]{1, 0});
+        assert Arrays.equals(serializer.get_bytes(), new byte[]{2, 0});
+    }
+
+    static void test_buffer_pool() throws Exception {
+        com.novi.serde.BufferPool pool = new com.novi.serde.BufferPool(false, 4);
+        BcsSerializer serializer = new BcsSerializer(pool, 64);
+        byte[] initial = serializer.get_byte_buffer().array();
+        for (int i = 0; i < 100; i++) {
+            serializer.serialize_u64((long) i);
+        }
+        assert serializer.get_buffer_offset() == 800;
+        assert serializer.get_byte_buffer().remaining() == 800;
+        byte[] grown = serializer.get_byte_buffer().array();
+        assert grown.length == 1024;
+        serializer.release();
+        // both the initial buffer, released when growing, and the last one are handed back
+        assert pool.allocate(64).array() == initial;
+        assert pool.allocate(1000).array() == grown;
+        assert pool.allocate(1000).array() != grown;
+
+        // a buffer supplied by the caller stays owned by the caller
+        java.nio.ByteBuffer supplied = pool.allocate(64);
+        serializer = new BcsSerializer(supplied, pool);
+        serializer.serialize_u32(1);
+        serializer.release();
+        assert pool.allocate(64).array() != supplied.array();
+    }
+
+    static void test_deserialize_from_byte_buffer_slice() throws Exception {
+        byte[] content = new byte[]{9, 9, /**/ 1, 0, 0, 0, 0, 0, 0, 0, /**/ 3, 'a', 'b', 'c', /**/ 9};
+        BcsDeserializer deserializer = new BcsDeserializer(content, 2, 12);
+        assert deserializer.deserialize_u64() == 1L;
+        assert deserializer.deserialize_str().equals("abc");
+        assert deserializer.get_buffer_offset() == 12;
+        assert deserializer.is_input_consumed();
+
+        java.nio.ByteBuffer direct = java.nio.ByteBuffer.allocateDirect(content.length);
+        direct.put(content);
+        ((java.nio.Buffer) direct).position(2);
+        deserializer = new BcsDeserializer(direct);
+        assert deserializer.deserialize_u64() == 1L;
+        assert direct.position() == 2;
+    }
+
+    static void test_deserialize_from_input_stream() throws Exception {
+        BcsSerializer serializer = new BcsSerializer();
+        serializer.serialize_len(1000);
+        for (int i = 0; i < 1000; i++) {
+            serializer.serialize_u64((long) i);
+            serializer.serialize_str("item");
+        }
+        byte[] large = new byte[100];
+        large[99] = 1;
+        serializer.serialize_bytes(new com.novi.serde.Bytes(large));
+        serializer.serialize_u8((byte) 7);
+        byte[] content = serializer.get_bytes();
+
+        BcsDeserializer deserializer = new BcsDeserializer(new java.io.ByteArrayInputStream(content), 7);
+        assert deserializer.deserialize_len() == 1000;
+        for (int i = 0; i < 1000; i++) {
+            assert deserializer.deserialize_u64() == i;
+            assert deserializer.deserialize_str().equals("item");
+        }
+        assert deserializer.deserialize_bytes().equals(new com.novi.serde.Bytes(large));
+        assert deserializer.deserialize_u8() == 7;
+        assert deserializer.get_buffer_offset() == content.length;
+        assert deserializer.is_input_consumed();
+
+        try {
+            deserializer.deserialize_u8();
+            assert false;
+        } catch (com.novi.serde.DeserializationError e) { /* all good */ }
+    }
+
+    static void test_deserialize_map_from_input_stream() throws Exception {
+        // canonical map of string keys to 100 bytes values, a struct holding a map, then more data
+        BcsSerializer serializer = new BcsSerializer();
+        for (int round = 0; round < 2; round++) {
+            serializer.serialize_len(3);
+            for (String key : new String[]{"a", "c", "bb"}) {
+                serializer.serialize_str(key);
+                serializer.serialize_bytes(new com.novi.serde.Bytes(new byte[100]));
+            }
+        }
+        serializer.serialize_u8((byte) 7);
+        byte[] content = serializer.get_bytes();
+
+        for (int chunkSize : new int[]{1, 7, 64, 1024}) {
+            BcsDeserializer deserializer = new BcsDeserializer(new java.io.ByteArrayInputStream(content), chunkSize);
+            assert deserialize_map(deserializer).equals(Arrays.asList("a", "c", "bb"));
+            deserializer.increase_container_depth();
+            assert deserialize_map(deserializer).equals(Arrays.asList("a", "c", "bb"));
+            deserializer.decrease_container_depth();
+            assert deserializer.deserialize_u8() == 7;
+            assert deserializer.is_input_consumed();
+        }
+
+        // keys out of order are still rejected
+        serializer = new BcsSerializer();
+        serializer.serialize_len(2);
+        for (String key : new String[]{"c", "a"}) {
+            serializer.serialize_str(key);
+            serializer.serialize_bytes(new com.novi.serde.Bytes(new byte[100]));
+        }
+        try {
+            deserialize_map(new BcsDeserializer(new java.io.ByteArrayInputStream(serializer.get_bytes()), 64));
+            assert false;
+        } catch (com.novi.serde.DeserializationError e) {
+            assert e.getMessage().contains("keys are not serialized in the expected order");
+        }
+    }
+
+    static void test_buffer_offsets_from_input_stream() throws Exception {
+        // an archived dump of top-level records, each one a u64, a string and a map
+        BcsSerializer serializer = new BcsSerializer();
+        for (int i = 0; i < 10000; i++) {
+            serializer.serialize_u64((long) i);
+            serializer.serialize_str("record");
+            serializer.serialize_len(2);
+            for (String key : new String[]{"a", "b"}) {
+                serializer.serialize_str(key);
+                serializer.serialize_bytes(new com.novi.serde.Bytes(new byte[100]));
+            }
+        }
+        byte[] content = serializer.get_bytes();
+
+        BufferProbe deserializer = new BufferProbe(new java.io.ByteArrayInputStream(content), 64);
+        int previous = deserializer.get_buffer_offset();
+        for (int i = 0; i < 10000; i++) {
+            assert deserializer.deserialize_u64() == i;
+            assert deserializer.deserialize_str().equals("record");
+            assert deserialize_map(deserializer).equals(Arrays.asList("a", "b"));
+            int offset = deserializer.get_buffer_offset();
+            assert offset - previous == 8 + 7 + 1 + 2 * (2 + 101);
+            previous = offset;
+            // record boundaries do not keep the stream buffered
+            assert deserializer.buffer_capacity() <= 256;
+        }
+        assert deserializer.is_input_consumed();
+    }
+
+    static void test_deserialize_map_past_2_gib() throws Exception {
+        // 33 byte arrays of 64 MiB, then a map whose keys are compared at stream offsets past 2^31
+        BcsSerializer header = new BcsSerializer();
+        header.serialize_len(1 << 26);
+        BcsSerializer map = new BcsSerializer();
+        map.serialize_len(3);
+        for (String key : new String[]{"a", "c", "bb"}) {
+            map.serialize_str(key);
+            map.serialize_bytes(new com.novi.serde.Bytes(new byte[100]));
+        }
+        java.util.List<java.io.InputStream> parts = new java.util.ArrayList<>();
+        for (int i = 0; i < 33; i++) {
+            parts.add(new java.io.ByteArrayInputStream(header.get_bytes()));
+            parts.add(new ZeroInputStream(1 << 26));
+        }
+        parts.add(new java.io.ByteArrayInputStream(map.get_bytes()));
+        BcsDeserializer deserializer = new BcsDeserializer(
+                new java.io.SequenceInputStream(java.util.Collections.enumeration(parts)), 64);
+        for (int i = 0; i < 33; i++) {
+            assert deserializer.deserialize_bytes().length() == 1 << 26;
+        }
+        assert deserialize_map(deserializer).equals(Arrays.asList("a", "c", "bb"));
+        assert deserializer.is_input_consumed();
+    }
+
+    static final class BufferProbe extends BcsDeserializer {
+        BufferProbe(java.io.InputStream input, int chunkSize) {
+            super(input, chunkSize);
+        }
+
+        int buffer_capacity() {
+            return input.capacity();
+        }
+    }
+
+    static final class ZeroInputStream extends java.io.InputStream {
+        private long remaining;
+
+        ZeroInputStream(long length) {
+            this.remaining = length;
+        }
+
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 0;
+        }
+
+        public int read(byte[] b, int off, int len) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + count, (byte) 0);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    // Same steps as the generated deserializer of a map of strings to bytes, returns the keys.
+    static java.util.List<String> deserialize_map(BcsDeserializer deserializer) throws Exception {
+        long length = deserializer.deserialize_len();
+        java.util.List<String> keys = new java.util.ArrayList<>();
+        int previous_key_start = 0;
+        int previous_key_end = 0;
+        for (long i = 0; i < length; i++) {
+            int key_start = deserializer.get_key_offset();
+            String key = deserializer.deserialize_str();
+            int key_end = deserializer.get_buffer_offset();
+            if (i > 0) {
+                deserializer.check_that_key_slices_are_increasing(
+                        new com.novi.serde.Slice(previous_key_start, previous_key_end),
+                        new com.novi.serde.Slice(key_start, key_end));
+            }
+            previous_key_start = key_start;
+            previous_key_end = key_end;
+            assert deserializer.deserialize_bytes().length() == 100;
+            keys.add(key);
+        }
+        if (length > 0) {
+            deserializer.release_key_offset(previous_key_start);
+        }
+        return keys;
+    }
+
+    static void test_primitive_round_trip() throws Exception {
+        BcsSerializer serializer = new BcsSerializer();
+        serializer.serialize_bool(true);
+        serializer.serialize_u8((byte) -1);
+        serializer.serialize_u16((short) 0x1234);
+        serializer.serialize_u32(-2);
+        serializer.serialize_u64(Long.MIN_VALUE);
+        serializer.serialize_i64(Long.valueOf(-3L));
+
+        BcsDeserializer deserializer = new BcsDeserializer(serializer.get_bytes());
+        assert deserializer.deserialize_bool_primitive();
+        assert deserializer.deserialize_u8_primitive() == (byte) -1;
+        assert deserializer.deserialize_u16_primitive() == 0x1234;
+        assert deserializer.deserialize_u32_primitive() == -2;
+        assert deserializer.deserialize_u64_primitive() == Long.MIN_VALUE;
+        assert deserializer.deserialize_i64() == -3L;
+        assert deserializer.is_input_consumed();
+    }
+
+    static void test_bytes_views() throws Exception {
+        byte[] content = new byte[]{1, 2, 3};
+        com.novi.serde.Bytes bytes = new com.novi.serde.Bytes(content);
+        assert bytes.length() == 3;
+        assert bytes.byteAt(2) == 3;
+
+        java.nio.ByteBuffer view = bytes.asReadOnlyByteBuffer();
+        assert view.isReadOnly();
+        assert view.remaining() == 3 && view.get(0) == 1;
+
+        BcsSerializer serializer = new BcsSerializer();
+        serializer.serialize_bytes(bytes);
+        assert Arrays.equals(serializer.get_bytes(), new byte[]{3, 1, 2, 3});
+
+        java.io.ByteArrayOutputStream stream = new java.io.ByteArrayOutputStream();
+        bytes.writeTo(stream);
+        assert Arrays.equals(stream.toByteArray(), content);
+    }
+
+    static void test_u128() throws Exception {
+        com.novi.serde.U128 max = com.novi.serde.U128.MAX_VALUE;
+        BigInteger maxBig = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+        assert max.toBigInteger().equals(maxBig);
+        assert max.toString().equals(maxBig.toString());
+        assert max.toHexString().equals(maxBig.toString(16));
+        assert com.novi.serde.U128.parse(maxBig.toString()).equals(max);
+
+        BcsSerializer serializer = new BcsSerializer();
+        serializer.serialize_u128(com.novi.serde.U128.valueOf(1, 2));
+        serializer.serialize_u128(maxBig);
+        byte[] bytes = serializer.get_bytes();
+        assert Arrays.equals(Arrays.copyOfRange(bytes, 0, 16), new byte[]{2, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0});
+        BcsDeserializer deserializer = new BcsDeserializer(bytes);
+        assert deserializer.deserialize_u128_value().equals(com.novi.serde.U128.valueOf(1, 2));
+        assert deserializer.deserialize_u128().equals(maxBig);
+
+        java.util.Random random = new java.util.Random(0);
+        for (int i = 0; i < 1000; i++) {
+            BigInteger a = new BigInteger(1 + random.nextInt(128), random);
+            BigInteger b = new BigInteger(1 + random.nextInt(128), random).add(BigInteger.ONE);
+            com.novi.serde.U128 x = com.novi.serde.U128.valueOf(a);
+            com.novi.serde.U128 y = com.novi.serde.U128.valueOf(b);
+            assert x.toString().equals(a.toString());
+            assert com.novi.serde.U128.parse(a.toString(16), 16).equals(x);
+            assert x.compareTo(y) == a.compareTo(b);
+            assert x.divide(y).toBigInteger().equals(a.divide(b));
+            assert x.remainder(y).toBigInteger().equals(a.mod(b));
+            assert runAndCatch(() -> x.add(y)).equals(expectedU128(a.add(b)));
+            assert runAndCatch(() -> x.subtract(y)).equals(expectedU128(a.subtract(b)));
+            assert runAndCatch(() -> x.multiply(y)).equals(expectedU128(a.multiply(b)));
+        }
+    }
+
+    // Result of the U128 operation as BigInteger, or "overflow" on ArithmeticException.
+    static Object runAndCatch(java.util.function.Supplier<com.novi.serde.U128> operation) {
+        try {
+            return operation.get().toBigInteger();
+        } catch (ArithmeticException e) {
+            return "overflow";
+        }
+    }
+
+    static Object expectedU128(BigInteger value) {
+        return value.signum() < 0 || value.bitLength() > 128 ? "overflow" : value;
+    }
+
     public static void main(String[] args) throws Exception {
         for (Method method : BcsTest.class.getDeclaredMethods()) {
             if (method.getName().startsWith("test_")) {
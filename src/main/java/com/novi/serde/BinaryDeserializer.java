@@ -3,20 +3,55 @@
 
 package com.novi.serde;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.CharacterCodingException;
 import java.math.BigInteger;
+import java.util.Arrays;
 
 public abstract class BinaryDeserializer implements Deserializer {
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
     protected ByteBuffer input;
     private long containerDepthBudget;
+    // source of the next chunks of input, null when all the input is in `input`.
+    private final InputStream stream;
+    // number of stream bytes dropped from the front of `input` so far.
+    private long discarded;
+    // stream offsets returned by `get_key_offset` whose key is not released yet, in increasing order, with the
+    // container depth budget they were taken at; bytes from the first one are kept in `input`.
+    private long[] pins = new long[8];
+    private long[] pinDepths = new long[8];
+    private int pinCount;
 
     public BinaryDeserializer(byte[] input, long maxContainerDepth) {
-        this.input = ByteBuffer.wrap(input);
+        this(ByteBuffer.wrap(input), maxContainerDepth);
+    }
+
+    /// Deserialize the remaining bytes of `input` (heap, direct or memory-mapped) without copying them.
+    /// The position of `input` is not modified.
+    public BinaryDeserializer(ByteBuffer input, long maxContainerDepth) {
+        this.input = input.slice();
         this.input.order(ByteOrder.LITTLE_ENDIAN);
+        this.stream = null;
+        containerDepthBudget = maxContainerDepth;
+    }
+
+    /// Deserialize from `stream`, reading it by chunks of `chunkSize` bytes when more input is needed.
+    /// The stream is not closed.
+    public BinaryDeserializer(InputStream stream, int chunkSize, long maxContainerDepth) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Invalid chunk size: " + chunkSize);
+        }
+        this.input = ByteBuffer.allocate(chunkSize);
+        this.input.order(ByteOrder.LITTLE_ENDIAN);
+        ((Buffer) this.input).limit(0);
+        this.stream = stream;
         containerDepthBudget = maxContainerDepth;
     }
 
@@ -29,6 +64,10 @@ public abstract class BinaryDeserializer implements Deserializer {
 
     public void decrease_container_depth() {
         containerDepthBudget += 1;
+        // keys of maps inside the finished container can not be compared anymore
+        while (pinCount > 0 && pinDepths[pinCount - 1] < containerDepthBudget) {
+            pinCount--;
+        }
     }
 
     public String deserialize_str() throws DeserializationError {
@@ -40,11 +79,10 @@ public abstract class BinaryDeserializer implements Deserializer {
         read(content);
         CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
         try {
-            decoder.decode(ByteBuffer.wrap(content));
+            return decoder.decode(ByteBuffer.wrap(content)).toString();
         } catch (CharacterCodingException ex) {
             throw new DeserializationError("Incorrect UTF8 string");
         }
-        return new String(content);
     }
 
     public Bytes deserialize_bytes() throws DeserializationError {
@@ -58,12 +96,16 @@ public abstract class BinaryDeserializer implements Deserializer {
     }
 
     public Boolean deserialize_bool() throws DeserializationError {
+        return Boolean.valueOf(deserialize_bool_primitive());
+    }
+
+    public boolean deserialize_bool_primitive() throws DeserializationError {
         byte value = getByte();
         if (value == 0) {
-            return Boolean.valueOf(false);
+            return false;
         }
         if (value == 1) {
-            return Boolean.valueOf(true);
+            return true;
         }
         throw new DeserializationError("Incorrect boolean value");
     }
@@ -92,13 +134,30 @@ public abstract class BinaryDeserializer implements Deserializer {
         return Long.valueOf(getLong());
     }
 
+    public @Unsigned byte deserialize_u8_primitive() throws DeserializationError {
+        return getByte();
+    }
+
+    public @Unsigned short deserialize_u16_primitive() throws DeserializationError {
+        return getShort();
+    }
+
+    public @Unsigned int deserialize_u32_primitive() throws DeserializationError {
+        return getInt();
+    }
+
+    public @Unsigned long deserialize_u64_primitive() throws DeserializationError {
+        return getLong();
+    }
+
     public @Unsigned @Int128 BigInteger deserialize_u128() throws DeserializationError {
-        BigInteger signed = deserialize_i128();
-        if (signed.compareTo(BigInteger.ZERO) >= 0) {
-            return signed;
-        } else {
-            return signed.add(BigInteger.ONE.shiftLeft(128));
-        }
+        return deserialize_u128_value().toBigInteger();
+    }
+
+    public @Unsigned @Int128 U128 deserialize_u128_value() throws DeserializationError {
+        long low = getLong();
+        long high = getLong();
+        return U128.valueOf(high, low);
     }
 
     public Byte deserialize_i8() throws DeserializationError {
@@ -117,79 +176,238 @@ public abstract class BinaryDeserializer implements Deserializer {
         return Long.valueOf(getLong());
     }
 
+    public byte deserialize_i8_primitive() throws DeserializationError {
+        return getByte();
+    }
+
+    public short deserialize_i16_primitive() throws DeserializationError {
+        return getShort();
+    }
+
+    public int deserialize_i32_primitive() throws DeserializationError {
+        return getInt();
+    }
+
+    public long deserialize_i64_primitive() throws DeserializationError {
+        return getLong();
+    }
+
     public @Int128 BigInteger deserialize_i128() throws DeserializationError {
-        byte[] content = new byte[16];
-        read(content);
-        byte[] reversed = new byte[16];
-        for (int i = 0; i < 16; i++) {
-            reversed[i] = content[15 - i];
+        U128 value = deserialize_u128_value();
+        if (value.high() >= 0) {
+            return value.toBigInteger();
         }
-        return new BigInteger(reversed);
+        // negative: -(2^128 - value) = -((~value) + 1)
+        return U128.valueOf(~value.high(), ~value.low()).add(U128.ONE).toBigInteger().negate();
     }
 
     public boolean deserialize_option_tag() throws DeserializationError {
-        return deserialize_bool().booleanValue();
+        return deserialize_bool_primitive();
     }
 
+    /// Offset of the next input byte; in stream mode it is the number of stream bytes read so far, truncated to
+    /// an int past 2 GiB.
     public int get_buffer_offset() {
-        return input.position();
+        return (int) offset();
+    }
+
+    /// In stream mode, the returned offset is pinned: the input from it stays buffered so that the key can be
+    /// compared by `check_that_key_slices_are_increasing`, until it is released as the first key of such a check,
+    /// by `release_key_offset`, or when the current container is finished.
+    public int get_key_offset() {
+        long offset = offset();
+        if (stream != null) {
+            if (pinCount == pins.length) {
+                pins = Arrays.copyOf(pins, pinCount * 2);
+                pinDepths = Arrays.copyOf(pinDepths, pinCount * 2);
+            }
+            pins[pinCount] = offset;
+            pinDepths[pinCount] = containerDepthBudget;
+            pinCount++;
+        }
+        return (int) offset;
+    }
+
+    public void release_key_offset(int offset) {
+        unpin(offset(offset));
+    }
+
+    /// Returns true if all the input has been consumed, reading the stream if needed.
+    public boolean is_input_consumed() throws DeserializationError {
+        if (input.hasRemaining()) {
+            return false;
+        }
+        if (stream != null) {
+            fill(1, false);
+        }
+        return !input.hasRemaining();
     }
 
     static final String INPUT_NOT_LARGE_ENOUGH = "Input is not large enough";
 
-    protected byte getByte()  throws DeserializationError {
-        try {
-            return input.get();
-        } catch (java.nio.BufferUnderflowException e) {
-            throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+    /// Lexicographic comparison between the (unsigned!) input bytes referenced by `slice1` and `slice2`.
+    protected int compare_input_slices(Slice slice1, Slice slice2) throws DeserializationError {
+        int start1 = buffered_index(slice1.start);
+        int start2 = buffered_index(slice2.start);
+        int len1 = slice1.end - slice1.start;
+        int len2 = slice2.end - slice2.start;
+        for (int i = 0; i < len1; i++) {
+            if (i >= len2) {
+                return 1;
+            }
+            int byte1 = input.get(start1 + i) & 0xFF;
+            int byte2 = input.get(start2 + i) & 0xFF;
+            if (byte1 != byte2) {
+                return byte1 > byte2 ? 1 : -1;
+            }
         }
+        return len2 > len1 ? -1 : 0;
     }
 
-    protected short getShort()  throws DeserializationError {
-        try {
-            return input.getShort();
-        } catch (java.nio.BufferUnderflowException e) {
-            throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+    /// Release the pinned start offset of `slice`, once the key is not compared anymore.
+    protected void release_slice(Slice slice) {
+        unpin(offset(slice.start));
+    }
+
+    private long offset() {
+        return discarded + input.position();
+    }
+
+    // Stream offset truncated to `offset`, the closest one at or before the current offset; slices are within the
+    // buffered input, so less than 2 GiB behind.
+    private long offset(int offset) {
+        long current = offset();
+        return current - (((int) current - offset) & 0xFFFFFFFFL);
+    }
+
+    private void unpin(long offset) {
+        for (int i = 0; i < pinCount; i++) {
+            if (pins[i] == offset) {
+                System.arraycopy(pins, i + 1, pins, i, pinCount - i - 1);
+                System.arraycopy(pinDepths, i + 1, pinDepths, i, pinCount - i - 1);
+                pinCount--;
+                return;
+            }
         }
     }
 
-    protected int getInt()  throws DeserializationError {
-        try {
-            return input.getInt();
-        } catch (java.nio.BufferUnderflowException e) {
-            throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+    private int buffered_index(int offset) throws DeserializationError {
+        long index = offset(offset) - discarded;
+        if (index < 0) {
+            throw new DeserializationError("Input bytes are no longer buffered");
         }
+        return (int) index;
     }
 
-    protected long getLong()  throws DeserializationError {
-        try {
-            return input.getLong();
-        } catch (java.nio.BufferUnderflowException e) {
-            throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+    // Make sure that `n` bytes are available in `input`.
+    private void require(int n) throws DeserializationError {
+        if (input.remaining() < n) {
+            if (stream == null) {
+                throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+            }
+            fill(n, true);
         }
     }
 
-    protected float getFloat()  throws DeserializationError {
+    // Read the stream until `n` bytes are available in `input` or the end of the stream is reached.
+    // Consumed bytes are dropped, except from the first pinned offset.
+    private void fill(int n, boolean required) throws DeserializationError {
+        int keep = input.position();
+        if (pinCount > 0) {
+            keep = Math.min(keep, (int) (pins[0] - discarded));
+        }
+        int position = input.position() - keep;
+        discarded += keep;
+        ((Buffer) input).position(keep);
+        input.compact();
+        int needed = position + n;
+        if (input.capacity() < needed) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(needed, input.capacity() * 2));
+            larger.order(ByteOrder.LITTLE_ENDIAN);
+            ((Buffer) input).flip();
+            larger.put(input);
+            input = larger;
+        }
         try {
-            return input.getFloat();
-        } catch (java.nio.BufferUnderflowException e) {
+            while (input.position() < needed) {
+                int count = stream.read(input.array(), input.arrayOffset() + input.position(), input.remaining());
+                if (count < 0) {
+                    break;
+                }
+                ((Buffer) input).position(input.position() + count);
+            }
+        } catch (IOException e) {
+            throw new DeserializationError("Failed to read input: " + e.getMessage());
+        } finally {
+            ((Buffer) input).flip();
+            ((Buffer) input).position(position);
+        }
+        if (required && input.remaining() < n) {
             throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
         }
     }
 
+    protected byte getByte()  throws DeserializationError {
+        require(1);
+        return input.get();
+    }
+
+    protected short getShort()  throws DeserializationError {
+        require(2);
+        return input.getShort();
+    }
+
+    protected int getInt()  throws DeserializationError {
+        require(4);
+        return input.getInt();
+    }
+
+    protected long getLong()  throws DeserializationError {
+        require(8);
+        return input.getLong();
+    }
+
+    protected float getFloat()  throws DeserializationError {
+        require(4);
+        return input.getFloat();
+    }
+
     protected double getDouble()  throws DeserializationError {
-        try {
-            return input.getDouble();
-        } catch (java.nio.BufferUnderflowException e) {
-            throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
-        }
+        require(8);
+        return input.getDouble();
     }
 
     protected void read(byte[] content)  throws DeserializationError {
-        try {
+        if (input.remaining() >= content.length) {
             input.get(content);
-        } catch (java.nio.BufferUnderflowException e) {
+            return;
+        }
+        if (stream == null) {
             throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
         }
+        if (pinCount > 0) {
+            // the content may be part of a map key, keep it buffered
+            fill(content.length, true);
+            input.get(content);
+            return;
+        }
+        // large content is read from the stream directly instead of going through `input`.
+        int buffered = input.remaining();
+        int offset = buffered;
+        input.get(content, 0, offset);
+        try {
+            while (offset < content.length) {
+                int count = stream.read(content, offset, content.length - offset);
+                if (count < 0) {
+                    throw new DeserializationError(INPUT_NOT_LARGE_ENOUGH);
+                }
+                offset += count;
+            }
+        } catch (IOException e) {
+            throw new DeserializationError("Failed to read input: " + e.getMessage());
+        }
+        discarded += input.position() + (content.length - buffered);
+        ((Buffer) input).clear();
+        ((Buffer) input).limit(0);
     }
 }
@@ -0,0 +1,283 @@
+// Copyright (c) Facebook, Inc. and its affiliates
+// SPDX-License-Identifier: MIT OR Apache-2.0
+
+package com.novi.serde;
+
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable, unsynchronized output buffer of binary serializers.
+ *
+ * Bytes are written into a `ByteBuffer` (heap or direct) starting at its position when the output is created.
+ * Primitive values are written in little-endian order with a single capacity check per value.
+ * When the buffer is full, a larger one is obtained from the `BufferAllocator` and the written bytes are moved
+ * into it; without allocator a `BufferOverflowException` is thrown instead.
+ * Instances are not thread-safe.
+ */
+public final class BinaryOutput {
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private ByteBuffer buffer;
+    private int start;
+    private final BufferAllocator allocator;
+    // whether `buffer` was obtained from `allocator` and should be released to it.
+    private boolean allocated;
+    // set when the backing array was handed out by `toByteArray` without copying, so that it must not be modified.
+    private boolean shared;
+
+    public BinaryOutput() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /// Create a heap output with the given initial capacity, typically the expected serialized size.
+    public BinaryOutput(int capacityHint) {
+        if (capacityHint < 0) {
+            throw new IllegalArgumentException("Negative initial capacity: " + capacityHint);
+        }
+        this.allocator = BufferAllocator.HEAP;
+        this.buffer = ByteBuffer.allocate(capacityHint).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /// Create an output writing into `buffer` from its current position, through a duplicate: the position and
+    /// byte order of `buffer` are not modified. The caller keeps ownership of `buffer`, it is not released.
+    /// `allocator` is used when more space is needed, it may be null for a fixed-size output.
+    public BinaryOutput(ByteBuffer buffer, BufferAllocator allocator) {
+        java.util.Objects.requireNonNull(buffer, "buffer must not be null");
+        if (buffer.isReadOnly()) {
+            throw new IllegalArgumentException("Cannot write into a read-only buffer");
+        }
+        this.allocator = allocator;
+        this.buffer = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.start = buffer.position();
+    }
+
+    /// Create an output writing into a buffer of at least `capacity` bytes obtained from `allocator`, e.g. a
+    /// `BufferPool`; the output owns it and `release` returns it to the allocator.
+    public BinaryOutput(BufferAllocator allocator, int capacity) {
+        java.util.Objects.requireNonNull(allocator, "allocator must not be null");
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Negative initial capacity: " + capacity);
+        }
+        this.allocator = allocator;
+        this.buffer = allocator.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        this.start = buffer.position();
+        this.allocated = allocator != BufferAllocator.HEAP;
+    }
+
+    public int size() {
+        return buffer.position() - start;
+    }
+
+    /// View of the written bytes, sharing content with the output until the next write or reset.
+    public ByteBuffer slice() {
+        ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).limit(buffer.position());
+        ((Buffer) view).position(start);
+        return view.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /// Returns the written bytes; the backing array is returned without copying when it is exactly full.
+    public byte[] toByteArray() {
+        int size = size();
+        if (buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int offset = buffer.arrayOffset() + start;
+            if (offset == 0 && size == array.length) {
+                shared = true;
+                return array;
+            }
+            return Arrays.copyOfRange(array, offset, offset + size);
+        }
+        byte[] content = new byte[size];
+        read(0, content);
+        return content;
+    }
+
+    /// Discard the written bytes and keep the current buffer for reuse.
+    public void reset() {
+        if (shared) {
+            ((Buffer) buffer).position(start);
+            replace(buffer.capacity());
+        }
+        ((Buffer) buffer).position(start);
+    }
+
+    /// Release the buffer to the allocator if it was obtained from it; the output must not be used afterwards.
+    public void release() {
+        if (allocated && !shared) {
+            allocator.release(buffer);
+        }
+        allocated = false;
+    }
+
+    public void ensureCapacity(int additional) {
+        if (buffer.remaining() < additional) {
+            grow(additional);
+        }
+    }
+
+    public void write(int b) {
+        if (!buffer.hasRemaining()) {
+            grow(1);
+        }
+        buffer.put((byte) b);
+    }
+
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        buffer.put(b, off, len);
+    }
+
+    /// Write the remaining bytes of `src` without changing its position.
+    public void write(ByteBuffer src) {
+        ensureCapacity(src.remaining());
+        buffer.put(src.duplicate());
+    }
+
+    public void writeShort(short value) {
+        ensureCapacity(2);
+        buffer.putShort(value);
+    }
+
+    public void writeInt(int value) {
+        ensureCapacity(4);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) {
+        ensureCapacity(8);
+        buffer.putLong(value);
+    }
+
+    /// Write `value` as ULEB128, at most 5 bytes.
+    public void writeUleb128(int value) {
+        ensureCapacity(uleb128Size(value));
+        while ((value >>> 7) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value = value >>> 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /// Write `value` encoded in UTF-8; `utf8Size` must be `utf8Size(value)`.
+    public void writeUtf8(String value, int utf8Size) {
+        ensureCapacity(utf8Size);
+        if (buffer.hasArray()) {
+            encodeUtf8(value, utf8Size, buffer.array(), buffer.arrayOffset() + buffer.position());
+            ((Buffer) buffer).position(buffer.position() + utf8Size);
+        } else {
+            byte[] content = new byte[utf8Size];
+            encodeUtf8(value, utf8Size, content, 0);
+            buffer.put(content);
+        }
+    }
+
+    /// Encode `value` in UTF-8 into `dst` starting at `offset`; `utf8Size` must be `utf8Size(value)`.
+    /// Unpaired surrogates are encoded as `?`, same as `String.getBytes(UTF_8)`.
+    public static void encodeUtf8(String value, int utf8Size, byte[] dst, int offset) {
+        int length = value.length();
+        if (utf8Size != length) {
+            byte[] content = value.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(content, 0, dst, offset, content.length);
+            return;
+        }
+        // Only ASCII chars and unpaired surrogates take one byte each.
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            dst[offset + i] = c < 0x80 ? (byte) c : (byte) '?';
+        }
+    }
+
+    /// Copy written bytes starting at `offset` into `dst`.
+    public void read(int offset, byte[] dst) {
+        ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).position(start + offset);
+        view.get(dst);
+    }
+
+    /// Overwrite already written bytes starting at `offset` with `src`.
+    public void overwrite(int offset, byte[] src) {
+        if (offset < 0 || offset + src.length > size()) {
+            throw new IndexOutOfBoundsException("Cannot overwrite bytes that were not written");
+        }
+        if (shared) {
+            replace(buffer.capacity());
+        }
+        ByteBuffer view = buffer.duplicate();
+        ((Buffer) view).position(start + offset);
+        view.put(src);
+    }
+
+    /// Number of bytes of the ULEB128 encoding of `value`.
+    public static int uleb128Size(int value) {
+        int size = 1;
+        while ((value >>> 7) != 0) {
+            value = value >>> 7;
+            size++;
+        }
+        return size;
+    }
+
+    /// Number of bytes of the UTF-8 encoding of `value`, unpaired surrogates count as the 1-byte replacement `?`.
+    public static int utf8Size(String value) {
+        int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                size += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // 4 bytes for 2 chars
+                size += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                size += 2;
+            }
+        }
+        return size;
+    }
+
+    private void grow(int additional) {
+        if (allocator == null) {
+            throw new BufferOverflowException();
+        }
+        int size = size();
+        int required = size + additional;
+        if (required < 0) {
+            throw new OutOfMemoryError("Required buffer capacity overflows");
+        }
+        int capacity = Math.max(required, size << 1);
+        if (capacity < 0) {
+            capacity = Integer.MAX_VALUE;
+        }
+        replace(Math.max(capacity, DEFAULT_CAPACITY));
+        if (buffer.remaining() < additional) {
+            throw new IllegalStateException("Allocated buffer is smaller than requested");
+        }
+    }
+
+    // Replace the current buffer by a new one of the given capacity holding a copy of the written bytes.
+    private void replace(int capacity) {
+        BufferAllocator from = allocator != null ? allocator : BufferAllocator.HEAP;
+        ByteBuffer replacement = from.allocate(capacity);
+        if (replacement.remaining() < size()) {
+            throw new IllegalStateException("Allocated buffer is smaller than requested");
+        }
+        replacement.order(ByteOrder.LITTLE_ENDIAN);
+        int replacementStart = replacement.position();
+        replacement.put(slice());
+        release();
+        buffer = replacement;
+        start = replacementStart;
+        allocated = from != BufferAllocator.HEAP;
+        shared = false;
+    }
+}
@@ -6,12 +6,33 @@ package com.novi.serde;
 import java.math.BigInteger;
 
 public abstract class BinarySerializer implements Serializer {
-    protected MyByteArrayOutputStream output;
+    protected BinaryOutput output;
+    private final long maxContainerDepth;
     private long containerDepthBudget;
 
     public BinarySerializer(long maxContainerDepth) {
-        output = new BinarySerializer.MyByteArrayOutputStream();
-        containerDepthBudget = maxContainerDepth;
+        this(maxContainerDepth, BinaryOutput.DEFAULT_CAPACITY);
+    }
+
+    public BinarySerializer(long maxContainerDepth, int capacityHint) {
+        this(maxContainerDepth, new BinaryOutput(capacityHint));
+    }
+
+    /// Serialize into `buffer` from its current position, `allocator` provides larger buffers when needed (may be null).
+    /// The position and byte order of `buffer` are not modified, and `release` does not release it.
+    public BinarySerializer(long maxContainerDepth, java.nio.ByteBuffer buffer, BufferAllocator allocator) {
+        this(maxContainerDepth, new BinaryOutput(buffer, allocator));
+    }
+
+    /// Serialize into a buffer of at least `capacity` bytes obtained from `allocator`, returned to it by `release`.
+    public BinarySerializer(long maxContainerDepth, BufferAllocator allocator, int capacity) {
+        this(maxContainerDepth, new BinaryOutput(allocator, capacity));
+    }
+
+    private BinarySerializer(long maxContainerDepth, BinaryOutput output) {
+        this.output = output;
+        this.maxContainerDepth = maxContainerDepth;
+        this.containerDepthBudget = maxContainerDepth;
     }
 
     public void increase_container_depth() throws SerializationError {
@@ -26,17 +47,22 @@ public abstract class BinarySerializer implements Serializer {
     }
 
     public void serialize_str(String value) throws SerializationError {
-        serialize_bytes(new Bytes(value.getBytes()));
+        int length = BinaryOutput.utf8Size(value);
+        serialize_len(length);
+        output.writeUtf8(value, length);
     }
 
     public void serialize_bytes(Bytes value) throws SerializationError {
-        byte[] content = value.content();
-        serialize_len(content.length);
-        output.write(content, 0, content.length);
+        serialize_len(value.length());
+        value.writeTo(output);
     }
 
     public void serialize_bool(Boolean value) throws SerializationError {
-        output.write((value.booleanValue() ? 1 : 0));
+        serialize_bool(value.booleanValue());
+    }
+
+    public void serialize_bool(boolean value) throws SerializationError {
+        output.write((value ? 1 : 0));
     }
 
     public void serialize_unit(Unit value) throws SerializationError {
@@ -47,82 +73,87 @@ public abstract class BinarySerializer implements Serializer {
     }
 
     public void serialize_u8(@Unsigned Byte value) throws SerializationError {
-        output.write(value.byteValue());
+        serialize_u8(value.byteValue());
+    }
+
+    public void serialize_u8(@Unsigned byte value) throws SerializationError {
+        output.write(value);
     }
 
     public void serialize_u16(@Unsigned Short value) throws SerializationError {
-        short val = value.shortValue();
-        output.write((byte) (val >>> 0));
-        output.write((byte) (val >>> 8));
+        serialize_u16(value.shortValue());
+    }
+
+    public void serialize_u16(@Unsigned short value) throws SerializationError {
+        output.writeShort(value);
     }
 
     public void serialize_u32(@Unsigned Integer value) throws SerializationError {
-        int val = value.intValue();
-        output.write((byte) (val >>> 0));
-        output.write((byte) (val >>> 8));
-        output.write((byte) (val >>> 16));
-        output.write((byte) (val >>> 24));
+        serialize_u32(value.intValue());
+    }
+
+    public void serialize_u32(@Unsigned int value) throws SerializationError {
+        output.writeInt(value);
     }
 
     public void serialize_u64(@Unsigned Long value) throws SerializationError {
-        long val = value.longValue();
-        output.write((byte) (val >>> 0));
-        output.write((byte) (val >>> 8));
-        output.write((byte) (val >>> 16));
-        output.write((byte) (val >>> 24));
-        output.write((byte) (val >>> 32));
-        output.write((byte) (val >>> 40));
-        output.write((byte) (val >>> 48));
-        output.write((byte) (val >>> 56));
+        serialize_u64(value.longValue());
+    }
+
+    public void serialize_u64(@Unsigned long value) throws SerializationError {
+        output.writeLong(value);
     }
 
     public void serialize_u128(@Unsigned @Int128 BigInteger value) throws SerializationError {
-        if (value.compareTo(BigInteger.ZERO) < 0 || !value.shiftRight(128).equals(BigInteger.ZERO)) {
-            throw new java.lang.IllegalArgumentException("Invalid value for an unsigned int128");
-        }
-        byte[] content = value.toByteArray();
-        // BigInteger.toByteArray() may add a most-significant zero
-        // byte for signing purpose: ignore it.
-        assert content.length <= 16 || content[0] == 0;
-        int len = Math.min(content.length, 16);
-        // Write content in little-endian order.
-        for (int i = 0; i < len; i++) {
-            output.write(content[content.length - 1 - i]);
-        }
-        // Complete with zeros if needed.
-        for (int i = len; i < 16; i++) {
-            output.write(0);
-        }
+        serialize_u128(U128.valueOf(value));
+    }
+
+    public void serialize_u128(@Unsigned @Int128 U128 value) throws SerializationError {
+        output.ensureCapacity(16);
+        output.writeLong(value.low());
+        output.writeLong(value.high());
     }
 
     public void serialize_i8(Byte value) throws SerializationError {
+        serialize_u8(value.byteValue());
+    }
+
+    public void serialize_i8(byte value) throws SerializationError {
         serialize_u8(value);
     }
 
     public void serialize_i16(Short value) throws SerializationError {
+        serialize_u16(value.shortValue());
+    }
+
+    public void serialize_i16(short value) throws SerializationError {
         serialize_u16(value);
     }
 
     public void serialize_i32(Integer value) throws SerializationError {
+        serialize_u32(value.intValue());
+    }
+
+    public void serialize_i32(int value) throws SerializationError {
         serialize_u32(value);
     }
 
     public void serialize_i64(Long value) throws SerializationError {
+        serialize_u64(value.longValue());
+    }
+
+    public void serialize_i64(long value) throws SerializationError {
         serialize_u64(value);
     }
 
     public void serialize_i128(@Int128 BigInteger value) throws SerializationError {
-        if (value.compareTo(BigInteger.ZERO) >= 0) {
-            if (!value.shiftRight(127).equals(BigInteger.ZERO)) {
-                throw new java.lang.IllegalArgumentException("Invalid value for a signed int128");
-            }
-            serialize_u128(value);
-        } else {
-            if (!value.add(BigInteger.ONE).negate().shiftRight(127).equals(BigInteger.ZERO)) {
-                throw new java.lang.IllegalArgumentException("Invalid value for a signed int128");
-            }
-            serialize_u128(value.add(BigInteger.ONE.shiftLeft(128)));
+        // two's complement: bitLength excludes the sign bit.
+        if (value.bitLength() > 127) {
+            throw new java.lang.IllegalArgumentException("Invalid value for a signed int128");
         }
+        output.ensureCapacity(16);
+        output.writeLong(value.longValue());
+        output.writeLong(value.shiftRight(64).longValue());
     }
 
     public void serialize_option_tag(boolean value) throws SerializationError {
@@ -137,10 +168,19 @@ public abstract class BinarySerializer implements Serializer {
         return output.toByteArray();
     }
 
-    // Local extension to provide access to the underlying buffer.
-    static public class MyByteArrayOutputStream extends java.io.ByteArrayOutputStream {
-        public byte[] getBuffer() {
-            return buf;
-        }
+    /// View of the serialized bytes without copying, valid until the serializer is written to or reset.
+    public java.nio.ByteBuffer get_byte_buffer() {
+        return output.slice();
+    }
+
+    /// Discard the serialized bytes so that the serializer and its buffer can be reused.
+    public void reset() {
+        output.reset();
+        containerDepthBudget = maxContainerDepth;
+    }
+
+    /// Return pooled buffers to their allocator, the serializer must not be used afterwards.
+    public void release() {
+        output.release();
     }
 }
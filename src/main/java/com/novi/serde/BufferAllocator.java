@@ -0,0 +1,22 @@
+// Copyright (c) Facebook, Inc. and its affiliates
+// SPDX-License-Identifier: MIT OR Apache-2.0
+
+package com.novi.serde;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Provides buffers to `BinaryOutput` when it needs to grow.
+ */
+public interface BufferAllocator {
+    BufferAllocator HEAP = ByteBuffer::allocate;
+
+    BufferAllocator DIRECT = ByteBuffer::allocateDirect;
+
+    /// Returns a buffer with at least `capacity` bytes remaining.
+    ByteBuffer allocate(int capacity);
+
+    /// Called when a buffer returned by `allocate` is not used anymore.
+    default void release(ByteBuffer buffer) {
+    }
+}
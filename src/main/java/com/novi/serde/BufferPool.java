@@ -0,0 +1,70 @@
+// Copyright (c) Facebook, Inc. and its affiliates
+// SPDX-License-Identifier: MIT OR Apache-2.0
+
+package com.novi.serde;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Thread-safe pool of heap or direct buffers, with power of two capacities.
+ */
+public final class BufferPool implements BufferAllocator {
+    // capacities are 2^MIN_SHIFT .. 2^MAX_SHIFT, larger buffers are not pooled.
+    private static final int MIN_SHIFT = 6;
+    private static final int MAX_SHIFT = 24;
+
+    private final boolean direct;
+    private final List<ArrayBlockingQueue<ByteBuffer>> buckets;
+
+    /**
+     * @param direct            allocate direct buffers instead of heap buffers
+     * @param maxBuffersPerSize number of released buffers kept for each capacity
+     */
+    public BufferPool(boolean direct, int maxBuffersPerSize) {
+        this.direct = direct;
+        this.buckets = new ArrayList<>(MAX_SHIFT - MIN_SHIFT + 1);
+        for (int i = MIN_SHIFT; i <= MAX_SHIFT; i++) {
+            buckets.add(new ArrayBlockingQueue<>(maxBuffersPerSize));
+        }
+    }
+
+    public ByteBuffer allocate(int capacity) {
+        int shift = shiftOf(capacity);
+        if (shift > MAX_SHIFT) {
+            return newBuffer(capacity);
+        }
+        ByteBuffer buffer = buckets.get(shift - MIN_SHIFT).poll();
+        if (buffer == null) {
+            return newBuffer(1 << shift);
+        }
+        return buffer;
+    }
+
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (buffer.isDirect() != direct || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        int shift = shiftOf(capacity);
+        if (shift < MIN_SHIFT || shift > MAX_SHIFT) {
+            return;
+        }
+        ((Buffer) buffer).clear();
+        buckets.get(shift - MIN_SHIFT).offer(buffer);
+    }
+
+    private ByteBuffer newBuffer(int capacity) {
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    private static int shiftOf(int capacity) {
+        if (capacity <= (1 << MIN_SHIFT)) {
+            return MIN_SHIFT;
+        }
+        return 32 - Integer.numberOfLeadingZeros(capacity - 1);
+    }
+}
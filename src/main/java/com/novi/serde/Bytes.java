@@ -3,6 +3,9 @@
 
 package com.novi.serde;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -10,6 +13,8 @@ import java.util.Objects;
  * Immutable wrapper class around byte[].
  *
  * Enforces value-semantice for `equals` and `hashCode`.
+ * Besides `content()`, which returns a copy, the content can be read without copying through `length`, `byteAt`,
+ * `asReadOnlyByteBuffer` and `writeTo`.
  */
 public final class Bytes {
     private final byte[] content;
@@ -39,6 +44,36 @@ public final class Bytes {
         return this.content.clone();
     }
 
+    public int length() {
+        return content.length;
+    }
+
+    public byte byteAt(int index) {
+        return content[index];
+    }
+
+    /// Read-only view of the content, positioned at 0.
+    public ByteBuffer asReadOnlyByteBuffer() {
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    public void writeTo(BinaryOutput output) {
+        output.write(content, 0, content.length);
+    }
+
+    /// Copy the content into `dst` starting at `offset`.
+    public void copyTo(byte[] dst, int offset) {
+        System.arraycopy(content, 0, dst, offset, content.length);
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(content);
+    }
+
+    public void writeTo(OutputStream stream) throws IOException {
+        stream.write(content);
+    }
+
     public boolean equals(Object obj) {
         if (this == obj) return true;
         if (obj == null) return false;
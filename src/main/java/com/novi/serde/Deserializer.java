@@ -40,6 +40,49 @@ public interface Deserializer {
 
     @Int128 BigInteger deserialize_i128() throws DeserializationError;
 
+    // Primitive variants avoiding boxing. Defaults delegate to the boxed methods for compatibility,
+    // binary deserializers implement them directly.
+
+    default boolean deserialize_bool_primitive() throws DeserializationError {
+        return deserialize_bool().booleanValue();
+    }
+
+    default @Unsigned byte deserialize_u8_primitive() throws DeserializationError {
+        return deserialize_u8().byteValue();
+    }
+
+    default @Unsigned short deserialize_u16_primitive() throws DeserializationError {
+        return deserialize_u16().shortValue();
+    }
+
+    default @Unsigned int deserialize_u32_primitive() throws DeserializationError {
+        return deserialize_u32().intValue();
+    }
+
+    default @Unsigned long deserialize_u64_primitive() throws DeserializationError {
+        return deserialize_u64().longValue();
+    }
+
+    default @Unsigned @Int128 U128 deserialize_u128_value() throws DeserializationError {
+        return U128.valueOf(deserialize_u128());
+    }
+
+    default byte deserialize_i8_primitive() throws DeserializationError {
+        return deserialize_i8().byteValue();
+    }
+
+    default short deserialize_i16_primitive() throws DeserializationError {
+        return deserialize_i16().shortValue();
+    }
+
+    default int deserialize_i32_primitive() throws DeserializationError {
+        return deserialize_i32().intValue();
+    }
+
+    default long deserialize_i64_primitive() throws DeserializationError {
+        return deserialize_i64().longValue();
+    }
+
     long deserialize_len() throws DeserializationError;
 
     int deserialize_variant_index() throws DeserializationError;
@@ -52,5 +95,16 @@ public interface Deserializer {
 
     int get_buffer_offset();
 
+    /// Offset of the start of the next map key, same as `get_buffer_offset`. Deserializers reading a stream keep
+    /// the input from it buffered until the key is released as the first key of
+    /// `check_that_key_slices_are_increasing`, or by `release_key_offset` after the last key of the map.
+    default int get_key_offset() {
+        return get_buffer_offset();
+    }
+
+    /// Release the start offset of the last key of a map, returned by `get_key_offset`.
+    default void release_key_offset(int offset) {
+    }
+
     void check_that_key_slices_are_increasing(Slice key1, Slice key2) throws DeserializationError;
 }
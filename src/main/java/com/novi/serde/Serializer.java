@@ -40,6 +40,49 @@ public interface Serializer {
 
     void serialize_i128(@Int128 BigInteger value) throws SerializationError;
 
+    // Primitive overloads avoiding boxing. Defaults delegate to the boxed methods for compatibility,
+    // binary serializers implement them directly.
+
+    default void serialize_bool(boolean value) throws SerializationError {
+        serialize_bool(Boolean.valueOf(value));
+    }
+
+    default void serialize_u8(@Unsigned byte value) throws SerializationError {
+        serialize_u8(Byte.valueOf(value));
+    }
+
+    default void serialize_u16(@Unsigned short value) throws SerializationError {
+        serialize_u16(Short.valueOf(value));
+    }
+
+    default void serialize_u32(@Unsigned int value) throws SerializationError {
+        serialize_u32(Integer.valueOf(value));
+    }
+
+    default void serialize_u64(@Unsigned long value) throws SerializationError {
+        serialize_u64(Long.valueOf(value));
+    }
+
+    default void serialize_u128(@Unsigned @Int128 U128 value) throws SerializationError {
+        serialize_u128(value.toBigInteger());
+    }
+
+    default void serialize_i8(byte value) throws SerializationError {
+        serialize_i8(Byte.valueOf(value));
+    }
+
+    default void serialize_i16(short value) throws SerializationError {
+        serialize_i16(Short.valueOf(value));
+    }
+
+    default void serialize_i32(int value) throws SerializationError {
+        serialize_i32(Integer.valueOf(value));
+    }
+
+    default void serialize_i64(long value) throws SerializationError {
+        serialize_i64(Long.valueOf(value));
+    }
+
     void serialize_len(long value) throws SerializationError;
 
     void serialize_variant_index(int value) throws SerializationError;
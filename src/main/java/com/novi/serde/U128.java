@@ -0,0 +1,315 @@
+// Copyright (c) Facebook, Inc. and its affiliates
+// SPDX-License-Identifier: MIT OR Apache-2.0
+
+package com.novi.serde;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable unsigned 128-bit integer stored as two longs.
+ *
+ * Arithmetic is checked: results outside of [0, 2^128) throw `ArithmeticException`.
+ * Use `valueOf(BigInteger)` and `toBigInteger()` to convert from and to `BigInteger`.
+ */
+public final class U128 extends Number implements Comparable<U128> {
+    private static final long serialVersionUID = 1L;
+
+    public static final U128 ZERO = new U128(0, 0);
+    public static final U128 ONE = new U128(0, 1);
+    public static final U128 MAX_VALUE = new U128(-1L, -1L);
+
+    // largest power of 10 fitting in an unsigned int, used for decimal conversions.
+    private static final long TEN_POW_9 = 1_000_000_000L;
+
+    private final long high;
+    private final long low;
+
+    private U128(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /// Create a value from its 64 most significant bits and its 64 least significant bits.
+    public static U128 valueOf(long high, long low) {
+        if (high == 0) {
+            if (low == 0) return ZERO;
+            if (low == 1) return ONE;
+        }
+        return new U128(high, low);
+    }
+
+    /// Create a value from `value` read as an unsigned 64-bit integer.
+    public static U128 valueOf(@Unsigned long value) {
+        return valueOf(0, value);
+    }
+
+    public static U128 valueOf(BigInteger value) {
+        if (value.signum() < 0 || value.bitLength() > 128) {
+            throw new java.lang.IllegalArgumentException("Invalid value for an unsigned int128");
+        }
+        return valueOf(value.shiftRight(64).longValue(), value.longValue());
+    }
+
+    /// Parse an unsigned decimal string.
+    public static U128 parse(CharSequence value) {
+        return parse(value, 10);
+    }
+
+    /// Parse an unsigned string in the given radix (2 to 36), without sign nor prefix.
+    public static U128 parse(CharSequence value, int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) {
+            throw new NumberFormatException("Invalid radix: " + radix);
+        }
+        int length = value.length();
+        if (length == 0) {
+            throw new NumberFormatException("Empty string");
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < length; i++) {
+            int digit = Character.digit(value.charAt(i), radix);
+            if (digit < 0) {
+                throw new NumberFormatException("Invalid digit at index " + i + ": " + value);
+            }
+            // (high, low) * radix + digit
+            long carry = multiplyHigh(low, radix);
+            long highProduct = high * radix;
+            long nextHigh = highProduct + carry;
+            long nextLow = low * radix + digit;
+            if (Long.compareUnsigned(nextLow, low * radix) < 0) {
+                nextHigh++;
+            }
+            if (multiplyHigh(high, radix) != 0 || Long.compareUnsigned(nextHigh, highProduct) < 0) {
+                throw new NumberFormatException("Value out of range of an unsigned int128: " + value);
+            }
+            high = nextHigh;
+            low = nextLow;
+        }
+        return valueOf(high, low);
+    }
+
+    /// 64 most significant bits.
+    public long high() {
+        return high;
+    }
+
+    /// 64 least significant bits.
+    public long low() {
+        return low;
+    }
+
+    public boolean isZero() {
+        return high == 0 && low == 0;
+    }
+
+    public BigInteger toBigInteger() {
+        if (high == 0 && low >= 0) {
+            return BigInteger.valueOf(low);
+        }
+        byte[] content = new byte[17];
+        for (int i = 0; i < 8; i++) {
+            content[1 + i] = (byte) (high >>> (56 - 8 * i));
+            content[9 + i] = (byte) (low >>> (56 - 8 * i));
+        }
+        return new BigInteger(content);
+    }
+
+    public U128 add(U128 other) {
+        long sumLow = low + other.low;
+        long carry = Long.compareUnsigned(sumLow, low) < 0 ? 1 : 0;
+        long sumHigh = high + other.high;
+        boolean overflow = Long.compareUnsigned(sumHigh, high) < 0;
+        sumHigh += carry;
+        if (overflow || (carry != 0 && sumHigh == 0)) {
+            throw new ArithmeticException("unsigned int128 overflow");
+        }
+        return valueOf(sumHigh, sumLow);
+    }
+
+    public U128 subtract(U128 other) {
+        if (compareTo(other) < 0) {
+            throw new ArithmeticException("unsigned int128 underflow");
+        }
+        long borrow = Long.compareUnsigned(low, other.low) < 0 ? 1 : 0;
+        return valueOf(high - other.high - borrow, low - other.low);
+    }
+
+    public U128 multiply(U128 other) {
+        if (high != 0 && other.high != 0) {
+            throw new ArithmeticException("unsigned int128 overflow");
+        }
+        // at most one of the cross products is non-zero
+        long cross = high != 0 ? high : other.high;
+        long factor = high != 0 ? other.low : low;
+        if (multiplyHigh(cross, factor) != 0) {
+            throw new ArithmeticException("unsigned int128 overflow");
+        }
+        long crossLow = cross * factor;
+        long productHigh = multiplyHigh(low, other.low);
+        long resultHigh = productHigh + crossLow;
+        if (Long.compareUnsigned(resultHigh, productHigh) < 0) {
+            throw new ArithmeticException("unsigned int128 overflow");
+        }
+        return valueOf(resultHigh, low * other.low);
+    }
+
+    public U128 divide(U128 divisor) {
+        return divideAndRemainder(divisor)[0];
+    }
+
+    public U128 remainder(U128 divisor) {
+        return divideAndRemainder(divisor)[1];
+    }
+
+    /// Returns `{this / divisor, this % divisor}`.
+    public U128[] divideAndRemainder(U128 divisor) {
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (high == 0 && divisor.high == 0) {
+            return new U128[]{
+                    valueOf(Long.divideUnsigned(low, divisor.low)),
+                    valueOf(Long.remainderUnsigned(low, divisor.low))};
+        }
+        if (compareTo(divisor) < 0) {
+            return new U128[]{ZERO, this};
+        }
+        // shift-subtract division, starting at the highest bit of the quotient
+        int shift = divisor.numberOfLeadingZeros() - numberOfLeadingZeros();
+        long remHigh = high;
+        long remLow = low;
+        long divHigh = shift >= 64 ? divisor.low << (shift - 64) : (divisor.high << shift) | (shift == 0 ? 0 : divisor.low >>> (64 - shift));
+        long divLow = shift >= 64 ? 0 : divisor.low << shift;
+        long quotHigh = 0;
+        long quotLow = 0;
+        for (int i = shift; i >= 0; i--) {
+            int cmp = Long.compareUnsigned(remHigh, divHigh);
+            if (cmp > 0 || cmp == 0 && Long.compareUnsigned(remLow, divLow) >= 0) {
+                long borrow = Long.compareUnsigned(remLow, divLow) < 0 ? 1 : 0;
+                remHigh = remHigh - divHigh - borrow;
+                remLow = remLow - divLow;
+                if (i >= 64) {
+                    quotHigh |= 1L << (i - 64);
+                } else {
+                    quotLow |= 1L << i;
+                }
+            }
+            divLow = (divLow >>> 1) | (divHigh << 63);
+            divHigh = divHigh >>> 1;
+        }
+        return new U128[]{valueOf(quotHigh, quotLow), valueOf(remHigh, remLow)};
+    }
+
+    public int numberOfLeadingZeros() {
+        return high != 0 ? Long.numberOfLeadingZeros(high) : 64 + Long.numberOfLeadingZeros(low);
+    }
+
+    @Override
+    public int compareTo(U128 other) {
+        int cmp = Long.compareUnsigned(high, other.high);
+        return cmp != 0 ? cmp : Long.compareUnsigned(low, other.low);
+    }
+
+    /// Low 32 bits, as `BigInteger.intValue`.
+    @Override
+    public int intValue() {
+        return (int) low;
+    }
+
+    /// Low 64 bits, as `BigInteger.longValue`.
+    @Override
+    public long longValue() {
+        return low;
+    }
+
+    /// Returns the value as a long, or throws `ArithmeticException` if it is greater than `Long.MAX_VALUE`.
+    public long longValueExact() {
+        if (high != 0 || low < 0) {
+            throw new ArithmeticException("unsigned int128 out of long range");
+        }
+        return low;
+    }
+
+    @Override
+    public float floatValue() {
+        return (float) doubleValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return unsignedToDouble(high) * 0x1.0p64 + unsignedToDouble(low);
+    }
+
+    @Override
+    public String toString() {
+        if (high == 0) {
+            return Long.toUnsignedString(low);
+        }
+        // split in 32-bit limbs and divide by 10^9 until the value fits in an unsigned long
+        long[] limbs = {high >>> 32, high & 0xFFFFFFFFL, low >>> 32, low & 0xFFFFFFFFL};
+        StringBuilder chunks = new StringBuilder(40);
+        String[] parts = new String[5];
+        int count = 0;
+        while (limbs[0] != 0 || limbs[1] != 0) {
+            long remainder = 0;
+            for (int i = 0; i < limbs.length; i++) {
+                long current = (remainder << 32) | limbs[i];
+                limbs[i] = Long.divideUnsigned(current, TEN_POW_9);
+                remainder = Long.remainderUnsigned(current, TEN_POW_9);
+            }
+            parts[count++] = Long.toString(remainder);
+        }
+        chunks.append(Long.toUnsignedString((limbs[2] << 32) | limbs[3]));
+        for (int i = count - 1; i >= 0; i--) {
+            for (int pad = parts[i].length(); pad < 9; pad++) {
+                chunks.append('0');
+            }
+            chunks.append(parts[i]);
+        }
+        return chunks.toString();
+    }
+
+    /// Lower case hexadecimal string without prefix nor leading zeros.
+    public String toHexString() {
+        if (high == 0) {
+            return Long.toHexString(low);
+        }
+        String lowHex = Long.toHexString(low);
+        StringBuilder builder = new StringBuilder(32).append(Long.toHexString(high));
+        for (int pad = lowHex.length(); pad < 16; pad++) {
+            builder.append('0');
+        }
+        return builder.append(lowHex).toString();
+    }
+
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null) return false;
+        if (getClass() != obj.getClass()) return false;
+        U128 other = (U128) obj;
+        return this.high == other.high && this.low == other.low;
+    }
+
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+
+    private static double unsignedToDouble(long value) {
+        double halved = (double) (value >>> 1);
+        return halved * 2.0 + (value & 1);
+    }
+
+    // High 64 bits of the unsigned 128-bit product of `a` and `b` (Math.unsignedMultiplyHigh needs Java 18).
+    static long multiplyHigh(long a, long b) {
+        long a0 = a & 0xFFFFFFFFL;
+        long a1 = a >>> 32;
+        long b0 = b & 0xFFFFFFFFL;
+        long b1 = b >>> 32;
+        long p00 = a0 * b0;
+        long p01 = a0 * b1;
+        long p10 = a1 * b0;
+        long p11 = a1 * b1;
+        long middle = (p00 >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        return p11 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+}
@@ -8,8 +8,12 @@ import com.diem.utils.AccountAddressUtils;
 import org.junit.Test;
 import com.diem.utils.Hex;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 
 public class AccountAddressUtilsTest {
     @Test
@@ -24,4 +28,22 @@ public class AccountAddressUtilsTest {
         byte[] bytes = Hex.decode("f72589b71ff4f8d139674a3f7369c69b");
         assertArrayEquals(bytes, AccountAddressUtils.bytes(address));
     }
+
+    @Test
+    public void testValueListAndBcs() throws Exception {
+        byte[] bytes = Hex.decode("f72589b71ff4f8d139674a3f7369c69b");
+        AccountAddress address = AccountAddressUtils.create(bytes);
+        List<Byte> list = new ArrayList<>(address.value);
+        assertEquals(16, list.size());
+        assertEquals(Byte.valueOf((byte) 0xf7), list.get(0));
+        assertEquals(Byte.valueOf((byte) 0x9b), list.get(15));
+
+        AccountAddress fromList = new AccountAddress(list);
+        assertEquals(address, fromList);
+        assertEquals(address.hashCode(), fromList.hashCode());
+        assertNotEquals(address, AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69c"));
+
+        assertArrayEquals(bytes, address.bcsSerialize());
+        assertEquals(address, AccountAddress.bcsDeserialize(bytes));
+    }
 }
@@ -78,4 +78,30 @@ public class AccountIdentifierTest {
             AccountIdentifier.decode(AccountIdentifier.NetworkPrefix.MainnetPrefix, invalidVersionId);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEncodeV1Bulk() {
+        byte[] subAddresses = new byte[SubAddress.SUB_ADDRESS_LENGTH * 100];
+        for (int i = 0; i < subAddresses.length; i++) {
+            subAddresses[i] = (byte) (i * 31 + 7);
+        }
+        for (AccountIdentifier.NetworkPrefix prefix : AccountIdentifier.NetworkPrefix.values()) {
+            String[] encoded = AccountIdentifier.encodeV1(prefix, accountAddress, subAddresses);
+            assertEquals(100, encoded.length);
+            for (int i = 0; i < encoded.length; i++) {
+                byte[] sub = java.util.Arrays.copyOfRange(subAddresses, i * 8, i * 8 + 8);
+                AccountIdentifier id = new AccountIdentifier(prefix, accountAddress, new SubAddress(sub));
+                assertEquals(id.encodeV1(), encoded[i]);
+                assertEquals(id, AccountIdentifier.decode(prefix, encoded[i]));
+            }
+        }
+    }
+
+    @Test
+    public void testDecodeUpperCase() {
+        String idStr = new AccountIdentifier(AccountIdentifier.NetworkPrefix.TestnetPrefix, accountAddress, subAddress).encodeV1();
+        AccountIdentifier identifier = AccountIdentifier.decode(AccountIdentifier.NetworkPrefix.TestnetPrefix, idStr.toUpperCase());
+        assertEquals(accountAddress, identifier.getAccountAddress());
+        assertEquals(subAddress, identifier.getSubAddress());
+    }
+}
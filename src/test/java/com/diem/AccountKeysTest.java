@@ -0,0 +1,69 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.utils.Hex;
+import org.junit.Test;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class AccountKeysTest {
+
+    @Test
+    public void testGenerateMatchesAuthKey() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AccountKeys keys = AccountKeys.generate(1000, new SecureRandom(), pool);
+            assertEquals(1000, keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                Ed25519PrivateKey privateKey = keys.privateKey(i);
+                assertArrayEquals(privateKey.publicKey(), keys.publicKey(i));
+                AuthKey authKey = AuthKey.ed25519(privateKey.publicKey());
+                assertEquals(authKey, keys.authKey(i));
+                assertEquals(authKey.accountAddress(), keys.accountAddress(i));
+                assertEquals(authKey.prefix(), keys.authKeyPrefix(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDerive() {
+        byte[] privateKey = Hex.decode("b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f");
+        AccountKeys keys = AccountKeys.derive(privateKey.clone(), ForkJoinPool.commonPool());
+        assertEquals(1, keys.size());
+        assertEquals(AuthKey.ed25519(new Ed25519PrivateKey(Hex.encode(privateKey)).publicKey()), keys.authKey(0));
+        assertEquals(new AccountIdentifier(AccountIdentifier.NetworkPrefix.TestnetPrefix, keys.accountAddress(0)),
+                keys.accountIdentifier(0, AccountIdentifier.NetworkPrefix.TestnetPrefix));
+    }
+
+    @Test
+    public void testFromSeedIsDeterministic() {
+        byte[] seed = "load test seed".getBytes();
+        AccountKeys keys = AccountKeys.fromSeed(seed, 0, 600);
+        AccountKeys resumed = AccountKeys.fromSeed(seed, 500, 100);
+        for (int i = 0; i < resumed.size(); i++) {
+            assertArrayEquals(keys.privateKeyBytes(500 + i), resumed.privateKeyBytes(i));
+            assertEquals(keys.authKey(500 + i), resumed.authKey(i));
+        }
+        assertNotEquals(keys.authKey(0), AccountKeys.fromSeed("other seed".getBytes(), 0, 1).authKey(0));
+        assertEquals(AuthKey.ed25519(keys.privateKey(42).publicKey()), keys.authKey(42));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrivateKeysLength() {
+        AccountKeys.derive(new byte[33], ForkJoinPool.commonPool());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        AccountKeys.fromSeed(new byte[1], 0, 1).publicKey(1);
+    }
+}
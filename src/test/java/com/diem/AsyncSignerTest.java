@@ -0,0 +1,81 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncSignerTest {
+
+    @Test
+    public void testSignAsyncInOneBatch() throws Exception {
+        List<RawTransaction> raws = rawTransactions(20);
+        LocalAsyncSigner signer = new LocalAsyncSigner(TestTransactions.KEY);
+
+        List<SignedTransaction> signed = Signer.signAsync(signer, raws).get();
+        assertEquals(1, signer.getBatchCount());
+        assertEquals(raws.size(), signed.size());
+        for (int i = 0; i < raws.size(); i++) {
+            assertEquals(Signer.sign(TestTransactions.KEY, raws.get(i)), signed.get(i));
+        }
+    }
+
+    @Test
+    public void testPrepareAsync() throws Exception {
+        List<RawTransaction> raws = rawTransactions(5);
+        List<PreparedTransaction> prepared = Signer.prepareAsync(new LocalAsyncSigner(TestTransactions.KEY), raws).get();
+        for (int i = 0; i < raws.size(); i++) {
+            assertEquals(Signer.prepare(TestTransactions.KEY, raws.get(i)), prepared.get(i));
+            assertEquals(Signer.prepare(TestTransactions.KEY, raws.get(i)).getHex(), prepared.get(i).getHex());
+        }
+    }
+
+    @Test
+    public void testSignOneMessage() throws Exception {
+        byte[] message = "hello".getBytes();
+        assertArrayEquals(TestTransactions.KEY.sign(message), new LocalAsyncSigner(TestTransactions.KEY).sign(message).get());
+    }
+
+    @Test
+    public void testSignerFailure() throws Exception {
+        AsyncSigner signer = new AsyncSigner() {
+            @Override
+            public byte[] publicKey() {
+                return TestTransactions.KEY.publicKey();
+            }
+
+            @Override
+            public CompletableFuture<List<byte[]>> sign(List<byte[]> messages) {
+                // drops a signature
+                return CompletableFuture.completedFuture(Collections.singletonList(TestTransactions.KEY.sign(messages.get(0))));
+            }
+        };
+        try {
+            Signer.signAsync(signer, rawTransactions(2)).get();
+            fail("expect ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    private static List<RawTransaction> rawTransactions(int count) {
+        List<RawTransaction> ret = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ret.add(TestTransactions.rawTransaction(i));
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchSignerTest {
+
+    private static final Ed25519PrivateKey[] KEYS = {
+            new Ed25519PrivateKey("b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f"),
+            new Ed25519PrivateKey("76e3de861d516283dc285e12ddadc95245a9e98f351c910b0ad722f790bac273"),
+            new Ed25519PrivateKey("a4b1a2da9c1f4bd2f8b4b24e5a1b2e3a84e20bbf4df8d3c4f7e8b9a0c1d2e3f4"),
+    };
+
+    @Test
+    public void testSignInInputOrder() {
+        List<RawTransaction> txns = new ArrayList<>();
+        List<PrivateKey> keys = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            txns.add(TestTransactions.rawTransaction(i));
+            keys.add(KEYS[i % KEYS.length]);
+        }
+
+        List<SignedTransaction> signed;
+        try (BatchSigner signer = new BatchSigner(4)) {
+            signed = signer.sign(keys, txns);
+        }
+        assertEquals(txns.size(), signed.size());
+        for (int i = 0; i < txns.size(); i++) {
+            assertEquals(Signer.sign(keys.get(i), txns.get(i)), signed.get(i));
+        }
+    }
+
+    @Test
+    public void testSignWithGivenExecutor() {
+        List<RawTransaction> txns = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            txns.add(TestTransactions.rawTransaction(i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<SignedTransaction> signed = new BatchSigner(executor, 3).sign(KEYS[0], txns);
+            for (int i = 0; i < txns.size(); i++) {
+                assertEquals(Signer.sign(KEYS[0], txns.get(i)), signed.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testKeysAndTransactionsSizeMismatch() {
+        try (BatchSigner signer = new BatchSigner(1)) {
+            signer.sign(Collections.singletonList(KEYS[0]), Collections.emptyList());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.utils.Bech32Codec;
+import org.bitcoinj.core.AddressFormatException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class Bech32CodecTest {
+
+    @Test
+    public void testBip173AndBip350Vectors() {
+        byte[] dst = new byte[Bech32Codec.MAX_LENGTH];
+        assertEquals(0, Bech32Codec.decode("a12uel5l", "a", Bech32Codec.Variant.BECH32, dst, 0));
+        assertEquals(0, Bech32Codec.decode("A12UEL5L", "a", Bech32Codec.Variant.BECH32, dst, 0));
+        assertEquals(0, Bech32Codec.decode("a1lqfn3a", "a", Bech32Codec.Variant.BECH32M, dst, 0));
+        assertEquals(0, Bech32Codec.decode("A1LQFN3A", "a", Bech32Codec.Variant.BECH32M, dst, 0));
+
+        assertEquals("a12uel5l", Bech32Codec.encode("a", new byte[0], 0, 0, Bech32Codec.Variant.BECH32));
+        assertEquals("a1lqfn3a", Bech32Codec.encode("a", new byte[0], 0, 0, Bech32Codec.Variant.BECH32M));
+
+        // a bech32 checksum is not a valid bech32m checksum
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode("a12uel5l", "a", Bech32Codec.Variant.BECH32M, dst, 0));
+    }
+
+    @Test
+    public void testEncodeDecode() {
+        byte[] data = {0, 1, 2, 31, 30, 15, 16};
+        for (Bech32Codec.Variant variant : Bech32Codec.Variant.values()) {
+            String encoded = Bech32Codec.encode("tdm", data, 1, 5, variant);
+            byte[] dst = new byte[Bech32Codec.MAX_LENGTH + 1];
+            assertEquals(5, Bech32Codec.decode(encoded, "tdm", variant, dst, 1));
+            assertArrayEquals(new byte[]{0, 1, 2, 31, 30, 15}, java.util.Arrays.copyOf(dst, 6));
+            assertEquals(5, Bech32Codec.decode(encoded.toUpperCase(), "tdm", variant, dst, 0));
+        }
+    }
+
+    @Test
+    public void testConvertBits() {
+        byte[] bytes = {(byte) 0xff, 0x00, 0x7f};
+        byte[] values = new byte[Bech32Codec.convertedLength(bytes.length, 8, 5, true)];
+        assertEquals(5, Bech32Codec.convertBits(bytes, 0, bytes.length, 8, 5, true, values, 0));
+        byte[] back = new byte[3];
+        assertEquals(3, Bech32Codec.convertBits(values, 0, values.length, 5, 8, false, back, 0));
+        assertArrayEquals(bytes, back);
+        assertArrayEquals(AccountIdentifier.convertBits(bytes, 8, 5, true), values);
+    }
+
+    @Test
+    public void testDecodeErrors() {
+        byte[] dst = new byte[Bech32Codec.MAX_LENGTH];
+        String valid = Bech32Codec.encode("dm", new byte[]{1, 2, 3}, 0, 3, Bech32Codec.Variant.BECH32);
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode("accountid", "dm", Bech32Codec.Variant.BECH32, dst, 0));
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode(valid, "tdm", Bech32Codec.Variant.BECH32, dst, 0));
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode(valid.substring(0, valid.length() - 1) + "q", "dm", Bech32Codec.Variant.BECH32, dst, 0));
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode("Dm1" + valid.substring(3), "dm", Bech32Codec.Variant.BECH32, dst, 0));
+        assertThrows(AddressFormatException.class,
+                () -> Bech32Codec.decode("dm1b" + valid.substring(4), "dm", Bech32Codec.Variant.BECH32, dst, 0));
+    }
+}
@@ -0,0 +1,172 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.jsonrpc.JsonRpc;
+import com.diem.types.GeneralMetadata;
+import com.diem.types.Metadata;
+import com.diem.types.RefundReason;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.Hex;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class DepositReconcilerTest {
+
+    private static final SubAddress CUSTOMER_SUB_ADDRESS = new SubAddress("8f8b82153010a1bd");
+    private static final SubAddress SENDER_SUB_ADDRESS = new SubAddress("111111153010a111");
+
+    @Test
+    public void creditKnownSubAddress() throws Exception {
+        DepositReconciler.Instruction instruction = reconcileOne(receivedPayment(7,
+                TransactionMetadata.createGeneralMetadataWithFromToSubAddresses(SENDER_SUB_ADDRESS, CUSTOMER_SUB_ADDRESS)));
+
+        assertEquals(DepositReconciler.Type.CREDIT, instruction.type);
+        assertEquals(42, instruction.customerId);
+        assertEquals(CUSTOMER_SUB_ADDRESS, instruction.subAddress);
+        assertTrue(instruction.metadata instanceof Metadata.GeneralMetadata);
+        assertNull(instruction.refund);
+        assertNull(instruction.reason);
+        assertEquals(1000, instruction.getAmount());
+        assertEquals("XUS", instruction.getCurrency());
+    }
+
+    @Test
+    public void refundUnknownSubAddress() throws Exception {
+        JsonRpc.Event event = receivedPayment(7,
+                TransactionMetadata.createGeneralMetadataWithFromToSubAddresses(SENDER_SUB_ADDRESS, SubAddress.valueOf(9)));
+        DepositReconciler.Instruction instruction = reconcileOne(event);
+
+        assertEquals(DepositReconciler.Type.REFUND, instruction.type);
+        assertEquals(DepositReconciler.Instruction.NO_CUSTOMER, instruction.customerId);
+        assertEquals(SubAddress.valueOf(9), instruction.subAddress);
+        assertEquals(Hex.encode(TransactionMetadata.createRefundMetadata(1007, new RefundReason.InvalidSubaddress()).getMetadata()),
+                Hex.encode(instruction.refund.getMetadata()));
+    }
+
+    @Test
+    public void refundReceived() throws Exception {
+        DepositReconciler.Instruction refund = reconcileOne(receivedPayment(1,
+                TransactionMetadata.createRefundMetadata(10, new RefundReason.InvalidSubaddress())));
+        assertEquals(DepositReconciler.Type.REFUND_RECEIVED, refund.type);
+        assertTrue(refund.metadata instanceof Metadata.RefundMetadata);
+
+        DepositReconciler.Instruction legacyRefund = reconcileOne(receivedPayment(2,
+                TransactionMetadata.createGeneralMetadata(Optional.empty(), Optional.empty(), Optional.of(5L))));
+        assertEquals(DepositReconciler.Type.REFUND_RECEIVED, legacyRefund.type);
+        assertTrue(((Metadata.GeneralMetadata) legacyRefund.metadata).value instanceof GeneralMetadata.GeneralMetadataVersion0);
+    }
+
+    @Test
+    public void unresolved() throws Exception {
+        assertUnresolved("missing metadata", event("receivedpayment", 1, ""));
+        assertUnresolved("missing to_subaddress", receivedPayment(1,
+                TransactionMetadata.createGeneralMetadataFromSubAddress(SENDER_SUB_ADDRESS)));
+        assertUnresolved("unsupported metadata: TravelRuleMetadata", receivedPayment(1,
+                TransactionMetadata.createTravelRuleMetadata("ref", AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b"), 1000)));
+        assertUnresolved("invalid metadata: hex length should be even, but given 3", event("receivedpayment", 1, "010"));
+        // trailing bytes after valid metadata
+        String metadata = Hex.encode(TransactionMetadata.createGeneralMetadataToSubAddress(CUSTOMER_SUB_ADDRESS).getMetadata());
+        assertUnresolved("invalid metadata: Some input bytes were not read", event("receivedpayment", 1, metadata + "00"));
+    }
+
+    @Test
+    public void skipOtherEvents() {
+        List<DepositReconciler.Instruction> ret = reconciler().reconcile(Arrays.asList(
+                event("sentpayment", 0, ""), event("receivedpayment", 1, ""), event("mint", 2, "")));
+        assertEquals(1, ret.size());
+        assertEquals(1, ret.get(0).index);
+    }
+
+    @Test
+    public void reconcileInParallel() throws Exception {
+        SubAddressIndex index = new SubAddressIndex(4);
+        List<JsonRpc.Event> events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            SubAddress subAddress = SubAddress.valueOf(i + 1);
+            if (i % 3 != 0) {
+                index.put(subAddress, i);
+            }
+            events.add(i % 5 == 0 ? event("sentpayment", i, "")
+                    : receivedPayment(i, TransactionMetadata.createGeneralMetadataToSubAddress(subAddress)));
+        }
+        assertEquals(666, index.size());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<DepositReconciler.Instruction> ret;
+        try {
+            ret = new DepositReconciler(index, pool, 7).reconcileAsync(events).get();
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(800, ret.size());
+        int last = -1;
+        for (DepositReconciler.Instruction instruction : ret) {
+            assertTrue(instruction.index > last);
+            last = instruction.index;
+            assertEquals(instruction.index, instruction.event.getSequenceNumber());
+            if (instruction.index % 3 == 0) {
+                assertEquals(DepositReconciler.Type.REFUND, instruction.type);
+            } else {
+                assertEquals(DepositReconciler.Type.CREDIT, instruction.type);
+                assertEquals(instruction.index, instruction.customerId);
+            }
+        }
+    }
+
+    @Test
+    public void subAddressIndex() {
+        SubAddressIndex index = new SubAddressIndex(1);
+        for (int i = 1; i <= 100; i++) {
+            index.put(SubAddress.valueOf(i), i * 10);
+        }
+        index.put(SubAddress.valueOf(1), 5);
+        assertEquals(100, index.size());
+        assertEquals(5, index.get(SubAddress.valueOf(1), -1));
+        assertEquals(1000, index.get(SubAddress.valueOf(100), -1));
+        assertEquals(-1, index.get(SubAddress.valueOf(101), -1));
+        assertEquals(-1, index.get(0, -1));
+        assertFalse(index.contains(SubAddress.valueOf(0)));
+        assertThrows(IllegalArgumentException.class, () -> index.put(SubAddress.valueOf(0), 1));
+        assertThrows(IllegalArgumentException.class, () -> index.put(SubAddress.valueOf(2), -1));
+    }
+
+    private static void assertUnresolved(String reason, JsonRpc.Event event) {
+        DepositReconciler.Instruction instruction = reconcileOne(event);
+        assertEquals(DepositReconciler.Type.UNRESOLVED, instruction.type);
+        assertEquals(reason, instruction.reason);
+        assertEquals(DepositReconciler.Instruction.NO_CUSTOMER, instruction.customerId);
+    }
+
+    private static DepositReconciler.Instruction reconcileOne(JsonRpc.Event event) {
+        List<DepositReconciler.Instruction> ret = reconciler().reconcile(Collections.singletonList(event));
+        assertEquals(1, ret.size());
+        return ret.get(0);
+    }
+
+    private static DepositReconciler reconciler() {
+        SubAddressIndex index = new SubAddressIndex();
+        index.put(CUSTOMER_SUB_ADDRESS, 42);
+        return new DepositReconciler(index);
+    }
+
+    private static JsonRpc.Event receivedPayment(long sequenceNumber, TransactionMetadata metadata) {
+        return event("receivedpayment", sequenceNumber, Hex.encode(metadata.getMetadata()));
+    }
+
+    private static JsonRpc.Event event(String type, long sequenceNumber, String metadata) {
+        return JsonRpc.Event.newBuilder().setSequenceNumber(sequenceNumber).setTransactionVersion(sequenceNumber + 1000).setData(JsonRpc.EventData.newBuilder()
+                .setType(type)
+                .setAmount(JsonRpc.Amount.newBuilder().setAmount(1000).setCurrency("XUS"))
+                .setMetadata(metadata)).build();
+    }
+}
@@ -0,0 +1,96 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.RawTransaction;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import org.bouncycastle.crypto.params.Ed25519PrivateKeyParameters;
+import org.bouncycastle.crypto.signers.Ed25519Signer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class Ed25519ProviderTest {
+
+    private static final String PRIVATE_KEY = "b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f";
+    private static final String RAW_TXN = "44634381fab71b7d6fa411108eda3e9d0000000000000000018f01a11ceb0b010000000501000203020a050c0d07193d08561000000001000100000200010002060c0a020003060c0a020a020f4475616c4174746573746174696f6e0f726f746174655f626173655f75726c1c726f746174655f636f6d706c69616e63655f7075626c69635f6b657900000000000000000000000000000001000201070a000b0111000b000b021101020002040e687474703a2f2f6261736575726c04208416d1c943bb13dd7dfa74b49c0d4bd8b57de4f2b51a2c3591faee18a824daf240420f0000000000000000000000000003585553e71fd05f0000000004";
+    private static final String SIGNATURE = "23876D05763738C69D28A07B8B552FC2947E1D99817B7FC4212F5652DD2DC99558C0EC5DDFF98B6C0EB4ECF223F919B5AA4BE0384A477FDB9D3F941D53FA7203";
+
+    @Test
+    public void testSignAndVerify() throws Exception {
+        byte[] message = HashUtils.signatureMessage(RawTransaction.bcsDeserialize(Hex.decode(RAW_TXN)));
+        byte[] expectedPublicKey = new Ed25519PrivateKeyParameters(Hex.decode(PRIVATE_KEY), 0).generatePublicKey().getEncoded();
+
+        for (Ed25519Provider provider : providers()) {
+            Ed25519PrivateKey key = new Ed25519PrivateKey(PRIVATE_KEY, provider);
+            assertArrayEquals(provider.name(), expectedPublicKey, key.publicKey());
+
+            byte[] signature = key.sign(message);
+            assertEquals(provider.name(), SIGNATURE, Hex.encode(signature));
+            // signing again with the same key material gives the same deterministic signature
+            assertArrayEquals(provider.name(), signature, key.sign(message));
+
+            assertTrue(provider.name(), provider.verify(expectedPublicKey, message, signature));
+            byte[] packed = new byte[message.length + 3];
+            System.arraycopy(message, 0, packed, 2, message.length);
+            assertTrue(provider.name(), provider.verify(expectedPublicKey, packed, 2, message.length, signature));
+            assertFalse(provider.name(), provider.verify(expectedPublicKey, packed, 1, message.length, signature));
+            signature[0] ^= 1;
+            assertFalse(provider.name(), provider.verify(expectedPublicKey, message, signature));
+            assertFalse(provider.name(), provider.verify(expectedPublicKey, message, new byte[10]));
+            assertFalse(provider.name(), provider.verify(new byte[31], message, new byte[64]));
+        }
+    }
+
+    @Test
+    public void testProvidersMatchEd25519Signer() {
+        Ed25519PrivateKeyParameters params = new Ed25519PrivateKeyParameters(Hex.decode(PRIVATE_KEY), 0);
+        byte[] message = "hello".getBytes();
+        Ed25519Signer signer = new Ed25519Signer();
+        signer.init(true, params);
+        signer.update(message, 0, message.length);
+        byte[] expected = signer.generateSignature();
+
+        assertArrayEquals(expected, new Ed25519PrivateKey(params).sign(message));
+        for (Ed25519Provider provider : providers()) {
+            assertArrayEquals(provider.name(), expected, provider.loadKey(params.getEncoded()).sign(message));
+        }
+    }
+
+    @Test
+    public void testForName() {
+        assertSame(BouncyCastleEd25519Provider.INSTANCE, Ed25519Provider.forName("bouncycastle"));
+        assertSame(BouncyCastleEd25519Provider.INSTANCE, Ed25519Provider.defaultProvider());
+        if (JdkEd25519Provider.isAvailable()) {
+            assertSame(JdkEd25519Provider.INSTANCE, Ed25519Provider.forName("jdk"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForUnknownName() {
+        Ed25519Provider.forName("unknown");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPrivateKeySize() {
+        Ed25519Provider.defaultProvider().loadKey(new byte[31]);
+    }
+
+    private static List<Ed25519Provider> providers() {
+        List<Ed25519Provider> ret = new ArrayList<>();
+        ret.add(BouncyCastleEd25519Provider.INSTANCE);
+        if (JdkEd25519Provider.isAvailable()) {
+            ret.add(JdkEd25519Provider.INSTANCE);
+        }
+        return ret;
+    }
+}
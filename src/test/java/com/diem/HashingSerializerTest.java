@@ -0,0 +1,109 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.Metadata;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.types.TravelRuleMetadata;
+import com.diem.types.TravelRuleMetadataV0;
+import com.diem.utils.HashUtils;
+import com.diem.utils.HashingSerializer;
+import com.diem.utils.Hex;
+import com.novi.bcs.BcsSerializer;
+import com.novi.serde.Bytes;
+import com.novi.serde.Serializer;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HashingSerializerTest {
+
+    private static final RawTransaction RAW = TestTransactions.rawTransaction(42L, 1000000L, new byte[]{1, 2, 3});
+
+    @Test
+    public void testTransactionHash() throws Exception {
+        SignedTransaction txn = Signer.sign(TestTransactions.KEY, RAW);
+        byte[] bytes = new Transaction.UserTransaction(txn).bcsSerialize();
+        String expected = Hex.encode(HashUtils.hash(HashUtils.hashPrefix("Transaction"), bytes));
+
+        // the seeded digest state is copied, hashing twice gives the same result
+        assertEquals(expected, HashUtils.transactionHash(txn));
+        assertEquals(expected, HashUtils.transactionHash(txn));
+        assertEquals(expected, HashUtils.transactionHash(txn.bcsSerialize()));
+
+        HashingSerializer serializer = HashingSerializer.transaction();
+        new Transaction.UserTransaction(txn).serialize(serializer);
+        assertEquals(bytes.length, serializer.get_buffer_offset());
+        assertEquals(expected, Hex.encode(serializer.digest()));
+    }
+
+    @Test
+    public void testRawTransactionHash() throws Exception {
+        HashingSerializer serializer = HashingSerializer.rawTransaction();
+        RAW.serialize(serializer);
+        assertArrayEquals(HashUtils.sha3Hash(HashUtils.signatureMessage(RAW)), serializer.digest());
+    }
+
+    @Test
+    public void testHashWithoutPrefix() throws Exception {
+        Metadata metadata = new Metadata.TravelRuleMetadata(new TravelRuleMetadata.TravelRuleMetadataVersion0(
+                new TravelRuleMetadataV0(Optional.of("r\u00e9f\u20ac\ud83d\ude00"))));
+        HashingSerializer serializer = new HashingSerializer();
+        metadata.serialize(serializer);
+        assertArrayEquals(HashUtils.sha3Hash(metadata.bcsSerialize()), serializer.digest());
+
+        HashingSerializer prefixed = HashingSerializer.withPrefix(HashUtils.hashPrefix("Metadata"));
+        metadata.serialize(prefixed);
+        assertArrayEquals(HashUtils.hash(HashUtils.hashPrefix("Metadata"), metadata.bcsSerialize()), prefixed.digest());
+    }
+
+    @Test
+    public void testUnpairedSurrogate() throws Exception {
+        Metadata metadata = new Metadata.TravelRuleMetadata(new TravelRuleMetadata.TravelRuleMetadataVersion0(
+                new TravelRuleMetadataV0(Optional.of("a\ud800"))));
+        HashingSerializer serializer = new HashingSerializer();
+        metadata.serialize(serializer);
+        assertArrayEquals(HashUtils.sha3Hash(Hex.decode("02000102613F")), serializer.digest());
+    }
+
+    @Test
+    public void testSortMapEntries() throws Exception {
+        BcsSerializer expected = new BcsSerializer();
+        serializeMaps(expected);
+        HashingSerializer serializer = new HashingSerializer();
+        serializeMaps(serializer);
+        assertEquals(expected.get_bytes().length, serializer.get_buffer_offset());
+        assertArrayEquals(HashUtils.sha3Hash(expected.get_bytes()), serializer.digest());
+    }
+
+    // a value before, a map of maps with entries larger than the serializer buffer, and a value after
+    private static void serializeMaps(Serializer serializer) throws Exception {
+        serializer.serialize_str("prefix");
+        String[] keys = {"c", "a", "bb", "b"};
+        serializer.serialize_len(keys.length);
+        int[] offsets = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            offsets[i] = serializer.get_buffer_offset();
+            serializer.serialize_str(keys[i]);
+            serializer.serialize_len(2);
+            int[] inner = new int[2];
+            for (int j = 0; j < 2; j++) {
+                inner[j] = serializer.get_buffer_offset();
+                serializer.serialize_u64(1 - j);
+                byte[] value = new byte[100 * (i + 1)];
+                Arrays.fill(value, (byte) i);
+                serializer.serialize_bytes(new Bytes(value));
+            }
+            serializer.sort_map_entries(inner);
+        }
+        serializer.sort_map_entries(offsets);
+        serializer.serialize_str("suffix");
+    }
+}
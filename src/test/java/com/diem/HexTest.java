@@ -0,0 +1,81 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.utils.Hex;
+import com.novi.serde.Bytes;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class HexTest {
+
+    private static final byte[] BYTES = {0, 1, 0x7f, (byte) 0x80, (byte) 0xab, (byte) 0xff};
+
+    @Test
+    public void testEncode() {
+        assertEquals("00017F80ABFF", Hex.encode(BYTES));
+        assertEquals("00017f80abff", Hex.encodeLowerCase(BYTES));
+        assertEquals("00017F80ABFF", Hex.encode(new Bytes(BYTES)));
+        assertEquals("00017F80ABFF", Hex.encode(Arrays.asList((byte) 0, (byte) 1, (byte) 0x7f, (byte) 0x80, (byte) 0xab, (byte) 0xff)));
+        assertEquals("", Hex.encode(new byte[0]));
+    }
+
+    @Test
+    public void testEncodeInto() throws Exception {
+        char[] chars = new char[10];
+        Hex.encode(BYTES, 2, 3, chars, 2, true);
+        assertEquals("\u0000\u00007f80ab\u0000\u0000", new String(chars));
+
+        byte[] ascii = new byte[6];
+        Hex.encode(BYTES, 3, 3, ascii, 0, false);
+        assertEquals("80ABFF", new String(ascii, StandardCharsets.US_ASCII));
+
+        StringBuilder sb = new StringBuilder("0x");
+        Hex.encode(BYTES, 0, BYTES.length, sb, true);
+        assertEquals("0x00017f80abff", sb.toString());
+
+        StringWriter writer = new StringWriter();
+        writer.write("{\"bytes\":");
+        Hex.appendJsonString(BYTES, writer);
+        writer.write("}");
+        assertEquals("{\"bytes\":\"00017f80abff\"}", writer.toString());
+    }
+
+    @Test
+    public void testDecode() {
+        assertArrayEquals(BYTES, Hex.decode("00017F80ABFF"));
+        assertArrayEquals(BYTES, Hex.decode("00017f80abff"));
+        assertArrayEquals(BYTES, Hex.decode("00017f80ABff"));
+        assertArrayEquals(BYTES, Hex.decode(new StringBuilder("00017f80abff")));
+        assertArrayEquals(new byte[0], Hex.decode(""));
+        assertArrayEquals(new byte[]{(byte) 0x80, (byte) 0xab}, Hex.decode("0x80ab", 2, 6));
+
+        byte[] ascii = "\"7f80\"".getBytes(StandardCharsets.US_ASCII);
+        assertArrayEquals(new byte[]{0x7f, (byte) 0x80}, Hex.decode(ascii, 1, 4));
+        byte[] dst = new byte[4];
+        assertEquals(2, Hex.decode(ascii, 1, 4, dst, 1));
+        assertArrayEquals(new byte[]{0, 0x7f, (byte) 0x80, 0}, dst);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeOddLength() {
+        Hex.decode("abc");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeInvalidCharacter() {
+        Hex.decode("0g");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeNonAsciiCharacter() {
+        Hex.decode("0\u00e9");
+    }
+}
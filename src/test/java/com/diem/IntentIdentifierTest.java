@@ -63,4 +63,27 @@ public class IntentIdentifierTest {
             IntentIdentifier.decode(AccountIdentifier.NetworkPrefix.MainnetPrefix, "diem://accountid");
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    public void decodeToIntent_currencyOnly() {
+        IntentIdentifier intentIdentifier = new IntentIdentifier(accountIdentifier, "XUS", 0);
+        String intentEncoded = intentIdentifier.encode();
+        assertEquals(String.format("diem://%s?c=XUS", encodedAccount), intentEncoded);
+        assertEquals(intentIdentifier, IntentIdentifier.decode(AccountIdentifier.NetworkPrefix.MainnetPrefix, intentEncoded));
+    }
+
+    @Test
+    public void decodeToIntent_encodedParamsAndFragment() {
+        IntentIdentifier decoded = IntentIdentifier.decode(AccountIdentifier.NetworkPrefix.MainnetPrefix,
+                String.format("diem://%s?x=1&c=X%%20Y&am=12#fragment", encodedAccount));
+        assertEquals(new IntentIdentifier(accountIdentifier, "X Y", 12), decoded);
+        assertEquals(String.format("diem://%s?am=12&c=X+Y", encodedAccount), decoded.encode());
+    }
+
+    @Test
+    public void decodeToIntent_invalidAmount() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            IntentIdentifier.decode(AccountIdentifier.NetworkPrefix.MainnetPrefix, String.format("diem://%s?am=abc", encodedAccount));
+        });
+    }
+}
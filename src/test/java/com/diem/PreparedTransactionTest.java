@@ -0,0 +1,44 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class PreparedTransactionTest {
+
+    private static final RawTransaction RAW = TestTransactions.rawTransaction(42L, 1000000L, new byte[]{1, 2, 3});
+
+    @Test
+    public void testPrepareIsSameAsSign() throws Exception {
+        SignedTransaction signed = Signer.sign(TestTransactions.KEY, RAW);
+        PreparedTransaction prepared = Signer.prepare(TestTransactions.KEY, RAW);
+
+        assertEquals(signed, prepared.getTransaction());
+        assertArrayEquals(signed.bcsSerialize(), prepared.getBytes().content());
+        assertEquals(Hex.encode(signed.bcsSerialize()), prepared.getHex());
+        assertEquals(HashUtils.transactionHash(signed), prepared.getHash());
+        assertEquals(RAW.sender, prepared.getSender());
+        assertEquals(RAW.sequence_number, prepared.getSequenceNumber());
+        assertEquals(RAW.expiration_timestamp_secs, prepared.getExpirationTimestampSecs());
+        assertEquals(PreparedTransaction.of(signed), prepared);
+    }
+
+    @Test
+    public void testFromHex() throws Exception {
+        PreparedTransaction prepared = Signer.prepare(TestTransactions.KEY, RAW);
+        String hex = prepared.getHex().toLowerCase();
+        PreparedTransaction decoded = PreparedTransaction.fromHex(hex);
+
+        assertEquals(prepared.getTransaction(), decoded.getTransaction());
+        assertEquals(hex, decoded.getHex());
+        assertEquals(prepared.getHash(), decoded.getHash());
+    }
+}
@@ -0,0 +1,154 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.Ed25519PublicKey;
+import com.diem.types.MultiEd25519PublicKey;
+import com.diem.types.MultiEd25519Signature;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.TransactionAuthenticator;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.HashUtils;
+import com.novi.serde.BufferAllocator;
+import com.novi.serde.BufferPool;
+import com.novi.serde.Bytes;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SignatureVerifierTest {
+
+    private static final Ed25519PrivateKey[] KEYS = {
+            new Ed25519PrivateKey("b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f"),
+            new Ed25519PrivateKey("76e3de861d516283dc285e12ddadc95245a9e98f351c910b0ad722f790bac273"),
+            new Ed25519PrivateKey("a4b1a2da9c1f4bd2f8b4b24e5a1b2e3a84e20bbf4df8d3c4f7e8b9a0c1d2e3f4"),
+    };
+
+    @Test
+    public void testVerifyEd25519() {
+        SignedTransaction txn = Signer.sign(KEYS[0], TestTransactions.rawTransaction(0));
+        assertTrue(SignatureVerifier.verify(txn));
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(TestTransactions.rawTransaction(1), txn.authenticator)));
+
+        TransactionAuthenticator.Ed25519 wrongKey = new TransactionAuthenticator.Ed25519(
+                new Ed25519PublicKey(new Bytes(KEYS[1].publicKey())),
+                ((TransactionAuthenticator.Ed25519) txn.authenticator).signature);
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(txn.raw_txn, wrongKey)));
+    }
+
+    @Test
+    public void testVerifyMultiEd25519() {
+        RawTransaction raw = TestTransactions.rawTransaction(0);
+        byte[] message = HashUtils.signatureMessage(raw);
+        // 2 of 3, signed by the keys 0 and 2
+        byte[] publicKey = multiPublicKey(2);
+        byte[] signature = concat(KEYS[0].sign(message), KEYS[2].sign(message), new byte[]{(byte) 0xa0, 0, 0, 0});
+        assertTrue(SignatureVerifier.verify(new SignedTransaction(raw, multi(publicKey, signature))));
+
+        // signatures not in the bitmap order
+        byte[] swapped = concat(KEYS[2].sign(message), KEYS[0].sign(message), new byte[]{(byte) 0xa0, 0, 0, 0});
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(raw, multi(publicKey, swapped))));
+        // below threshold
+        byte[] one = concat(KEYS[0].sign(message), new byte[]{(byte) 0x80, 0, 0, 0});
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(raw, multi(publicKey, one))));
+        // bitmap refers to a key out of range
+        byte[] outOfRange = concat(KEYS[0].sign(message), KEYS[2].sign(message), new byte[]{(byte) 0x90, 0, 0, 0});
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(raw, multi(publicKey, outOfRange))));
+        // malformed public key
+        byte[] malformed = Arrays.copyOf(publicKey, publicKey.length - 2);
+        assertFalse(SignatureVerifier.verify(new SignedTransaction(raw, multi(malformed, signature))));
+    }
+
+    @Test
+    public void testVerifyBatchLocatesFailures() {
+        List<SignedTransaction> txns = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            SignedTransaction txn = Signer.sign(KEYS[i % KEYS.length], TestTransactions.rawTransaction(i));
+            if (i % 97 == 3) {
+                txn = new SignedTransaction(TestTransactions.rawTransaction(i + 1), txn.authenticator);
+            }
+            txns.add(txn);
+        }
+
+        boolean[] results;
+        try (SignatureVerifier verifier = new SignatureVerifier(4)) {
+            results = verifier.verify(txns);
+        }
+        assertEquals(Arrays.asList(3, 100, 197, 294), SignatureVerifier.failures(results));
+    }
+
+    @Test
+    public void testVerifyMetadataSignatures() {
+        List<byte[]> publicKeys = new ArrayList<>();
+        List<byte[]> messages = new ArrayList<>();
+        List<byte[]> signatures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            byte[] message = TransactionMetadata.createTravelRuleMetadata(
+                    "ref-" + i, AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b"), 1000L + i)
+                    .getSignatureMessage();
+            publicKeys.add(KEYS[i % KEYS.length].publicKey());
+            messages.add(message);
+            signatures.add(KEYS[(i == 5 ? 1 : i) % KEYS.length].sign(message));
+        }
+        assertTrue(SignatureVerifier.verifyMetadataSignature(publicKeys.get(0), messages.get(0), signatures.get(0)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            SignatureVerifier verifier = new SignatureVerifier(Ed25519Provider.defaultProvider(), executor, 3);
+            boolean[] results = verifier.verifyMetadataSignatures(publicKeys, messages, signatures);
+            assertEquals(Arrays.asList(5), SignatureVerifier.failures(results));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testVerifyTravelRuleMessages() {
+        for (BufferAllocator allocator : new BufferAllocator[]{BufferAllocator.HEAP, new BufferPool(true, 2)}) {
+            List<byte[]> signatures = new ArrayList<>();
+            try (TravelRuleMessages messages = new TravelRuleMessages(allocator);
+                 SignatureVerifier verifier = new SignatureVerifier(2)) {
+                for (int i = 0; i < 100; i++) {
+                    int index = messages.add("ref-" + i, AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b"), i);
+                    byte[] message = messages.transactionMetadata(index).getSignatureMessage();
+                    signatures.add(KEYS[i == 42 ? 1 : 0].sign(message));
+                }
+                boolean[] results = verifier.verifyMetadataSignatures(messages, KEYS[0].publicKey(), signatures);
+                assertEquals(Arrays.asList(42), SignatureVerifier.failures(results));
+            }
+        }
+    }
+
+    private static TransactionAuthenticator multi(byte[] publicKey, byte[] signature) {
+        return new TransactionAuthenticator.MultiEd25519(
+                new MultiEd25519PublicKey(new Bytes(publicKey)), new MultiEd25519Signature(new Bytes(signature)));
+    }
+
+    private static byte[] multiPublicKey(int threshold) {
+        byte[][] parts = new byte[KEYS.length + 1][];
+        for (int i = 0; i < KEYS.length; i++) {
+            parts[i] = KEYS[i].publicKey();
+        }
+        parts[KEYS.length] = new byte[]{(byte) threshold};
+        return concat(parts);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccessPath;
+import com.diem.types.AccountAddress;
+import com.diem.types.ChangeSet;
+import com.diem.types.ContractEvent;
+import com.diem.types.ContractEventV0;
+import com.diem.types.EventKey;
+import com.diem.types.Module;
+import com.diem.types.RawTransaction;
+import com.diem.types.Script;
+import com.diem.types.SignedTransaction;
+import com.diem.types.TransactionArgument;
+import com.diem.types.TransactionPayload;
+import com.diem.types.TypeTag;
+import com.diem.types.WriteOp;
+import com.diem.types.WriteSet;
+import com.diem.types.WriteSetMut;
+import com.diem.types.WriteSetPayload;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.Hex;
+import com.novi.serde.Bytes;
+import com.novi.serde.Tuple2;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class SignedTransactionViewTest {
+
+    @Test
+    public void testScriptTransaction() throws Exception {
+        String rawTxnHex = "44634381fab71b7d6fa411108eda3e9d0000000000000000018f01a11ceb0b010000000501000203020a050c0d07193d08561000000001000100000200010002060c0a020003060c0a020a020f4475616c4174746573746174696f6e0f726f746174655f626173655f75726c1c726f746174655f636f6d706c69616e63655f7075626c69635f6b657900000000000000000000000000000001000201070a000b0111000b000b021101020002040e687474703a2f2f6261736575726c04208416d1c943bb13dd7dfa74b49c0d4bd8b57de4f2b51a2c3591faee18a824daf240420f0000000000000000000000000003585553e71fd05f0000000004";
+        RawTransaction raw = RawTransaction.bcsDeserialize(Hex.decode(rawTxnHex));
+        assertView(Signer.sign(TestTransactions.KEY, raw), 1);
+    }
+
+    @Test
+    public void testScriptFunctionTransaction() throws Exception {
+        RawTransaction raw = TestTransactions.rawTransaction(42L, 1000000L, new byte[]{1, 2, 3});
+        assertView(Signer.sign(TestTransactions.KEY, raw), 3);
+    }
+
+    @Test
+    public void testWriteSetTransaction() throws Exception {
+        AccountAddress address = AccountAddressUtils.create("44634381fab71b7d6fa411108eda3e9d");
+        ChangeSet changeSet = new ChangeSet(
+                new WriteSet(new WriteSetMut(Arrays.asList(
+                        new Tuple2<>(new AccessPath(address, new Bytes(new byte[]{0, 1, 2})),
+                                new WriteOp.Value(new Bytes(new byte[]{4, 5, 6, 7}))),
+                        new Tuple2<>(new AccessPath(address, new Bytes(new byte[]{1, 9})), new WriteOp.Deletion())))),
+                Collections.singletonList(new ContractEvent.V0(new ContractEventV0(
+                        new EventKey(new Bytes(new byte[24])), 3L, new TypeTag.U64(), new Bytes(new byte[]{8})))));
+        assertView(Signer.sign(TestTransactions.KEY, TestTransactions.rawTransaction(42L,
+                new TransactionPayload.WriteSet(new WriteSetPayload.Direct(changeSet)))), 0);
+
+        assertView(Signer.sign(TestTransactions.KEY, TestTransactions.rawTransaction(42L,
+                new TransactionPayload.WriteSet(new WriteSetPayload.Script(address, new Script(new Bytes(new byte[]{1, 2, 3}),
+                        Collections.singletonList(new TypeTag.Bool()),
+                        Collections.singletonList(new TransactionArgument.U64(7L))))))), 0);
+    }
+
+    @Test
+    public void testModuleTransaction() throws Exception {
+        byte[] code = new byte[300];
+        Arrays.fill(code, (byte) 0xa1);
+        assertView(Signer.sign(TestTransactions.KEY, TestTransactions.rawTransaction(42L,
+                new TransactionPayload.Module(new Module(new Bytes(code))))), 2);
+    }
+
+    private static void assertView(SignedTransaction txn, int payloadVariantIndex) throws Exception {
+        byte[] bytes = txn.bcsSerialize();
+        // wrap with surrounding bytes to check offsets are honored
+        byte[] padded = new byte[bytes.length + 3];
+        System.arraycopy(bytes, 0, padded, 1, bytes.length);
+        SignedTransactionView view = new SignedTransactionView(padded, 1, bytes.length);
+
+        SignedTransaction decoded = SignedTransaction.bcsDeserialize(bytes);
+        assertEquals(txn, decoded);
+        RawTransaction raw = decoded.raw_txn;
+        assertEquals(raw.sender, view.getSender());
+        assertEquals(raw.sequence_number, view.getSequenceNumber());
+        assertEquals(payloadVariantIndex, view.getPayloadVariantIndex());
+        assertEquals(raw.max_gas_amount, view.getMaxGasAmount());
+        assertEquals(raw.gas_unit_price, view.getGasUnitPrice());
+        assertEquals(raw.gas_currency_code, view.getGasCurrencyCode());
+        assertEquals(raw.expiration_timestamp_secs, view.getExpirationTimestampSecs());
+        assertEquals(raw.chain_id, view.getChainId());
+        assertEquals(raw.payload, view.getPayload());
+        assertEquals(decoded.authenticator, view.getAuthenticator());
+        assertArrayEquals(raw.bcsSerialize(), view.getRawTransactionBytes());
+        assertEquals(decoded, view.toSignedTransaction());
+    }
+}
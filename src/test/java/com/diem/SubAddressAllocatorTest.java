@@ -0,0 +1,176 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongConsumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class SubAddressAllocatorTest {
+
+    @Test
+    public void testAllocateUniqueAcrossThreads() throws Exception {
+        SubAddressAllocator allocator = new SubAddressAllocator();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<long[]>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> {
+                    long[] values = new long[5000];
+                    allocator.allocate(values, 0, values.length);
+                    return values;
+                });
+            }
+            Set<Long> all = new HashSet<>();
+            for (Future<long[]> future : executor.invokeAll(tasks)) {
+                for (long value : future.get()) {
+                    assertNotEquals(0L, value);
+                    assertTrue(all.add(value));
+                    assertTrue(allocator.contains(SubAddress.valueOf(value)));
+                }
+            }
+            assertEquals(40000L, allocator.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRegister() {
+        SubAddressAllocator allocator = new SubAddressAllocator();
+        SubAddress subAddress = new SubAddress("cf64428bdeb62af2");
+        assertFalse(allocator.contains(subAddress));
+        assertTrue(allocator.register(subAddress));
+        assertFalse(allocator.register(subAddress));
+        assertTrue(allocator.contains(subAddress));
+        // the empty sub-address is never used
+        assertFalse(allocator.register(new SubAddress(new byte[SubAddress.SUB_ADDRESS_LENGTH])));
+    }
+
+    @Test
+    public void testAllocateBlock() {
+        SubAddressAllocator allocator = new SubAddressAllocator();
+        byte[] block = allocator.allocateBlock(10);
+        assertEquals(10 * SubAddress.SUB_ADDRESS_LENGTH, block.length);
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        for (int i = 0; i < 10; i++) {
+            long value = buffer.getLong();
+            assertTrue(allocator.contains(SubAddress.valueOf(value)));
+            assertEquals(value, SubAddress.valueOf(value).toLong());
+        }
+        assertEquals(0, allocator.allocateBlock(0).length);
+    }
+
+    @Test
+    public void testFileStore() throws Exception {
+        Path path = Files.createTempFile("sub-addresses", ".bin");
+        try {
+            byte[] block;
+            SubAddress single;
+            try (SubAddressAllocator allocator = new SubAddressAllocator(new SubAddressAllocator.FileStore(path, false))) {
+                block = allocator.allocateBlock(3000);
+                single = allocator.allocate();
+            }
+            assertEquals(3001L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+
+            try (SubAddressAllocator allocator = new SubAddressAllocator(new SubAddressAllocator.FileStore(path))) {
+                assertEquals(3001L, allocator.size());
+                assertTrue(allocator.contains(single));
+                ByteBuffer buffer = ByteBuffer.wrap(block);
+                while (buffer.hasRemaining()) {
+                    assertFalse(allocator.register(SubAddress.valueOf(buffer.getLong())));
+                }
+                allocator.allocate();
+            }
+            assertEquals(3002L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testPreGeneratedBlocks() throws Exception {
+        Path path = Files.createTempFile("sub-addresses", ".bin");
+        try {
+            Set<SubAddress> all = new HashSet<>();
+            try (SubAddressAllocator allocator = new SubAddressAllocator(new SubAddressAllocator.FileStore(path, false), 100)) {
+                assertTrue(all.add(allocator.allocate()));
+                // one block is generated and stored at once
+                assertEquals(100L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+                assertEquals(100L, allocator.size());
+                for (int i = 0; i < 99; i++) {
+                    assertTrue(all.add(allocator.allocate()));
+                }
+                assertEquals(100L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+
+                // the rest of the request after the block is used up comes from the next block
+                ByteBuffer block = ByteBuffer.wrap(allocator.allocateBlock(50));
+                while (block.hasRemaining()) {
+                    assertTrue(all.add(SubAddress.valueOf(block.getLong())));
+                }
+                assertEquals(200L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+
+                // requests larger than a block are generated directly
+                block = ByteBuffer.wrap(allocator.allocateBlock(300));
+                while (block.hasRemaining()) {
+                    assertTrue(all.add(SubAddress.valueOf(block.getLong())));
+                }
+                assertEquals(450L * SubAddress.SUB_ADDRESS_LENGTH, Files.size(path));
+            }
+
+            try (SubAddressAllocator allocator = new SubAddressAllocator(new SubAddressAllocator.FileStore(path), 100)) {
+                assertEquals(450L, allocator.size());
+                for (SubAddress subAddress : all) {
+                    assertTrue(allocator.contains(subAddress));
+                }
+                assertFalse(all.contains(allocator.allocate()));
+            }
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testStoreClosedWhenLoadFails() {
+        AtomicBoolean closed = new AtomicBoolean();
+        SubAddressAllocator.Store store = new SubAddressAllocator.Store() {
+            @Override
+            public void load(LongConsumer consumer) throws IOException {
+                consumer.accept(1L);
+                throw new IOException("corrupted");
+            }
+
+            @Override
+            public void append(long[] subAddresses, int offset, int length) {
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        IOException e = assertThrows(IOException.class, () -> new SubAddressAllocator(store));
+        assertEquals("corrupted", e.getMessage());
+        assertTrue(closed.get());
+    }
+}
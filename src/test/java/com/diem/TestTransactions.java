@@ -0,0 +1,50 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.stdlib.Helpers;
+import com.diem.types.AccountAddress;
+import com.diem.types.ChainId;
+import com.diem.types.RawTransaction;
+import com.diem.types.TransactionPayload;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.CurrencyCode;
+import com.novi.serde.Bytes;
+
+/**
+ * Transactions and key shared by unit tests, they are not submitted to any network.
+ */
+public final class TestTransactions {
+
+    public static final Ed25519PrivateKey KEY = new Ed25519PrivateKey("b2f7f581d6de3c06a822fd6e7e8265fbc00f8401696a5bdc34f5a6d2ff3f922f");
+    public static final AccountAddress SENDER = AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b");
+    public static final AccountAddress RECEIVER = AccountAddressUtils.create("44634381fab71b7d6fa411108eda3e9d");
+    public static final long EXPIRATION_TIMESTAMP_SECS = 1611792876L;
+    public static final ChainId CHAIN_ID = new ChainId((byte) 2);
+
+    private TestTransactions() {
+    }
+
+    /**
+     * @return peer to peer transaction of 1 XUS from SENDER to RECEIVER without metadata.
+     */
+    public static RawTransaction rawTransaction(long sequenceNumber) {
+        return rawTransaction(sequenceNumber, 1000000L, new byte[0]);
+    }
+
+    /**
+     * @return peer to peer transaction of the amount of XUS from SENDER to RECEIVER with the metadata.
+     */
+    public static RawTransaction rawTransaction(long sequenceNumber, long amount, byte[] metadata) {
+        return rawTransaction(sequenceNumber, Helpers.encode_peer_to_peer_with_metadata_script_function(
+                CurrencyCode.typeTag("XUS"), RECEIVER, amount, new Bytes(metadata), new Bytes(new byte[0])));
+    }
+
+    /**
+     * @return transaction of SENDER with the payload, paying gas in XUS.
+     */
+    public static RawTransaction rawTransaction(long sequenceNumber, TransactionPayload payload) {
+        return new RawTransaction(SENDER, sequenceNumber, payload, 1000000L, 0L, "XUS", EXPIRATION_TIMESTAMP_SECS, CHAIN_ID);
+    }
+}
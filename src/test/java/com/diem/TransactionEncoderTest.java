@@ -0,0 +1,77 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.stdlib.Helpers;
+import com.diem.types.Metadata;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.types.TransactionPayload;
+import com.diem.types.TravelRuleMetadata;
+import com.diem.types.TravelRuleMetadataV0;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.CurrencyCode;
+import com.diem.utils.Hex;
+import com.diem.utils.TransactionEncoder;
+import com.novi.serde.Bytes;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TransactionEncoderTest {
+
+    @Test
+    public void testScriptFunctionTransaction() throws Exception {
+        RawTransaction raw = TestTransactions.rawTransaction(42L, 1000000L, new byte[]{1, 2, 3});
+        assertEncoded(Signer.sign(TestTransactions.KEY, raw));
+        assertArrayEquals(raw.payload.bcsSerialize(), TransactionEncoder.encode((TransactionPayload.ScriptFunction) raw.payload));
+    }
+
+    @Test
+    public void testScriptTransaction() throws Exception {
+        String rawTxnHex = "44634381fab71b7d6fa411108eda3e9d0000000000000000018f01a11ceb0b010000000501000203020a050c0d07193d08561000000001000100000200010002060c0a020003060c0a020a020f4475616c4174746573746174696f6e0f726f746174655f626173655f75726c1c726f746174655f636f6d706c69616e63655f7075626c69635f6b657900000000000000000000000000000001000201070a000b0111000b000b021101020002040e687474703a2f2f6261736575726c04208416d1c943bb13dd7dfa74b49c0d4bd8b57de4f2b51a2c3591faee18a824daf240420f0000000000000000000000000003585553e71fd05f0000000004";
+        RawTransaction raw = RawTransaction.bcsDeserialize(Hex.decode(rawTxnHex));
+        assertEncoded(Signer.sign(TestTransactions.KEY, raw));
+    }
+
+    @Test
+    public void testSerializedSizeOfNonAsciiString() throws Exception {
+        Metadata metadata = new Metadata.TravelRuleMetadata(new TravelRuleMetadata.TravelRuleMetadataVersion0(
+                new TravelRuleMetadataV0(Optional.of("r\u00e9f\u20ac\ud83d\ude00"))));
+        assertEquals(metadata.bcsSerialize().length, metadata.serializedSize());
+        assertEquals(metadata, Metadata.bcsDeserialize(metadata.bcsSerialize()));
+    }
+
+    @Test
+    public void testUnpairedSurrogate() throws Exception {
+        Metadata metadata = new Metadata.TravelRuleMetadata(new TravelRuleMetadata.TravelRuleMetadataVersion0(
+                new TravelRuleMetadataV0(Optional.of("a\ud800"))));
+        assertEquals("02000102613F", Hex.encode(metadata.bcsSerialize()));
+        assertEquals(metadata.bcsSerialize().length, metadata.serializedSize());
+
+        RawTransaction raw = new RawTransaction(TestTransactions.SENDER, 42L,
+                Helpers.encode_peer_to_peer_with_metadata_script_function(CurrencyCode.typeTag("XUS"),
+                        AccountAddressUtils.create("44634381c63e69b2f3c1eaf5d3b2e4b2"), 1000L,
+                        new Bytes(metadata.bcsSerialize()), new Bytes(new byte[0])),
+                1000000L, 0L, "X\udc00", TestTransactions.EXPIRATION_TIMESTAMP_SECS, TestTransactions.CHAIN_ID);
+        assertEncoded(Signer.sign(TestTransactions.KEY, raw));
+    }
+
+    private static void assertEncoded(SignedTransaction txn) throws Exception {
+        byte[] expected = txn.bcsSerialize();
+        assertEquals(expected.length, txn.serializedSize());
+        assertArrayEquals(expected, TransactionEncoder.encode(txn));
+        assertArrayEquals(txn.raw_txn.bcsSerialize(), TransactionEncoder.encode(txn.raw_txn));
+
+        Transaction.UserTransaction userTransaction = new Transaction.UserTransaction(txn);
+        assertArrayEquals(userTransaction.bcsSerialize(), TransactionEncoder.encode(userTransaction));
+
+        byte[] padded = new byte[expected.length + 2];
+        assertEquals(expected.length + 1, TransactionEncoder.encode(txn, padded, 1));
+    }
+}
@@ -0,0 +1,95 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem;
+
+import com.diem.types.AccountAddress;
+import com.diem.utils.AccountAddressUtils;
+import com.diem.utils.Hex;
+import com.novi.serde.BufferPool;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+public class TravelRuleMessagesTest {
+    private static final AccountAddress SENDER = AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b");
+
+    @Test
+    public void sameAsCreateTravelRuleMetadata() {
+        TravelRuleMessages messages = new TravelRuleMessages();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, messages.add("off chain reference id " + i + " \u00e9", SENDER, 1000L * i));
+        }
+        assertEquals(100, messages.size());
+        for (int i = 0; i < 100; i++) {
+            TransactionMetadata expected = TransactionMetadata.createTravelRuleMetadata(
+                    "off chain reference id " + i + " \u00e9", SENDER, 1000L * i);
+            TransactionMetadata metadata = messages.transactionMetadata(i);
+            assertEquals(expected.getMetadata(), metadata.getMetadata());
+            assertArrayEquals(expected.getSignatureMessage(), metadata.getSignatureMessage());
+
+            ByteBuffer view = messages.signatureMessage(i);
+            assertEquals(messages.length(i), view.remaining());
+            byte[] bytes = new byte[view.remaining()];
+            view.get(bytes);
+            assertArrayEquals(expected.getSignatureMessage(), bytes);
+        }
+        assertEquals(messages.offset(99) + messages.length(99), messages.buffer().remaining());
+    }
+
+    @Test
+    public void signatureMessage() {
+        TravelRuleMessages messages = new TravelRuleMessages();
+        messages.add("off chain reference id", SENDER, 1000);
+        assertEquals(
+                "020001166f666620636861696e207265666572656e6365206964f72589b71ff4f8d139674a3f7369c69be803000000000000404024244449454d5f41545445535424244040",
+                Hex.encode(messages.transactionMetadata(0).getSignatureMessage()).toLowerCase());
+    }
+
+    @Test
+    public void clearAndReuse() {
+        BufferPool pool = new BufferPool(false, 2);
+        try (TravelRuleMessages messages = new TravelRuleMessages(pool)) {
+            for (int i = 0; i < 1000; i++) {
+                messages.add("ref " + i, SENDER, i);
+            }
+            messages.clear();
+            assertEquals(0, messages.size());
+            assertEquals(0, messages.buffer().remaining());
+            assertThrows(IndexOutOfBoundsException.class, () -> messages.signatureMessage(0));
+
+            assertEquals(0, messages.add("ref", SENDER, 1));
+            assertEquals(0, messages.offset(0));
+            assertArrayEquals(TransactionMetadata.createTravelRuleMetadata("ref", SENDER, 1).getSignatureMessage(),
+                    messages.transactionMetadata(0).getSignatureMessage());
+        }
+    }
+
+    @Test
+    public void closeReleasesBuffersToPool() {
+        BufferPool pool = new BufferPool(false, 2);
+        byte[] initial;
+        byte[] grown;
+        try (TravelRuleMessages messages = new TravelRuleMessages(pool)) {
+            messages.add("ref", SENDER, 1);
+            initial = messages.buffer().array();
+            assertEquals(1024, initial.length);
+            for (int i = 0; i < 100; i++) {
+                messages.add("ref " + i, SENDER, i);
+            }
+            grown = messages.buffer().array();
+            assertNotSame(initial, grown);
+        }
+        assertSame(initial, pool.allocate(1024).array());
+        assertSame(grown, pool.allocate(grown.length).array());
+
+        // a settlement window without growth hands its only buffer back
+        try (TravelRuleMessages messages = new TravelRuleMessages(pool)) {
+            messages.add("ref", SENDER, 1);
+            initial = messages.buffer().array();
+        }
+        assertSame(initial, pool.allocate(1024).array());
+    }
+}
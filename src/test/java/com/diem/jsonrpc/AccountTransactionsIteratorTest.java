@@ -0,0 +1,95 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.DiemClient;
+import com.diem.types.AccountAddress;
+import com.diem.utils.AccountAddressUtils;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class AccountTransactionsIteratorTest {
+
+    private static final AccountAddress ADDRESS = AccountAddressUtils.create("f72589b71ff4f8d139674a3f7369c69b");
+
+    private static DiemClient fakeClient(long sequenceNumber, int maxPageSize) {
+        return fakeClient(sequenceNumber, sequenceNumber, maxPageSize);
+    }
+
+    /**
+     * Fake client of an account with the given sequence number and `history` transactions, returning at most
+     * maxPageSize transactions per call; transaction version is the account sequence number.
+     */
+    private static DiemClient fakeClient(long sequenceNumber, long history, int maxPageSize) {
+        return (DiemClient) Proxy.newProxyInstance(DiemClient.class.getClassLoader(), new Class<?>[]{DiemClient.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getAccount":
+                            return JsonRpc.Account.newBuilder().setSequenceNumber(sequenceNumber).build();
+                        case "getAccountTransactions":
+                            long start = (long) args[1];
+                            int limit = Math.min((int) args[2], maxPageSize);
+                            List<JsonRpc.Transaction> ret = new ArrayList<>();
+                            for (long i = start; i < Math.min(start + limit, history); i++) {
+                                ret.add(JsonRpc.Transaction.newBuilder().setVersion(i).build());
+                            }
+                            return ret;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void testIterateAllTransactionsInOrder() throws Exception {
+        try (AccountTransactionsIterator it = new AccountTransactionsIterator(
+                fakeClient(25, 1000), ADDRESS, 0, false, 10, 2, null)) {
+            List<Long> versions = it.stream().map(JsonRpc.Transaction::getVersion).collect(Collectors.toList());
+            assertEquals(25, versions.size());
+            for (int i = 0; i < versions.size(); i++) {
+                assertEquals(i, versions.get(i).longValue());
+            }
+            assertFalse(it.hasNext());
+        }
+    }
+
+    @Test
+    public void testIterateFromStartWithPartialPages() throws Exception {
+        try (AccountTransactionsIterator it = new AccountTransactionsIterator(
+                fakeClient(50, 7), ADDRESS, 5, false, 10, 3, null)) {
+            long expected = 5;
+            while (it.hasNext()) {
+                assertEquals(expected++, it.next().getVersion());
+            }
+            assertEquals(50, expected);
+        }
+    }
+
+    @Test
+    public void testCountHistoryShorterThanSequenceNumber() throws Exception {
+        try (AccountTransactionsIterator it = new AccountTransactionsIterator(
+                fakeClient(25, 20, 1000), ADDRESS, 0, false, 10, 2, null)) {
+            assertEquals(25, it.getEnd());
+            assertEquals(20, it.stream().count());
+        }
+        try (AccountTransactionsIterator it = new AccountTransactionsIterator(
+                fakeClient(25, 20, 1000), ADDRESS, 0, false, 10, 2, null)) {
+            assertEquals(20, it.stream().toArray().length);
+        }
+    }
+
+    @Test
+    public void testEmptyHistory() throws Exception {
+        try (AccountTransactionsIterator it = new AccountTransactionsIterator(fakeClient(0, 10), ADDRESS, 0, true)) {
+            assertFalse(it.hasNext());
+        }
+    }
+}
@@ -0,0 +1,112 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.Constants;
+import com.diem.Signer;
+import com.diem.TestTransactions;
+import com.diem.types.ContractEvent;
+import com.diem.types.ContractEventV0;
+import com.diem.types.Identifier;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.StructTag;
+import com.diem.types.Transaction;
+import com.diem.types.TypeTag;
+import com.diem.utils.Hex;
+import com.diem.utils.TransactionUtils;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class LazyTransactionTest {
+
+    private static final String JSON = "{\"version\":18446744073709551615,\"hash\":\"a1b2\",\"bytes\":\"00\"," +
+            "\"gas_used\":7,\"vm_status\":{\"type\":\"executed\"}," +
+            "\"transaction\":{\"type\":\"user\",\"sender\":\"f72589b71ff4f8d139674a3f7369c69b\",\"sequence_number\":3}," +
+            "\"events\":[{\"key\":\"0100000000000000f72589b71ff4f8d139674a3f7369c69b\",\"sequence_number\":1},{\"key\":\"k2\",\"sequence_number\":2}]," +
+            "\"unknown_field\":true}";
+
+    @Test
+    public void testReadFieldsWithoutDecoding() throws Exception {
+        LazyTransaction txn = new LazyTransaction(json());
+        assertEquals(-1L, txn.getVersion());
+        assertEquals("a1b2", txn.getHash());
+        assertEquals("00", txn.getBytes());
+        assertEquals(7, txn.getGasUsed());
+        assertEquals("executed", txn.getVmStatusType());
+        assertEquals("user", txn.getTransactionType());
+        assertEquals(2, txn.getEventsCount());
+    }
+
+    @Test
+    public void testDecodeNestedObjectsOnAccess() throws Exception {
+        LazyTransaction txn = new LazyTransaction(json());
+        assertEquals("k2", txn.getEvents(1).getKey());
+        assertSame(txn.getEvents(1), txn.getEvents(1));
+        assertEquals(2, txn.getEventsList().size());
+        assertEquals("f72589b71ff4f8d139674a3f7369c69b", txn.getTransaction().getSender());
+        assertEquals(3, txn.getTransaction().getSequenceNumber());
+        assertEquals("executed", txn.getVmStatus().getType());
+
+        JsonRpc.Transaction full = txn.toTransaction();
+        assertEquals(-1L, full.getVersion());
+        assertEquals(txn.getEvents(0), full.getEvents(0));
+        assertEquals(txn.getTransaction(), full.getTransaction());
+    }
+
+    @Test
+    public void testProjection() throws Exception {
+        JsonRpc.Transaction txn = new LazyTransaction(json()).toTransaction(
+                Arrays.asList(LazyTransaction.VERSION, LazyTransaction.VM_STATUS));
+        assertEquals(-1L, txn.getVersion());
+        assertEquals("executed", txn.getVmStatus().getType());
+        assertEquals("", txn.getHash());
+        assertEquals(0, txn.getEventsCount());
+    }
+
+    @Test
+    public void testDecodeBcsBytes() throws Exception {
+        RawTransaction raw = TestTransactions.rawTransaction(3L, 1000000L, new byte[]{1, 2, 3});
+        SignedTransaction signed = Signer.sign(TestTransactions.KEY, raw);
+        String eventData = "40420f00000000000358555344634381fab71b7d6fa411108eda3e9d00";
+        JsonObject json = json();
+        json.addProperty(LazyTransaction.BYTES, Hex.encode(new Transaction.UserTransaction(signed).bcsSerialize()));
+        JsonObject data = new JsonObject();
+        data.addProperty("type", Constants.EVENT_DATA_UNKNOWN);
+        data.addProperty("bytes", eventData);
+        json.getAsJsonArray(LazyTransaction.EVENTS).get(0).getAsJsonObject().add("data", data);
+
+        LazyTransaction txn = new LazyTransaction(json);
+        assertEquals(signed, txn.getBcsSignedTransaction());
+        assertEquals(raw, txn.getBcsRawTransaction());
+        assertEquals(raw.payload, txn.getBcsPayload());
+        assertSame(txn.toBcsTransaction(), txn.toBcsTransaction());
+        assertEquals(signed, TransactionUtils.decodeSignedTransaction(txn.toTransaction()));
+
+        TypeTag typeTag = new TypeTag.Struct(new StructTag(Constants.CORE_CODE_ADDRESS,
+                new Identifier("DiemAccount"), new Identifier("ReceivedPaymentEvent"), new ArrayList<>()));
+        ContractEventV0 event = ((ContractEvent.V0) txn.getContractEvent(0, typeTag)).value;
+        assertEquals(1, event.sequence_number);
+        assertEquals(typeTag, event.type_tag);
+        assertArrayEquals(Hex.decode(eventData), event.event_data.content());
+        assertEquals(txn.getContractEvent(0, typeTag), TransactionUtils.decodeEvent(txn.getEvents(0), typeTag));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testEventIndexOutOfBounds() throws Exception {
+        new LazyTransaction(json()).getEvents(2);
+    }
+
+    private static JsonObject json() {
+        return JsonParser.parseString(JSON).getAsJsonObject();
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.jsonrpc;
+
+import com.diem.Signer;
+import com.diem.TestTransactions;
+import com.diem.types.RawTransaction;
+import com.diem.types.SignedTransaction;
+import com.diem.types.Transaction;
+import com.diem.utils.HashUtils;
+import com.diem.utils.Hex;
+import com.google.gson.JsonObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class TransactionHashVerifierTest {
+
+    @Test
+    public void testVerifyAll() throws Exception {
+        List<JsonRpc.Transaction> txns = transactions(100);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TransactionHashVerifier verifier = new TransactionHashVerifier(pool, 8);
+            assertTrue(verifier.verify(txns).isEmpty());
+            assertTrue(verifier.verifyAsync(txns).get().isEmpty());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testReportMismatchesInOrder() throws Exception {
+        List<JsonRpc.Transaction> txns = transactions(100);
+        String computed = txns.get(70).getHash();
+        txns.set(70, txns.get(70).toBuilder().setHash(txns.get(71).getHash()).build());
+        txns.set(3, txns.get(3).toBuilder().setBytes("").build());
+        txns.set(42, txns.get(42).toBuilder().setBytes("0x00").build());
+
+        List<TransactionHashVerifier.Mismatch> mismatches;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            mismatches = new TransactionHashVerifier(pool, 8).verify(txns);
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(3, mismatches.size());
+        assertEquals(new TransactionHashVerifier.Mismatch(3, 3, TransactionHashVerifier.Reason.MISSING_BYTES,
+                txns.get(3).getHash(), null), mismatches.get(0));
+        assertEquals(TransactionHashVerifier.Reason.INVALID_HEX, mismatches.get(1).reason);
+        assertEquals(42, mismatches.get(1).index);
+        assertEquals(new TransactionHashVerifier.Mismatch(70, 70, TransactionHashVerifier.Reason.HASH_MISMATCH,
+                txns.get(71).getHash(), computed), mismatches.get(2));
+    }
+
+    @Test
+    public void testVerifyLazy() throws Exception {
+        List<LazyTransaction> txns = new ArrayList<>();
+        for (JsonRpc.Transaction txn : transactions(10)) {
+            JsonObject json = new JsonObject();
+            json.addProperty(LazyTransaction.VERSION, txn.getVersion());
+            json.addProperty(LazyTransaction.HASH, txn.getHash().toUpperCase());
+            json.addProperty(LazyTransaction.BYTES, txn.getBytes());
+            txns.add(new LazyTransaction(json));
+        }
+        assertTrue(new TransactionHashVerifier().verifyLazyAsync(txns).get().isEmpty());
+    }
+
+    @Test
+    public void testCheck() throws Exception {
+        JsonRpc.Transaction txn = transactions(1).get(0);
+        assertNull(TransactionHashVerifier.check(0, 0, txn.getHash(), txn.getBytes()));
+        assertEquals(TransactionHashVerifier.Reason.INVALID_HEX,
+                TransactionHashVerifier.check(0, 0, "zz", txn.getBytes()).reason);
+    }
+
+    private static List<JsonRpc.Transaction> transactions(int count) throws Exception {
+        List<JsonRpc.Transaction> ret = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RawTransaction raw = TestTransactions.rawTransaction(i, 1000000L + i, new byte[0]);
+            SignedTransaction signed = Signer.sign(TestTransactions.KEY, raw);
+            ret.add(JsonRpc.Transaction.newBuilder()
+                    .setVersion(i)
+                    .setHash(HashUtils.transactionHash(signed).toLowerCase())
+                    .setBytes(Hex.encode(new Transaction.UserTransaction(signed).bcsSerialize()).toLowerCase())
+                    .build());
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) The Diem Core Contributors
+// SPDX-License-Identifier: Apache-2.0
+
+package com.diem.types;
+
+import org.junit.Test;
+
+import java.lang.reflect.Modifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Guards the hand-maintained changes over the generator output, which TransactionEncoder, SignedTransactionView
+ * and the serializedSize methods depend on; a regenerated file merged without them fails here.
+ */
+public class HandMaintainedTypesTest {
+
+    @Test
+    public void fixedWidthNumericFieldsArePrimitives() throws Exception {
+        assertFieldType(long.class, RawTransaction.class, "sequence_number");
+        assertFieldType(long.class, RawTransaction.class, "max_gas_amount");
+        assertFieldType(long.class, RawTransaction.class, "gas_unit_price");
+        assertFieldType(long.class, RawTransaction.class, "expiration_timestamp_secs");
+        assertFieldType(byte.class, ChainId.class, "value");
+        assertFieldType(long.class, ContractEventV0.class, "sequence_number");
+        assertFieldType(long.class, BlockMetadata.class, "round");
+        assertFieldType(long.class, BlockMetadata.class, "timestamp_usecs");
+        assertFieldType(long.class, RefundMetadataV0.class, "transaction_version");
+        assertFieldType(byte.class, TransactionArgument.U8.class, "value");
+        assertFieldType(long.class, TransactionArgument.U64.class, "value");
+        assertFieldType(boolean.class, TransactionArgument.Bool.class, "value");
+        assertFieldType(com.novi.serde.U128.class, TransactionArgument.U128.class, "value");
+    }
+
+    @Test
+    public void accountAddressIsStoredAsTwoLongs() throws Exception {
+        assertEquals(long.class, AccountAddress.class.getDeclaredField("high").getType());
+        assertEquals(long.class, AccountAddress.class.getDeclaredField("low").getType());
+        AccountAddress address = AccountAddress.valueOf(0x0102030405060708L, 0x090a0b0c0d0e0f10L);
+        assertEquals(16, address.value.size());
+        assertEquals(Byte.valueOf((byte) 0x10), address.value.get(15));
+    }
+
+    @Test
+    public void typesComputeSerializedSize() throws Exception {
+        Class<?>[] types = {AccessPath.class, AccountAddress.class, BlockMetadata.class, ChainId.class,
+                ChangeSet.class, ContractEvent.class, ContractEventV0.class, EventKey.class, GeneralMetadata.class,
+                GeneralMetadataV0.class, Metadata.class, ModuleId.class, RawTransaction.class, RefundMetadata.class,
+                RefundMetadataV0.class, Script.class, ScriptFunction.class, SignedTransaction.class, StructTag.class,
+                Transaction.class, TransactionArgument.class, TransactionAuthenticator.class,
+                TransactionPayload.class, TravelRuleMetadata.class, TypeTag.class, WriteOp.class, WriteSet.class};
+        for (Class<?> type : types) {
+            assertEquals(type.getName(), int.class, type.getMethod("serializedSize").getReturnType());
+        }
+    }
+
+    private static void assertFieldType(Class<?> expected, Class<?> type, String name) throws Exception {
+        assertEquals(type.getSimpleName() + "." + name, expected, type.getField(name).getType());
+        assertFalse(Modifier.isStatic(type.getField(name).getModifiers()));
+    }
+}